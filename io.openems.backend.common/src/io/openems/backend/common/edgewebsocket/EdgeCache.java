@@ -1,11 +1,12 @@
 package io.openems.backend.common.edgewebsocket;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
-import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
@@ -22,20 +23,28 @@ public class EdgeCache {
 
 	}
 
+	/**
+	 * Holds the latest Channel values of one Edge.
+	 *
+	 * <p>
+	 * Reads are lock-free: readers only dereference the volatile {@link #data}
+	 * map, which is never cleared in place. Writers of the same Edge are
+	 * serialized among each other; invalidating the cache publishes a new, already
+	 * filled map instead of clearing the existing one, so a reader never sees a
+	 * half-invalidated state.
+	 */
 	private static class ChannelDataCache {
 		private long timestamp = 0L;
-		private final HashMap<String, JsonElement> data = new HashMap<>();
+		private volatile ConcurrentHashMap<String, JsonElement> data = new ConcurrentHashMap<>();
 
 		/**
 		 * Gets the channel value from cache.
 		 *
 		 * @param address the Channel-Address of the channel
-		 * @return the value; {@link JsonNull} if it is not in cache
+		 * @return the value; null if it is not in cache
 		 */
 		public final JsonElement getChannelValue(String address) {
-			synchronized (this) {
-				return this.data.get(address);
-			}
+			return this.data.get(address);
 		}
 
 		/**
@@ -43,7 +52,7 @@ public class EdgeCache {
 		 *
 		 * @param incomingDatas the incoming data
 		 */
-		public void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
+		public synchronized void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
 			for (var entry : incomingDatas.entrySet()) {
 				var incomingTimestamp = entry.getKey();
 				var incomingData = entry.getValue();
@@ -56,17 +65,16 @@ public class EdgeCache {
 					// Incoming data is more recent than cache
 
 					if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
-						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
-						synchronized (this) {
-							this.data.clear();
-						}
+						// Cache is not anymore valid (elder than 15 minutes) -> replace Cache
+						var data = new ConcurrentHashMap<String, JsonElement>(incomingData);
+						this.timestamp = incomingTimestamp;
+						this.data = data;
+						continue;
 					}
 
 					// update cache
 					this.timestamp = incomingTimestamp;
-					synchronized (this) {
-						this.data.putAll(incomingData);
-					}
+					this.data.putAll(incomingData);
 				}
 			}
 		}
@@ -99,8 +107,9 @@ public class EdgeCache {
 	 *         aggregated data
 	 */
 	public final Pair<Map<String, JsonElement>, Set<String>> getChannelValues(Set<String> addresses) {
-		final var result = new TreeMap<String, JsonElement>();
-		final var aggregatedChannelValues = new TreeSet<String>();
+		// Keeps the iteration order of the (usually sorted) addresses
+		final var result = new LinkedHashMap<String, JsonElement>(addresses.size() * 4 / 3 + 1);
+		Set<String> aggregatedChannelValues = Collections.emptySet();
 		for (var address : addresses) {
 			final var value = this.current.getChannelValue(address);
 			if (value != null) {
@@ -110,6 +119,9 @@ public class EdgeCache {
 			final var aggregatedValue = this.aggregated.getChannelValue(address);
 			if (aggregatedValue != null) {
 				result.put(address, aggregatedValue);
+				if (aggregatedChannelValues.isEmpty()) {
+					aggregatedChannelValues = new TreeSet<>();
+				}
 				aggregatedChannelValues.add(address);
 				continue;
 			}
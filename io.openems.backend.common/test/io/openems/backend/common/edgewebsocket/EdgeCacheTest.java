@@ -1,10 +1,18 @@
 package io.openems.backend.common.edgewebsocket;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -14,6 +22,7 @@ import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.ChannelAddress;
 
@@ -51,6 +60,60 @@ public class EdgeCacheTest {
 		assertEquals("value3", cache.getChannelValue(CHANNEL3).getAsString());
 	}
 
+	@Test
+	public void testGetChannelValues() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		cache.updateCurrentData(buildData(0L, CHANNEL1, "value1"));
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(0L, CHANNEL2, new JsonPrimitive("value2"));
+		cache.updateAggregatedData(new AggregatedDataNotification(table));
+
+		var result = cache.getChannelValues(new TreeSet<>(Set.of(CHANNEL3, CHANNEL2, CHANNEL1)));
+		assertEquals(List.of(CHANNEL1, CHANNEL2, CHANNEL3), List.copyOf(result.a().keySet()));
+		assertEquals("value1", result.a().get(CHANNEL1).getAsString());
+		assertEquals("value2", result.a().get(CHANNEL2).getAsString());
+		assertEquals(JsonNull.INSTANCE, result.a().get(CHANNEL3));
+		assertEquals(Set.of(CHANNEL2), result.b());
+	}
+
+	@Test
+	public void testConcurrentReaders() throws Exception {
+		final var cache = new EdgeCache();
+		final var channels = new TreeSet<String>();
+		for (var i = 0; i < 100; i++) {
+			channels.add(new ChannelAddress("foo", "bar" + i).toString());
+		}
+		final var executor = Executors.newFixedThreadPool(4);
+		try {
+			var writer = executor.submit(() -> {
+				for (var timestamp = 0L; timestamp < 1000; timestamp++) {
+					var table = TreeBasedTable.<Long, String, JsonElement>create();
+					for (var channel : channels) {
+						table.put(timestamp, channel, new JsonPrimitive(timestamp));
+					}
+					cache.updateCurrentData(new TimestampedDataNotification(table));
+				}
+			});
+			var readers = new ArrayList<Future<?>>();
+			for (var i = 0; i < 3; i++) {
+				readers.add(executor.submit(() -> {
+					while (!writer.isDone()) {
+						var result = cache.getChannelValues(channels);
+						assertEquals(channels.size(), result.a().size());
+						assertTrue(result.b().isEmpty());
+					}
+				}));
+			}
+			writer.get(10, TimeUnit.SECONDS);
+			for (var reader : readers) {
+				reader.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(999L, cache.getChannelValue(channels.first()).getAsLong());
+	}
+
 	private static TimestampedDataNotification buildData(long timestamp, String channel, String value)
 			throws OpenemsNamedException {
 		var data = new TreeMap<Long, Map<String, JsonElement>>();
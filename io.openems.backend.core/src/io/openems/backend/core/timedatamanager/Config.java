@@ -13,4 +13,13 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Timedata-IDs", description = "IDs of Timedata Services. Execution is going to be sorted in the order of the IDs.")
 	String[] timedata_ids() default {};
 
+	@AttributeDefinition(name = "Historic-Cache Size", description = "Maximum number of cached historic query results; 0 to disable")
+	int historicCacheSize() default 1000;
+
+	@AttributeDefinition(name = "Historic-Cache TTL for past ranges [s]", description = "How long results for ranges that ended more than one resolution period ago are cached")
+	int historicCacheTtlPast() default 3600;
+
+	@AttributeDefinition(name = "Historic-Cache TTL for current ranges [s]", description = "How long results for more recent ranges are cached")
+	int historicCacheTtlCurrent() default 60;
+
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Size-bounded cache for results of historic queries.
+ *
+ * <p>
+ * Results for ranges that ended at least one resolution period (or
+ * {@link #MIN_GRACE_PERIOD}) before 'now' are kept for 'ttlPast'; results for
+ * more recent ranges - i.e. that might still be written or aggregated - only
+ * for 'ttlCurrent'. All results of an Edge are invalidated when the Edge
+ * resends historic data.
+ *
+ * <p>
+ * Results are mutable; callers always receive their own copy.
+ */
+public class HistoricDataCache {
+
+	/**
+	 * Minimum time after the end of a range until its data is considered final.
+	 */
+	protected static final Duration MIN_GRACE_PERIOD = Duration.ofMinutes(5);
+
+	protected static enum Query {
+		DATA, ENERGY, ENERGY_PER_PERIOD;
+	}
+
+	private static record Key(Query query, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Long resolutionValue, ChronoUnit resolutionUnit) {
+	}
+
+	private static record Entry(Object value, Instant expiresAt) {
+	}
+
+	private final Clock clock;
+	private final int maxSize;
+	private final Duration ttlPast;
+	private final Duration ttlCurrent;
+	private final LinkedHashMap<Key, Entry> entries;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public HistoricDataCache(Clock clock, int maxSize, Duration ttlPast, Duration ttlCurrent) {
+		this.clock = clock;
+		this.maxSize = maxSize;
+		this.ttlPast = ttlPast;
+		this.ttlCurrent = ttlCurrent;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return this.size() > HistoricDataCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Gets the cached result of a query or executes the query and caches its
+	 * result.
+	 *
+	 * @param <T>        the type of the result
+	 * @param query      the {@link Query} type
+	 * @param edgeId     the Edge-ID
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the {@link ChannelAddress}es
+	 * @param resolution the {@link Resolution}; null if not applicable
+	 * @param supplier   executes the query; a null result is not cached
+	 * @param copy       creates a deep copy of a result
+	 * @return the result
+	 * @throws OpenemsNamedException on error
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(Query query, String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution, ThrowingSupplier<T, OpenemsNamedException> supplier,
+			UnaryOperator<T> copy) throws OpenemsNamedException {
+		if (this.maxSize <= 0) {
+			return supplier.get();
+		}
+		var key = new Key(query, edgeId, fromDate, toDate, Set.copyOf(channels), //
+				resolution == null ? null : resolution.getValue(), //
+				resolution == null ? null : resolution.getUnit());
+		var now = Instant.now(this.clock);
+		synchronized (this.entries) {
+			var entry = this.entries.get(key);
+			if (entry != null) {
+				if (entry.expiresAt.isAfter(now)) {
+					this.hits.incrementAndGet();
+					return copy.apply((T) entry.value);
+				}
+				this.entries.remove(key);
+			}
+		}
+
+		this.misses.incrementAndGet();
+		var result = supplier.get();
+		if (result != null) {
+			var ttl = getFinalDate(toDate, resolution).isBefore(now) ? this.ttlPast : this.ttlCurrent;
+			var value = copy.apply(result);
+			synchronized (this.entries) {
+				this.entries.put(key, new Entry(value, now.plus(ttl)));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the time after which the data of a range is considered final, i.e. the
+	 * end of the range plus one resolution period, but at least
+	 * {@link #MIN_GRACE_PERIOD}.
+	 *
+	 * @param toDate     the To-Date
+	 * @param resolution the {@link Resolution}; null if not applicable
+	 * @return the {@link Instant}
+	 */
+	protected static Instant getFinalDate(ZonedDateTime toDate, Resolution resolution) {
+		var result = toDate.toInstant().plus(MIN_GRACE_PERIOD);
+		if (resolution != null) {
+			var end = toDate.plus(resolution.getValue(), resolution.getUnit()).toInstant();
+			if (end.isAfter(result)) {
+				result = end;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a deep copy of a map of values.
+	 *
+	 * @param <K>    the type of the keys
+	 * @param values the values
+	 * @return the copy
+	 */
+	public static <K> SortedMap<K, JsonElement> copyOfValues(SortedMap<K, JsonElement> values) {
+		var result = new TreeMap<K, JsonElement>(values.comparator());
+		values.forEach((key, value) -> result.put(key, value == null ? null : value.deepCopy()));
+		return result;
+	}
+
+	/**
+	 * Creates a deep copy of a table of values.
+	 *
+	 * @param <K>   the type of the row keys
+	 * @param <C>   the type of the column keys
+	 * @param table the table
+	 * @return the copy
+	 */
+	public static <K, C> SortedMap<K, SortedMap<C, JsonElement>> copyOfTable(
+			SortedMap<K, SortedMap<C, JsonElement>> table) {
+		var result = new TreeMap<K, SortedMap<C, JsonElement>>(table.comparator());
+		table.forEach((key, values) -> result.put(key, values == null ? null : copyOfValues(values)));
+		return result;
+	}
+
+	/**
+	 * Invalidates all cached results of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 */
+	public void invalidate(String edgeId) {
+		synchronized (this.entries) {
+			this.entries.keySet().removeIf(key -> key.edgeId.equals(edgeId));
+		}
+	}
+
+	/**
+	 * Gets the number of cached results.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+}
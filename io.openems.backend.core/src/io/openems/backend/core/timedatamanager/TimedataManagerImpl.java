@@ -1,10 +1,13 @@
 package io.openems.backend.core.timedatamanager;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.atomic.AtomicReference;
@@ -23,11 +26,14 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.timedata.InternalTimedataException;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.common.timedata.TimedataManager;
+import io.openems.backend.core.timedatamanager.HistoricDataCache.Query;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingFunction;
@@ -44,10 +50,13 @@ import io.openems.common.types.ChannelAddress;
 		name = "Core.TimedataManager", //
 		immediate = true //
 )
-public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager {
+public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager, DebugLoggable {
 
 	private final Logger log = LoggerFactory.getLogger(TimedataManagerImpl.class);
 
+	private volatile HistoricDataCache historicDataCache = new HistoricDataCache(Clock.systemDefaultZone(), 0,
+			Duration.ZERO, Duration.ZERO);
+
 	private List<String> _configTimedataIds;
 	private final List<Timedata> _rawTimedatas = new ArrayList<>();
 	private final AtomicReference<ImmutableSortedSet<Timedata>> timedatas = new AtomicReference<>(
@@ -116,6 +125,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public void activate(Config config) {
 		this._configTimedataIds = Arrays.asList(config.timedata_ids());
 		this.updateSortedTimedatas();
+		this.historicDataCache = new HistoricDataCache(Clock.systemDefaultZone(), config.historicCacheSize(), //
+				Duration.ofSeconds(config.historicCacheTtlPast()), //
+				Duration.ofSeconds(config.historicCacheTtlCurrent()));
 	}
 
 	/**
@@ -129,7 +141,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricData(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.historicDataCache.get(Query.DATA, edgeId, fromDate, toDate, channels, resolution,
+				() -> this.firstOf(t -> t.queryHistoricData(edgeId, fromDate, toDate, channels, resolution)),
+				HistoricDataCache::copyOfTable);
 		if (value != null) {
 			return value;
 		}
@@ -149,7 +163,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels));
+		final var value = this.historicDataCache.get(Query.ENERGY, edgeId, fromDate, toDate, channels, null,
+				() -> this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels)),
+				HistoricDataCache::copyOfValues);
 		if (value != null) {
 			return value;
 		}
@@ -170,8 +186,10 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this
-				.firstOf(t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.historicDataCache.get(Query.ENERGY_PER_PERIOD, edgeId, fromDate, toDate, channels,
+				resolution, () -> this.firstOf(//
+						t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution)),
+				HistoricDataCache::copyOfTable);
 		if (value != null) {
 			return value;
 		}
@@ -231,6 +249,8 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public void write(String edgeId, ResendDataNotification data) {
 		this.write(edgeId, data, Timedata::write);
+		// Resent data changes historic results of the past
+		this.historicDataCache.invalidate(edgeId);
 	}
 
 	private <T extends AbstractDataNotification> void write(//
@@ -247,4 +267,18 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		}
 	}
 
+	@Override
+	public String debugLog() {
+		return null;
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		final var historicDataCache = this.historicDataCache;
+		return Map.of(//
+				this.getName() + "/HistoricCacheHits", new JsonPrimitive(historicDataCache.getHits()), //
+				this.getName() + "/HistoricCacheMisses", new JsonPrimitive(historicDataCache.getMisses()), //
+				this.getName() + "/HistoricCacheSize", new JsonPrimitive(historicDataCache.size()));
+	}
+
 }
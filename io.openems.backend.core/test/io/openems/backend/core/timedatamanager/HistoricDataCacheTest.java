@@ -0,0 +1,112 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.core.timedatamanager.HistoricDataCache.Query;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.test.TimeLeapClock;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+public class HistoricDataCacheTest {
+
+	private static final Set<ChannelAddress> CHANNELS = Set.of(new ChannelAddress("_sum", "EssSoc"));
+	private static final Resolution RESOLUTION = new Resolution(15, ChronoUnit.MINUTES);
+
+	private static SortedMap<ChannelAddress, JsonElement> result(int value) {
+		var result = new TreeMap<ChannelAddress, JsonElement>();
+		result.put(new ChannelAddress("_sum", "EssSoc"), new JsonPrimitive(value));
+		return result;
+	}
+
+	private static int value(SortedMap<ChannelAddress, JsonElement> result) {
+		return result.get(new ChannelAddress("_sum", "EssSoc")).getAsInt();
+	}
+
+	@Test
+	public void test() throws OpenemsNamedException {
+		var clock = new TimeLeapClock(Instant.parse("2020-01-02T00:00:00.00Z"), ZoneOffset.UTC);
+		var sut = new HistoricDataCache(clock, 2, Duration.ofHours(1), Duration.ofMinutes(1));
+		var queries = new AtomicInteger();
+		var from = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		var to = ZonedDateTime.of(2020, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+
+		// Range ended just now -> not yet final -> 'ttlCurrent'
+		var result = sut.get(Query.DATA, "edge0", from, to, CHANNELS, RESOLUTION, //
+				() -> result(queries.incrementAndGet()), HistoricDataCache::copyOfValues);
+		assertEquals(1, value(result));
+		assertEquals(1, value(sut.get(Query.DATA, "edge0", from, to, CHANNELS, RESOLUTION, //
+				() -> result(queries.incrementAndGet()), HistoricDataCache::copyOfValues)));
+		assertEquals(1, sut.getHits());
+		assertEquals(1, sut.getMisses());
+
+		clock.leap(2, ChronoUnit.MINUTES);
+		assertEquals(2, value(sut.get(Query.DATA, "edge0", from, to, CHANNELS, RESOLUTION, //
+				() -> result(queries.incrementAndGet()), HistoricDataCache::copyOfValues)));
+
+		// One resolution period later -> final -> 'ttlPast'
+		clock.leap(15, ChronoUnit.MINUTES);
+		assertEquals(3, value(sut.get(Query.DATA, "edge0", from, to, CHANNELS, RESOLUTION, //
+				() -> result(queries.incrementAndGet()), HistoricDataCache::copyOfValues)));
+		clock.leap(30, ChronoUnit.MINUTES);
+		var cached = sut.get(Query.DATA, "edge0", from, to, CHANNELS, RESOLUTION, //
+				() -> result(queries.incrementAndGet()), HistoricDataCache::copyOfValues);
+		assertEquals(3, value(cached));
+
+		// Callers get their own copy
+		cached.clear();
+		var again = sut.get(Query.DATA, "edge0", from, to, CHANNELS, RESOLUTION, //
+				() -> result(queries.incrementAndGet()), HistoricDataCache::copyOfValues);
+		assertEquals(3, value(again));
+		assertNotSame(cached, again);
+
+		// Invalidation
+		sut.invalidate("edge0");
+		assertEquals(0, sut.size());
+
+		// Null results are not cached
+		SortedMap<ChannelAddress, JsonElement> nullResult = sut.get(Query.ENERGY, "edge0", from, to, CHANNELS, null,
+				() -> null, HistoricDataCache::copyOfValues);
+		assertNull(nullResult);
+		assertEquals(0, sut.size());
+	}
+
+	@Test
+	public void testGetFinalDate() {
+		var to = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		assertEquals(Instant.parse("2020-01-01T00:05:00Z"), HistoricDataCache.getFinalDate(to, null));
+		assertEquals(Instant.parse("2020-01-01T00:05:00Z"),
+				HistoricDataCache.getFinalDate(to, new Resolution(1, ChronoUnit.MINUTES)));
+		assertEquals(Instant.parse("2020-02-01T00:00:00Z"),
+				HistoricDataCache.getFinalDate(to, new Resolution(1, ChronoUnit.MONTHS)));
+	}
+
+	@Test
+	public void testCopyOfTable() {
+		var table = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		var date = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		table.put(date, result(1));
+		var copy = HistoricDataCache.copyOfTable(table);
+		assertEquals(table, copy);
+		table.get(date).clear();
+		assertEquals(1, value(copy.get(date)));
+	}
+
+}
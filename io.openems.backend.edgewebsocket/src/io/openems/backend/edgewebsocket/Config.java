@@ -16,6 +16,12 @@ import io.openems.common.websocket.AbstractWebsocketServer.DebugMode;
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Binary Data", description = "Accept data notifications in a compact binary format from Edges that support it.")
+	boolean binaryData() default true;
+
+	@AttributeDefinition(name = "Binary Data Compression", description = "Ask Edges to compress binary data notifications.")
+	boolean binaryDataCompression() default true;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	DebugMode debugMode() default DebugMode.OFF;
 
@@ -84,7 +84,7 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	protected volatile UiWebsocket uiWebsocket;
 
 	private WebsocketServer server = null;
-	private Config config;
+	protected Config config;
 
 	public EdgeWebsocketImpl() {
 		super("Edge.Websocket");
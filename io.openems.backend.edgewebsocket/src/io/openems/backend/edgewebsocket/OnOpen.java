@@ -6,7 +6,9 @@ import org.java_websocket.framing.CloseFrame;
 import com.google.gson.JsonObject;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.EnableBinaryDataNotification;
 import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryDataEncoding;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -49,6 +51,17 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 			edge.setLastmessage();
 			wsData.setEdgeId(edgeId);
 
+			// enable binary data if supported by Edge
+			var config = this.parent.config;
+			if (config != null && config.binaryData() //
+					&& JsonUtils.getAsOptionalString(handshake, BinaryDataEncoding.HANDSHAKE_HEADER.toLowerCase())
+							.map(v -> v.equals(String.valueOf(BinaryDataEncoding.VERSION))) //
+							.orElse(false)) {
+				wsData.setBinaryDataDecoder(new BinaryDataEncoding.Decoder());
+				ws.send(new EnableBinaryDataNotification(BinaryDataEncoding.VERSION, config.binaryDataCompression())
+						.toString());
+			}
+
 			// TODO send notification to UI
 		} catch (OpenemsException e) {
 			if (this.parent.metadata.isInitialized()) {
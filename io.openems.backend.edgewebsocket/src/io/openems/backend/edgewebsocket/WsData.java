@@ -11,6 +11,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.utils.StringUtils;
+import io.openems.common.websocket.BinaryDataEncoding;
 
 public class WsData extends io.openems.common.websocket.WsData {
 
@@ -23,6 +24,12 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
 
+	/**
+	 * Decoder for binary data notifications; null if binary data was not enabled
+	 * on this connection.
+	 */
+	private volatile BinaryDataEncoding.Decoder binaryDataDecoder = null;
+
 	/**
 	 * Asserts that the Edge-ID is available (i.e. properly authenticated).
 	 *
@@ -69,6 +76,14 @@ public class WsData extends io.openems.common.websocket.WsData {
 		return this.edgeId;
 	}
 
+	public void setBinaryDataDecoder(BinaryDataEncoding.Decoder binaryDataDecoder) {
+		this.binaryDataDecoder = binaryDataDecoder;
+	}
+
+	public BinaryDataEncoding.Decoder getBinaryDataDecoder() {
+		return this.binaryDataDecoder;
+	}
+
 	@Override
 	public String toString() {
 		return "EdgeWebsocket.WsData [" //
@@ -40,6 +40,12 @@ public @interface Config {
 	@AttributeDefinition(name = "Database", description = "The database name")
 	String database();
 
+	@AttributeDefinition(name = "Session-Cache TTL [s]", description = "How long an authenticated Session-ID is cached. A Session that is revoked in Odoo stays valid for up to this duration")
+	int sessionCacheTtl() default 60;
+
+	@AttributeDefinition(name = "Session-Cache Size", description = "Maximum number of cached Session-IDs; 0 to disable")
+	int sessionCacheSize() default 10_000;
+
 	String webconsole_configurationFactory_nameHint() default "Metadata.Odoo";
 
 }
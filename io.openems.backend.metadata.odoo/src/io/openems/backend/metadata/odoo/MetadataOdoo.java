@@ -1,6 +1,8 @@
 package io.openems.backend.metadata.odoo;
 
 import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -33,7 +35,9 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.metadata.AbstractMetadata;
 import io.openems.backend.common.metadata.AlertingSetting;
 import io.openems.backend.common.metadata.AppCenterMetadata;
@@ -43,6 +47,7 @@ import io.openems.backend.common.metadata.Mailer;
 import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.metadata.User;
 import io.openems.backend.metadata.odoo.odoo.FieldValue;
+import io.openems.backend.metadata.odoo.odoo.OdooClient;
 import io.openems.backend.metadata.odoo.odoo.OdooHandler;
 import io.openems.backend.metadata.odoo.odoo.OdooUserRole;
 import io.openems.backend.metadata.odoo.odoo.OdooUtils.DateTime;
@@ -72,10 +77,12 @@ import io.openems.common.utils.ThreadPoolUtils;
 		Edge.Events.ALL_EVENTS //
 })
 public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata, AppCenterMetadata.EdgeData,
-		AppCenterMetadata.UiData, Metadata, Mailer, EventHandler {
+		AppCenterMetadata.UiData, Metadata, Mailer, EventHandler, DebugLoggable {
 
+	private static final String COMPONENT_ID = "metadata0";
 	private static final int EXECUTOR_MIN_THREADS = 1;
 	private static final int EXECUTOR_MAX_THREADS = 50;
+	private static final int ODOO_MAX_CONCURRENT_REQUESTS = 32;
 
 	private final Logger log = LoggerFactory.getLogger(MetadataOdoo.class);
 	private final EdgeCache edgeCache;
@@ -86,6 +93,9 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	/** Maps User-ID to {@link User}. */
 	private final ConcurrentHashMap<String, User> users = new ConcurrentHashMap<>();
 
+	private SessionCache sessionCache = null;
+	private OdooClient odooClient = null;
+
 	@Reference
 	private EventAdmin eventAdmin;
 
@@ -107,7 +117,10 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 				+ (config.pgPassword() != null ? "ok" : "NOT_SET") + "] " //
 				+ "Database [" + config.database() + "]");
 
-		this.odooHandler = new OdooHandler(this, this.edgeCache, config);
+		this.sessionCache = new SessionCache(Clock.systemUTC(), Duration.ofSeconds(config.sessionCacheTtl()),
+				config.sessionCacheSize());
+		this.odooClient = new OdooClient(ODOO_MAX_CONCURRENT_REQUESTS);
+		this.odooHandler = new OdooHandler(this, this.edgeCache, config, this.odooClient);
 		this.postgresHandler = new PostgresHandler(this, this.edgeCache, config, () -> {
 			this.setInitialized();
 		});
@@ -120,6 +133,9 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 		if (this.postgresHandler != null) {
 			this.postgresHandler.deactivate();
 		}
+		if (this.odooClient != null) {
+			this.odooClient.close();
+		}
 	}
 
 	@Override
@@ -136,6 +152,11 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 	 */
 	@Override
 	public User authenticate(String sessionId) throws OpenemsNamedException {
+		var cachedUser = this.sessionCache.get(sessionId);
+		if (cachedUser != null) {
+			return this.registerUser(cachedUser);
+		}
+
 		var result = this.odooHandler.authenticateSession(sessionId);
 
 		// Parse Result
@@ -155,8 +176,20 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 		}
 
 		var user = new MyUser(odooUserId, login, name, sessionId, language, globalRole, roles, hasMultipleEdges);
-		var oldUser = this.users.put(login, user);
-		if (oldUser != null) {
+		this.sessionCache.put(sessionId, user);
+		return this.registerUser(user);
+	}
+
+	/**
+	 * Registers an authenticated {@link MyUser} and takes over the Edge roles of a
+	 * previously registered instance of the same User.
+	 *
+	 * @param user the {@link MyUser}
+	 * @return the {@link MyUser}
+	 */
+	private MyUser registerUser(MyUser user) {
+		var oldUser = this.users.put(user.getId(), user);
+		if (oldUser != null && oldUser != user) {
 			oldUser.getEdgeRoles().forEach((edgeId, role) -> {
 				user.setRole(edgeId, role);
 			});
@@ -164,8 +197,19 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 		return user;
 	}
 
+	/**
+	 * Invalidates the cached Sessions of a User, e.g. after its Edge roles
+	 * changed.
+	 *
+	 * @param odooUserId the Odoo record ID of the User
+	 */
+	public void invalidateUserSessions(int odooUserId) {
+		this.sessionCache.invalidateUser(odooUserId);
+	}
+
 	@Override
 	public void logout(User user) {
+		this.sessionCache.invalidate(user.getToken());
 		this.users.remove(user.getId());
 		this.odooHandler.logout(user.getToken());
 	}
@@ -573,4 +617,21 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 		);
 	}
 
+	@Override
+	public String debugLog() {
+		return null;
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		final var sessionCache = this.sessionCache;
+		if (sessionCache == null) {
+			return null;
+		}
+		return Map.of(//
+				COMPONENT_ID + "/SessionCacheHits", new JsonPrimitive(sessionCache.getHits()), //
+				COMPONENT_ID + "/SessionCacheMisses", new JsonPrimitive(sessionCache.getMisses()), //
+				COMPONENT_ID + "/SessionCacheSize", new JsonPrimitive(sessionCache.size()));
+	}
+
 }
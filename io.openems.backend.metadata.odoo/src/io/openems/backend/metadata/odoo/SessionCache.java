@@ -0,0 +1,122 @@
+package io.openems.backend.metadata.odoo;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of authenticated {@link MyUser}s by Session-ID.
+ *
+ * <p>
+ * Entries expire after a fixed time-to-live; if the cache is full, the least
+ * recently used entry is evicted. Entries are invalidated explicitly on logout
+ * and when the Edge roles of a User change.
+ *
+ * <p>
+ * A Session that is revoked directly in Odoo (e.g. logout in the Odoo web
+ * interface) is not noticed; the time-to-live is therefore the maximum delay
+ * until such a revocation takes effect and should be kept short.
+ */
+public class SessionCache {
+
+	private static record Entry(MyUser user, Instant expiresAt) {
+	}
+
+	private final Clock clock;
+	private final Duration ttl;
+	private final int maxSize;
+	private final LinkedHashMap<String, Entry> entries;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public SessionCache(Clock clock, Duration ttl, int maxSize) {
+		this.clock = clock;
+		this.ttl = ttl;
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return this.size() > SessionCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Gets the cached {@link MyUser} for a Session-ID.
+	 *
+	 * @param sessionId the Session-ID
+	 * @return the {@link MyUser}; null if not cached or expired
+	 */
+	public synchronized MyUser get(String sessionId) {
+		if (this.maxSize <= 0) {
+			return null;
+		}
+		var entry = this.entries.get(sessionId);
+		if (entry != null && entry.expiresAt.isAfter(Instant.now(this.clock))) {
+			this.hits.incrementAndGet();
+			return entry.user;
+		}
+		if (entry != null) {
+			this.entries.remove(sessionId);
+		}
+		this.misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Adds an authenticated {@link MyUser}.
+	 *
+	 * @param sessionId the Session-ID
+	 * @param user      the {@link MyUser}
+	 */
+	public synchronized void put(String sessionId, MyUser user) {
+		if (this.maxSize <= 0) {
+			return;
+		}
+		this.entries.put(sessionId, new Entry(user, Instant.now(this.clock).plus(this.ttl)));
+	}
+
+	/**
+	 * Invalidates the entry for a Session-ID, e.g. on logout.
+	 *
+	 * @param sessionId the Session-ID
+	 */
+	public synchronized void invalidate(String sessionId) {
+		this.entries.remove(sessionId);
+	}
+
+	/**
+	 * Invalidates all entries of a User, e.g. after its Edge roles changed.
+	 *
+	 * @param odooUserId the Odoo record ID of the User
+	 */
+	public synchronized void invalidateUser(int odooUserId) {
+		this.entries.values().removeIf(entry -> entry.user.getOdooId() == odooUserId);
+	}
+
+	/**
+	 * Invalidates all entries.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+}
@@ -0,0 +1,222 @@
+package io.openems.backend.metadata.odoo.odoo;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+import com.google.gson.JsonObject;
+
+import io.openems.backend.metadata.odoo.odoo.OdooUtils.SuccessResponseAndHeaders;
+import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+
+/**
+ * Non-blocking HTTP client for JSON-RPC Requests to an Odoo server.
+ *
+ * <ul>
+ * <li>Connections are kept alive and reused by the underlying
+ * {@link HttpClient}
+ * <li>At most 'maxConcurrentRequests' Requests are sent at the same time;
+ * further Requests are queued
+ * <li>Identical coalesced Requests that are in flight at the same time are only
+ * sent once and share the response
+ * </ul>
+ *
+ * <p>
+ * The client is owned by the component that created it and must be closed on
+ * its deactivation; the threads of the underlying {@link HttpClient} end as
+ * soon as it is not referenced anymore.
+ */
+public class OdooClient {
+
+	private static record Key(String url, String cookie, String body) {
+	}
+
+	private static record Pending(String url, JsonObject request, HttpRequest httpRequest,
+			CompletableFuture<SuccessResponseAndHeaders> result) {
+	}
+
+	private final HttpClient httpClient;
+	private final Semaphore permits;
+	private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+	private final ConcurrentHashMap<Key, CompletableFuture<SuccessResponseAndHeaders>> inFlight = new ConcurrentHashMap<>();
+
+	private volatile boolean isClosed = false;
+
+	public OdooClient(int maxConcurrentRequests) {
+		this.httpClient = HttpClient.newBuilder() //
+				.version(HttpClient.Version.HTTP_1_1) //
+				.connectTimeout(Duration.ofSeconds(5)) //
+				.build();
+		this.permits = new Semaphore(maxConcurrentRequests);
+	}
+
+	/**
+	 * Closes the client. Queued and future Requests fail; Requests in flight
+	 * complete normally.
+	 */
+	public void close() {
+		this.isClosed = true;
+		Pending pending;
+		while ((pending = this.pending.poll()) != null) {
+			pending.result.completeExceptionally(OpenemsError.GENERIC.exception("OdooClient is closed"));
+		}
+	}
+
+	/**
+	 * Sends a JSON-RPC Request and waits for the response.
+	 *
+	 * @param url      the URL
+	 * @param cookie   a Cookie string; empty for none
+	 * @param request  the JSON-RPC Request as {@link JsonObject}
+	 * @param timeout  read timeout in milliseconds
+	 * @param coalesce share the response with identical Requests in flight; only
+	 *                 for Requests without side effects
+	 * @return the {@link SuccessResponseAndHeaders}
+	 * @throws OpenemsNamedException on error
+	 */
+	public SuccessResponseAndHeaders send(String url, String cookie, JsonObject request, int timeout,
+			boolean coalesce) throws OpenemsNamedException {
+		try {
+			return this.sendAsync(url, cookie, request, timeout, coalesce).get();
+
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			if (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof OpenemsNamedException) {
+				throw (OpenemsNamedException) cause;
+			}
+			throw OpenemsError.GENERIC.exception(cause.getMessage());
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw OpenemsError.GENERIC.exception(e.getMessage());
+		}
+	}
+
+	/**
+	 * Sends a JSON-RPC Request.
+	 *
+	 * @param url      the URL
+	 * @param cookie   a Cookie string; empty for none
+	 * @param request  the JSON-RPC Request as {@link JsonObject}
+	 * @param timeout  read timeout in milliseconds
+	 * @param coalesce share the response with identical Requests in flight; only
+	 *                 for Requests without side effects
+	 * @return a future {@link SuccessResponseAndHeaders}; completed exceptionally
+	 *         with an {@link OpenemsNamedException} on error
+	 */
+	public CompletableFuture<SuccessResponseAndHeaders> sendAsync(String url, String cookie, JsonObject request,
+			int timeout, boolean coalesce) {
+		if (!coalesce) {
+			return this.doSendAsync(url, cookie, request, timeout);
+		}
+
+		var key = new Key(url, cookie, request.toString());
+		var result = new CompletableFuture<SuccessResponseAndHeaders>();
+		var existing = this.inFlight.putIfAbsent(key, result);
+		if (existing != null) {
+			return existing.copy();
+		}
+		this.doSendAsync(url, cookie, request, timeout).whenComplete((response, e) -> {
+			this.inFlight.remove(key, result);
+			if (e != null) {
+				result.completeExceptionally(e);
+			} else {
+				result.complete(response);
+			}
+		});
+		return result.copy();
+	}
+
+	private CompletableFuture<SuccessResponseAndHeaders> doSendAsync(String url, String cookie, JsonObject request,
+			int timeout) {
+		if (this.isClosed) {
+			return CompletableFuture.failedFuture(OpenemsError.GENERIC.exception("OdooClient is closed"));
+		}
+		final HttpRequest httpRequest;
+		try {
+			var builder = HttpRequest.newBuilder(URI.create(url)) //
+					.timeout(Duration.ofMillis(timeout)) //
+					.header("Content-Type", "application/json") //
+					.POST(BodyPublishers.ofString(request.toString()));
+			if (!cookie.isEmpty()) {
+				builder.header("Cookie", cookie);
+			}
+			httpRequest = builder.build();
+		} catch (IllegalArgumentException e) {
+			return CompletableFuture.failedFuture(OpenemsError.GENERIC.exception(e.getMessage()));
+		}
+
+		var result = new CompletableFuture<SuccessResponseAndHeaders>();
+		this.pending.add(new Pending(url, request, httpRequest, result));
+		this.drain();
+		return result;
+	}
+
+	/**
+	 * Starts pending Requests as long as permits are available.
+	 */
+	private void drain() {
+		while (!this.pending.isEmpty() && this.permits.tryAcquire()) {
+			var pending = this.pending.poll();
+			if (pending == null) {
+				this.permits.release();
+			} else {
+				this.start(pending);
+			}
+		}
+	}
+
+	/**
+	 * Sends a pending Request; a permit was acquired before.
+	 *
+	 * @param pending the {@link Pending} Request
+	 */
+	private void start(Pending pending) {
+		final CompletableFuture<HttpResponse<String>> future;
+		try {
+			if (this.isClosed) {
+				throw new IllegalStateException("OdooClient is closed");
+			}
+			future = this.httpClient.sendAsync(pending.httpRequest, BodyHandlers.ofString());
+		} catch (RuntimeException e) {
+			this.permits.release();
+			pending.result.completeExceptionally(OpenemsError.GENERIC.exception(e.getMessage()));
+			return;
+		}
+		future.whenComplete((response, e) -> {
+			this.permits.release();
+			this.drain();
+			if (e != null) {
+				var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				pending.result.completeExceptionally(OpenemsError.GENERIC.exception(cause.getMessage()));
+				return;
+			}
+			try {
+				pending.result.complete(OdooUtils.parseJsonrpcResponse(pending.url, pending.request, response.body(),
+						response.headers().map()));
+			} catch (OpenemsNamedException e1) {
+				pending.result.completeExceptionally(e1);
+			}
+		});
+	}
+
+	protected int getNumberOfPendingRequests() {
+		return this.pending.size();
+	}
+
+}
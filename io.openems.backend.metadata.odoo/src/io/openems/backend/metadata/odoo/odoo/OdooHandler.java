@@ -52,11 +52,13 @@ public class OdooHandler {
 
 	private final Logger log = LoggerFactory.getLogger(OdooHandler.class);
 	private final Credentials credentials;
+	private final OdooClient client;
 
-	public OdooHandler(MetadataOdoo parent, EdgeCache edgeCache, Config config) {
+	public OdooHandler(MetadataOdoo parent, EdgeCache edgeCache, Config config, OdooClient client) {
 		this.parent = parent;
 		this.edgeCache = edgeCache;
 		this.credentials = Credentials.fromConfig(config);
+		this.client = client;
 	}
 
 	/**
@@ -167,6 +169,7 @@ public class OdooHandler {
 			fields.add(new FieldValue<>(Field.EdgeDeviceUserRole.TIME_TO_WAIT, 60));
 		}
 		OdooUtils.create(this.credentials, Field.EdgeDeviceUserRole.ODOO_MODEL, fields.toArray(FieldValue[]::new));
+		this.parent.invalidateUserSessions(userId);
 	}
 
 	/**
@@ -178,7 +181,7 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on login error
 	 */
 	public String authenticate(String username, String password) throws OpenemsNamedException {
-		return OdooUtils.login(this.credentials, username, password);
+		return OdooUtils.login(this.client, this.credentials, username, password);
 	}
 
 	/**
@@ -190,8 +193,9 @@ public class OdooHandler {
 	 */
 	public JsonObject authenticateSession(String sessionId) throws OpenemsNamedException {
 		return JsonUtils
-				.getAsJsonObject(OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/info",
-						"session_id=" + sessionId, new JsonObject()).result);
+				.getAsJsonObject(OdooUtils.sendCoalescedJsonrpcRequest(this.client,
+						this.credentials.getUrl() + "/openems_backend/info", "session_id=" + sessionId,
+						new JsonObject()).result);
 	}
 
 	/**
@@ -202,8 +206,8 @@ public class OdooHandler {
 	 */
 	public void logout(String sessionId) {
 		try {
-			OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/web/session/destroy", "session_id=" + sessionId,
-					new JsonObject());
+			OdooUtils.sendJsonrpcRequest(this.client, this.credentials.getUrl() + "/web/session/destroy",
+					"session_id=" + sessionId, new JsonObject());
 		} catch (OpenemsNamedException e) {
 			this.log.warn("Unable to logout session [" + sessionId + "]: " + e.getMessage());
 		}
@@ -384,7 +388,7 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on error
 	 */
 	public byte[] getOdooSetupProtocolReport(int setupProtocolId) throws OpenemsNamedException {
-		return OdooUtils.getOdooReport(this.credentials, "openems.report_openems_setup_protocol_template",
+		return OdooUtils.getOdooReport(this.client, this.credentials, "openems.report_openems_setup_protocol_template",
 				setupProtocolId);
 	}
 
@@ -497,7 +501,7 @@ public class OdooHandler {
 	 * @throws OpenemsNamedException on error
 	 */
 	private void sendSetupProtocolMail(MyUser user, int protocolId, String edgeId) throws OpenemsNamedException {
-		OdooUtils.sendAdminJsonrpcRequest(this.credentials, "/openems_backend/sendSetupProtocolEmail",
+		OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials, "/openems_backend/sendSetupProtocolEmail",
 				JsonUtils.buildJsonObject() //
 						.add("params", JsonUtils.buildJsonObject() //
 								.addProperty("setupProtocolId", protocolId) //
@@ -815,7 +819,7 @@ public class OdooHandler {
 	 */
 	private void sendRegistrationMail(int odooUserId, String password, OpenemsOEM.Manufacturer oem) {
 		try {
-			OdooUtils.sendAdminJsonrpcRequest(this.credentials, "/openems_backend/sendRegistrationEmail",
+			OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials, "/openems_backend/sendRegistrationEmail",
 					JsonUtils.buildJsonObject() //
 							.add("params", JsonUtils.buildJsonObject() //
 									.addProperty("userId", odooUserId) //
@@ -839,7 +843,8 @@ public class OdooHandler {
 	 */
 	public Future<SuccessResponseAndHeaders> sendNotificationMailAsync(ZonedDateTime sentAt, String template,
 			JsonElement params) throws OpenemsNamedException {
-		return OdooUtils.sendAdminJsonrpcRequestAsync(this.credentials, "/openems_backend/mail/" + template,
+		return OdooUtils.sendAdminJsonrpcRequestAsync(this.client, this.credentials,
+				"/openems_backend/mail/" + template,
 				JsonUtils.buildJsonObject() //
 						.add("params", JsonUtils.buildJsonObject() //
 								.addProperty("sentAt", OdooUtils.DateTime.dateTimeToString(sentAt)) //
@@ -860,6 +865,7 @@ public class OdooHandler {
 			OdooUtils.write(this.credentials, Field.User.ODOO_MODEL, new Integer[] { user.getOdooId() }, //
 					new FieldValue<>(Field.User.OPENEMS_LANGUAGE, language.name()));
 			user.setLanguage(language);
+			this.parent.invalidateUserSessions(user.getOdooId());
 		} catch (OpenemsNamedException ex) {
 			throw new OpenemsException("Unable to set language [" + language.name() + "] for current user", ex);
 		}
@@ -884,7 +890,8 @@ public class OdooHandler {
 
 		// call odoo api
 		return JsonUtils.getAsJsonObject(
-				OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/get_latest_setup_protocol",
+				OdooUtils.sendJsonrpcRequest(this.client,
+						this.credentials.getUrl() + "/openems_backend/get_latest_setup_protocol",
 						"session_id=" + user.getToken(), request).result);
 	}
 
@@ -935,7 +942,7 @@ public class OdooHandler {
 						.build()) //
 				.build();
 
-		var result = JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		var result = JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/is_key_applicable", request).result);
 		return result;
 	}
@@ -963,7 +970,7 @@ public class OdooHandler {
 						.build()) //
 				.build();
 
-		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/add_install_app_instance_history", request).result);
 	}
 
@@ -987,7 +994,7 @@ public class OdooHandler {
 						.addPropertyIfNotNull("userId", userId) //
 						.build()) //
 				.build();
-		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/add_deinstall_app_instance_history", request).result);
 	}
 
@@ -1011,7 +1018,7 @@ public class OdooHandler {
 						.addProperty("userId", user.getId()) //
 						.build()) //
 				.build();
-		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/add_register_key_history", request).result);
 	}
 
@@ -1037,7 +1044,7 @@ public class OdooHandler {
 						.build())
 				.build();
 
-		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/add_deregister_key_history", request).result);
 	}
 
@@ -1056,7 +1063,7 @@ public class OdooHandler {
 						.addPropertyIfNotNull("appId", appId) //
 						.build()) //
 				.build();
-		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/get_registered_key", request).result);
 	}
 
@@ -1075,7 +1082,7 @@ public class OdooHandler {
 						.addProperty("key", key) //
 						.build()) //
 				.build();
-		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/get_possible_apps", request).result);
 	}
 
@@ -1092,7 +1099,7 @@ public class OdooHandler {
 						.addProperty("edgeId", edgeId) //
 						.build()) //
 				.build();
-		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.credentials,
+		return JsonUtils.getAsJsonObject(OdooUtils.sendAdminJsonrpcRequest(this.client, this.credentials,
 				"/openems_app_center/get_installed_apps", request).result);
 	}
 
@@ -1236,7 +1243,8 @@ public class OdooHandler {
 				.build();
 
 		return JsonUtils
-				.getAsJsonObject(OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/get_edges",
+				.getAsJsonObject(OdooUtils.sendJsonrpcRequest(this.client,
+						this.credentials.getUrl() + "/openems_backend/get_edges",
 						"session_id=" + user.getToken(), request).result);
 	}
 
@@ -1256,7 +1264,8 @@ public class OdooHandler {
 				.build();
 
 		return JsonUtils.getAsJsonObject(
-				OdooUtils.sendJsonrpcRequest(this.credentials.getUrl() + "/openems_backend/get_edge_with_role",
+				OdooUtils.sendJsonrpcRequest(this.client,
+						this.credentials.getUrl() + "/openems_backend/get_edge_with_role",
 						"session_id=" + user.getToken(), request).result);
 	}
 
@@ -1,9 +1,5 @@
 package io.openems.backend.metadata.odoo.odoo;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -39,6 +35,8 @@ public class OdooUtils {
 
 	private static final Logger log = LoggerFactory.getLogger(OdooUtils.class);
 
+	private static final int DEFAULT_TIMEOUT = 5000; // [ms]
+
 	private OdooUtils() {
 	}
 
@@ -59,20 +57,22 @@ public class OdooUtils {
 	/**
 	 * Sends a JSON-RPC Request to an Odoo server - without Cookie header.
 	 *
+	 * @param client  the {@link OdooClient}
 	 * @param url     the URL
 	 * @param request the JSON-RPC Request as {@link JsonObject}
 	 * @return the {@link JsonObject} response and HTTP connection headers on
 	 *         success
 	 * @throws OpenemsNamedException on error
 	 */
-	public static SuccessResponseAndHeaders sendJsonrpcRequest(String url, JsonObject request)
+	public static SuccessResponseAndHeaders sendJsonrpcRequest(OdooClient client, String url, JsonObject request)
 			throws OpenemsNamedException {
-		return OdooUtils.sendJsonrpcRequest(url, "", request);
+		return OdooUtils.sendJsonrpcRequest(client, url, "", request);
 	}
 
 	/**
 	 * Sends a JSON-RPC Request to an Odoo server - without Cookie header.
 	 *
+	 * @param client  the {@link OdooClient}
 	 * @param url     the URL
 	 * @param cookie  the Cookie
 	 * @param request the JSON-RPC Request as {@link JsonObject}
@@ -80,14 +80,15 @@ public class OdooUtils {
 	 *         success
 	 * @throws OpenemsNamedException on error
 	 */
-	public static SuccessResponseAndHeaders sendJsonrpcRequest(String url, String cookie, JsonObject request)
-			throws OpenemsNamedException {
-		return OdooUtils.sendJsonrpcRequest(url, cookie, request, 5000);
+	public static SuccessResponseAndHeaders sendJsonrpcRequest(OdooClient client, String url, String cookie,
+			JsonObject request) throws OpenemsNamedException {
+		return OdooUtils.sendJsonrpcRequest(client, url, cookie, request, DEFAULT_TIMEOUT);
 	}
 
 	/**
 	 * Sends a JSON-RPC Request to an Odoo server.
 	 *
+	 * @param client  the {@link OdooClient}
 	 * @param url     the URL
 	 * @param cookie  a Cookie string
 	 * @param request the JSON-RPC Request as {@link JsonObject}
@@ -96,138 +97,141 @@ public class OdooUtils {
 	 *         success
 	 * @throws OpenemsNamedException on error
 	 */
-	public static SuccessResponseAndHeaders sendJsonrpcRequest(String url, String cookie, JsonObject request,
-			int timeout) throws OpenemsNamedException {
-		HttpURLConnection connection = null;
-		try {
-			// Open connection to Odoo
-			connection = (HttpURLConnection) new URL(url).openConnection();
-			connection.setConnectTimeout(5000);// 5 secs
-			connection.setReadTimeout(timeout);// 5 secs
-			connection.setRequestProperty("Accept-Charset", "US-ASCII");
-			connection.setRequestMethod("POST");
-			connection.setDoOutput(true);
-			connection.setRequestProperty("Content-Type", "application/json");
-			if (!cookie.isEmpty()) {
-				connection.setRequestProperty("Cookie", cookie);
-			}
-
-			// send JSON-RPC request
-			try (var out = new OutputStreamWriter(connection.getOutputStream())) {
-				out.write(request.toString());
-				out.flush();
-			}
+	public static SuccessResponseAndHeaders sendJsonrpcRequest(OdooClient client, String url, String cookie,
+			JsonObject request, int timeout) throws OpenemsNamedException {
+		return client.send(url, cookie, request, timeout, false);
+	}
 
-			// read JSON-RPC response
-			var sb = new StringBuilder();
-			String line = null;
-			try (var br = new BufferedReader(new InputStreamReader(connection.getInputStream()))) {
-				while ((line = br.readLine()) != null) {
-					sb.append(line);
-				}
-			}
-			var json = JsonUtils.parseToJsonObject(sb.toString());
-
-			// Handle Success or Error
-			if (json.has("error")) {
-				var error = JsonUtils.getAsJsonObject(json, "error");
-				// "code":200",
-				var code = JsonUtils.getAsInt(error, "code");
-				// "message":"Odoo Server Error",
-				var message = JsonUtils.getAsString(error, "message");
-				var data = JsonUtils.getAsJsonObject(error, "data");
-				// "name":"odoo.exceptions.AccessDenied",
-				var dataName = JsonUtils.getAsString(data, "name");
-				// "debug":"Traceback (most recent call last):\n...",
-				var dataDebug = JsonUtils.getAsString(data, "debug");
-				// "message":"Access denied",
-				var dataMessage = JsonUtils.getAsString(data, "message");
-				// "arguments":["Access denied"],
-				var dataArguments = JsonUtils.getAsJsonArray(data, "arguments");
-				// "exception_type":"access_denied"
-				var dataExceptionType = JsonUtils.getAsOptionalString(data, "exception_type");
-
-				switch (dataName) {
-				case "odoo.exceptions.AccessDenied":
-					throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
-
-				case "odoo.http.SessionExpiredException":
-					throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
-
-				default:
-					// for OpenemsExceptions from Odoo only throw OpenemsException with message for
-					// more readability
-					if (dataName.endsWith("OpenemsException")) {
-						throw new OpenemsException(dataMessage);
-					}
+	/**
+	 * Sends a JSON-RPC Request without side effects to an Odoo server.
+	 *
+	 * <p>
+	 * Identical Requests that are in flight at the same time - e.g. repeated
+	 * authentication with the same Session-ID - are only sent once.
+	 *
+	 * @param client  the {@link OdooClient}
+	 * @param url     the URL
+	 * @param cookie  a Cookie string
+	 * @param request the JSON-RPC Request as {@link JsonObject}
+	 * @return the {@link JsonObject} response and HTTP connection headers on
+	 *         success
+	 * @throws OpenemsNamedException on error
+	 */
+	public static SuccessResponseAndHeaders sendCoalescedJsonrpcRequest(OdooClient client, String url,
+			String cookie, JsonObject request) throws OpenemsNamedException {
+		var response = client.send(url, cookie, request, DEFAULT_TIMEOUT, true);
+		// The response is shared with other callers
+		return new SuccessResponseAndHeaders(response.result.deepCopy(), response.headers);
+	}
 
-					var exception = "Exception for Request [" + request.toString() + "] to URL [" + url + "]: " //
-							+ dataMessage + ";" //
-							+ " Code [" + code + "]" //
-							+ " Code [" + code + "]" //
-							+ " Message [" + message + "]" //
-							+ " Name [" + dataName + "]" //
-							+ " ExceptionType [" + dataExceptionType.orElse("n/a") + "]" //
-							+ " Arguments [" + dataArguments + "]" //
-							+ " Debug [" + dataDebug + "]";
-					throw new OpenemsException(exception);
+	/**
+	 * Parses the JSON-RPC Response of an Odoo server.
+	 *
+	 * @param url     the URL
+	 * @param request the JSON-RPC Request as {@link JsonObject}
+	 * @param body    the HTTP response body
+	 * @param headers the HTTP response headers
+	 * @return the {@link JsonObject} response and HTTP connection headers on
+	 *         success
+	 * @throws OpenemsNamedException on error
+	 */
+	protected static SuccessResponseAndHeaders parseJsonrpcResponse(String url, JsonObject request, String body,
+			Map<String, List<String>> headers) throws OpenemsNamedException {
+		var json = JsonUtils.parseToJsonObject(body);
+
+		// Handle Success or Error
+		if (json.has("error")) {
+			var error = JsonUtils.getAsJsonObject(json, "error");
+			// "code":200",
+			var code = JsonUtils.getAsInt(error, "code");
+			// "message":"Odoo Server Error",
+			var message = JsonUtils.getAsString(error, "message");
+			var data = JsonUtils.getAsJsonObject(error, "data");
+			// "name":"odoo.exceptions.AccessDenied",
+			var dataName = JsonUtils.getAsString(data, "name");
+			// "debug":"Traceback (most recent call last):\n...",
+			var dataDebug = JsonUtils.getAsString(data, "debug");
+			// "message":"Access denied",
+			var dataMessage = JsonUtils.getAsString(data, "message");
+			// "arguments":["Access denied"],
+			var dataArguments = JsonUtils.getAsJsonArray(data, "arguments");
+			// "exception_type":"access_denied"
+			var dataExceptionType = JsonUtils.getAsOptionalString(data, "exception_type");
+
+			switch (dataName) {
+			case "odoo.exceptions.AccessDenied":
+				throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
+
+			case "odoo.http.SessionExpiredException":
+				throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
+
+			default:
+				// for OpenemsExceptions from Odoo only throw OpenemsException with message for
+				// more readability
+				if (dataName.endsWith("OpenemsException")) {
+					throw new OpenemsException(dataMessage);
 				}
-			} else if (json.has("result")) {
-				return new SuccessResponseAndHeaders(JsonUtils.getSubElement(json, "result"),
-						connection.getHeaderFields());
-
-			} else {
-				// JSON-RPC response by Odoo on /logout is {jsonrpc:2.0, id:null} - without
-				// 'result' attribute
-				return new SuccessResponseAndHeaders(json, connection.getHeaderFields());
 
+				var exception = "Exception for Request [" + request.toString() + "] to URL [" + url + "]: " //
+						+ dataMessage + ";" //
+						+ " Code [" + code + "]" //
+						+ " Code [" + code + "]" //
+						+ " Message [" + message + "]" //
+						+ " Name [" + dataName + "]" //
+						+ " ExceptionType [" + dataExceptionType.orElse("n/a") + "]" //
+						+ " Arguments [" + dataArguments + "]" //
+						+ " Debug [" + dataDebug + "]";
+				throw new OpenemsException(exception);
 			}
+		} else if (json.has("result")) {
+			return new SuccessResponseAndHeaders(JsonUtils.getSubElement(json, "result"), headers);
 
-		} catch (IOException e) {
-			throw OpenemsError.GENERIC.exception(e.getMessage());
-		} finally {
-			if (connection != null) {
-				connection.disconnect();
-			}
+		} else {
+			// JSON-RPC response by Odoo on /logout is {jsonrpc:2.0, id:null} - without
+			// 'result' attribute
+			return new SuccessResponseAndHeaders(json, headers);
 		}
 	}
 
-	protected static SuccessResponseAndHeaders sendAdminJsonrpcRequest(Credentials credentials, String url,
-			JsonObject request, int timeout) throws OpenemsNamedException {
-		var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
-		return OdooUtils.sendJsonrpcRequest(credentials.getUrl() + url, "session_id=" + session, request, timeout);
+	protected static SuccessResponseAndHeaders sendAdminJsonrpcRequest(OdooClient client, Credentials credentials,
+			String url, JsonObject request, int timeout) throws OpenemsNamedException {
+		var session = OdooUtils.login(client, credentials, "admin", credentials.getPassword());
+		return OdooUtils.sendJsonrpcRequest(client, credentials.getUrl() + url, "session_id=" + session, request,
+				timeout);
 	}
 
 	/**
 	 * Sends a request with admin privileges.
 	 *
+	 * @param client      the {@link OdooClient}
 	 * @param credentials the Odoo credentials
 	 * @param url         to send the request
 	 * @param request     to send
 	 * @return SuccessResponseAndHeaders response
 	 * @throws OpenemsNamedException on error
 	 */
-	protected static SuccessResponseAndHeaders sendAdminJsonrpcRequest(Credentials credentials, String url,
-			JsonObject request) throws OpenemsNamedException {
-		var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
-		return OdooUtils.sendJsonrpcRequest(credentials.getUrl() + url, "session_id=" + session, request);
+	protected static SuccessResponseAndHeaders sendAdminJsonrpcRequest(OdooClient client, Credentials credentials,
+			String url, JsonObject request) throws OpenemsNamedException {
+		var session = OdooUtils.login(client, credentials, "admin", credentials.getPassword());
+		return OdooUtils.sendJsonrpcRequest(client, credentials.getUrl() + url, "session_id=" + session, request);
 	}
 
 	/**
 	 * Sends a request with admin privileges in async.
 	 *
+	 * @param client      the {@link OdooClient}
 	 * @param credentials the Odoo credentials
 	 * @param url         to send the request
 	 * @param request     to send
 	 * @return SuccessResponseAndHeaders response as Future
 	 * @throws OpenemsNamedException on error
 	 */
-	protected static Future<SuccessResponseAndHeaders> sendAdminJsonrpcRequestAsync(Credentials credentials, String url,
-			JsonObject request) throws OpenemsNamedException {
+	protected static Future<SuccessResponseAndHeaders> sendAdminJsonrpcRequestAsync(OdooClient client,
+			Credentials credentials, String url, JsonObject request) throws OpenemsNamedException {
 		var completableFuture = new CompletableFuture<SuccessResponseAndHeaders>();
 		completableFuture.completeAsync(() -> {
 			try {
-				return sendAdminJsonrpcRequest(credentials, url, request);
+				return sendAdminJsonrpcRequest(client, credentials, url, request);
 			} catch (OpenemsNamedException e) {
 				completableFuture.completeExceptionally(e);
 			}
@@ -239,13 +243,14 @@ public class OdooUtils {
 	/**
 	 * Authenticates a user using Username and Password.
 	 *
+	 * @param client      the {@link OdooClient}
 	 * @param credentials used to get Odoo url
 	 * @param username    the Username
 	 * @param password    the Password
 	 * @return the session_id
 	 * @throws OpenemsNamedException on login error
 	 */
-	protected static String login(Credentials credentials, String username, String password)
+	protected static String login(OdooClient client, Credentials credentials, String username, String password)
 			throws OpenemsNamedException {
 		if (username.isBlank() || password.isBlank()) {
 			// Do not even send request if username or password are blank
@@ -260,7 +265,8 @@ public class OdooUtils {
 						.addProperty("password", password) //
 						.build()) //
 				.build();
-		var response = OdooUtils.sendJsonrpcRequest(credentials.getUrl() + "/web/session/authenticate", request);
+		var response = OdooUtils.sendJsonrpcRequest(client, credentials.getUrl() + "/web/session/authenticate",
+				request);
 		var sessionIdOpt = getFieldFromSetCookieHeader(response.headers, "session_id");
 		if (!sessionIdOpt.isPresent()) {
 			throw OpenemsError.COMMON_AUTHENTICATION_FAILED.exception();
@@ -546,14 +552,16 @@ public class OdooUtils {
 	 * Returns a Odoo report as a byte array. Search for the given template id in
 	 * combination with the concrete report id.
 	 *
+	 * @param client      the {@link OdooClient}
 	 * @param credentials the Odoo credentialss
 	 * @param report      the Odoo template id
 	 * @param id          the Odoo report id
 	 * @return the Odoo report as a byte array
 	 * @throws OpenemsNamedException on error
 	 */
-	protected static byte[] getOdooReport(Credentials credentials, String report, int id) throws OpenemsNamedException {
-		var session = OdooUtils.login(credentials, "admin", credentials.getPassword());
+	protected static byte[] getOdooReport(OdooClient client, Credentials credentials, String report, int id)
+			throws OpenemsNamedException {
+		var session = OdooUtils.login(client, credentials, "admin", credentials.getPassword());
 
 		HttpURLConnection connection = null;
 		try {
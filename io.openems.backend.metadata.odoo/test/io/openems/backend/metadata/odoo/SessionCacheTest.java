@@ -0,0 +1,60 @@
+package io.openems.backend.metadata.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import io.openems.common.session.Language;
+import io.openems.common.session.Role;
+import io.openems.common.test.TimeLeapClock;
+
+public class SessionCacheTest {
+
+	private static MyUser user(int odooId, String token) {
+		return new MyUser(odooId, "user" + odooId, "User " + odooId, token, Language.DEFAULT, Role.OWNER,
+				new TreeMap<>(), false);
+	}
+
+	@Test
+	public void test() {
+		var clock = new TimeLeapClock(Instant.parse("2020-01-01T00:00:00.00Z"), ZoneOffset.UTC);
+		var sut = new SessionCache(clock, Duration.ofMinutes(5), 2);
+		var user1 = user(1, "session1");
+		var user2 = user(2, "session2");
+		var user3 = user(3, "session3");
+
+		assertNull(sut.get("session1"));
+		sut.put("session1", user1);
+		assertSame(user1, sut.get("session1"));
+		assertEquals(1, sut.getHits());
+		assertEquals(1, sut.getMisses());
+
+		// TTL
+		clock.leap(6, ChronoUnit.MINUTES);
+		assertNull(sut.get("session1"));
+		assertEquals(0, sut.size());
+
+		// Bounded size: least recently used is evicted
+		sut.put("session1", user1);
+		sut.put("session2", user2);
+		sut.get("session1");
+		sut.put("session3", user3);
+		assertSame(user1, sut.get("session1"));
+		assertNull(sut.get("session2"));
+
+		// Explicit invalidation
+		sut.invalidate("session1");
+		assertNull(sut.get("session1"));
+		sut.invalidateUser(3);
+		assertNull(sut.get("session3"));
+	}
+
+}
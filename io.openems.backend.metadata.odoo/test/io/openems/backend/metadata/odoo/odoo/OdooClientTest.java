@@ -0,0 +1,129 @@
+package io.openems.backend.metadata.odoo.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.openems.backend.metadata.odoo.odoo.OdooUtils.SuccessResponseAndHeaders;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+
+public class OdooClientTest {
+
+	private final AtomicInteger requests = new AtomicInteger();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final CountDownLatch arrived = new CountDownLatch(2);
+	private HttpServer server;
+	private String url;
+
+	@Before
+	public void before() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/info", exchange -> {
+			this.requests.incrementAndGet();
+			this.arrived.countDown();
+			try {
+				this.release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, "{\"jsonrpc\":\"2.0\",\"id\":null,\"result\":{\"user\":\"foo\"}}");
+		});
+		this.server.createContext("/error", exchange -> {
+			respond(exchange, "{\"jsonrpc\":\"2.0\",\"id\":null,\"error\":{\"code\":200,\"message\":\"Odoo Server Error\","
+					+ "\"data\":{\"name\":\"odoo.exceptions.AccessDenied\",\"debug\":\"\",\"message\":\"Access denied\","
+					+ "\"arguments\":[\"Access denied\"]}}}");
+		});
+		this.server.setExecutor(Executors.newCachedThreadPool());
+		this.server.start();
+		this.url = "http://127.0.0.1:" + this.server.getAddress().getPort();
+	}
+
+	@After
+	public void after() {
+		this.server.stop(0);
+	}
+
+	private static void respond(HttpExchange exchange, String body) throws IOException {
+		var bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (var os = exchange.getResponseBody()) {
+			os.write(bytes);
+		}
+	}
+
+	@Test
+	public void testCoalesce() throws Exception {
+		var sut = new OdooClient(4);
+		var futures = new ArrayList<CompletableFuture<SuccessResponseAndHeaders>>();
+		for (var i = 0; i < 10; i++) {
+			futures.add(sut.sendAsync(this.url + "/info", "session_id=abc", new JsonObject(), 5000, true));
+		}
+		this.release.countDown();
+		for (var future : futures) {
+			assertEquals("foo", future.get(5, TimeUnit.SECONDS).result.getAsJsonObject().get("user").getAsString());
+		}
+		assertEquals(1, this.requests.get());
+	}
+
+	@Test
+	public void testBoundedConcurrency() throws Exception {
+		var sut = new OdooClient(2);
+		var futures = new ArrayList<CompletableFuture<SuccessResponseAndHeaders>>();
+		for (var i = 0; i < 5; i++) {
+			futures.add(sut.sendAsync(this.url + "/info", "", new JsonObject(), 5000, false));
+		}
+		assertTrue(this.arrived.await(5, TimeUnit.SECONDS));
+		assertEquals(2, this.requests.get());
+		assertEquals(3, sut.getNumberOfPendingRequests());
+
+		this.release.countDown();
+		for (var future : futures) {
+			future.get(5, TimeUnit.SECONDS);
+		}
+		assertEquals(5, this.requests.get());
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		var sut = new OdooClient(1);
+		var running = sut.sendAsync(this.url + "/info", "", new JsonObject(), 5000, false);
+		var queued = sut.sendAsync(this.url + "/info", "", new JsonObject(), 5000, false);
+		sut.close();
+
+		var e = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+		assertTrue(e.getCause() instanceof OpenemsNamedException);
+		assertThrows(OpenemsNamedException.class,
+				() -> sut.send(this.url + "/info", "", new JsonObject(), 5000, false));
+
+		this.release.countDown();
+		running.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testError() {
+		var sut = new OdooClient(2);
+		assertThrows(OpenemsNamedException.class,
+				() -> sut.send(this.url + "/error", "", new JsonObject(), 5000, false));
+	}
+
+}
@@ -6,6 +6,8 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -34,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 import com.influxdb.client.domain.WriteConsistency;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
@@ -71,6 +74,7 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 
 	private Config config;
 	private InfluxConnector influxConnector;
+	private DailyEnergyRollup dailyEnergyRollup;
 
 	private final Map<ZoneId, String> zoneToMeasurement = new HashMap<>();
 
@@ -99,6 +103,9 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 				+ (config.isReadOnly() ? ";READ_ONLY_MODE" : "") //
 				+ "]");
 
+		this.dailyEnergyRollup = new DailyEnergyRollup(Clock.systemDefaultZone(),
+				config.isReadOnly() ? 0 : config.dailyRollupDays());
+
 		this.zoneToMeasurement.clear();
 		this.zoneToMeasurement.putAll(parseMeasurementsByZone(config.measurementsMax()));
 
@@ -113,7 +120,8 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 				(throwable) -> {
 					this.logError(this.log, "Unable to write to InfluxDB. " + throwable.getClass().getSimpleName()
 							+ ": " + throwable.getMessage());
-				}, true /* enable safe write */, this.writeParametersAvgPoints, this.writeParametersMaxPoints);
+				}, true /* enable safe write */, parseSpillDirectory(config.spillDirectory()),
+				config.maxSpillSize() * 1_000_000L, this.writeParametersAvgPoints, this.writeParametersMaxPoints);
 
 		// load available since for edges which already wrote in the new database
 		this.availableSinceForEdge.clear();
@@ -180,8 +188,13 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 		var influxEdgeId = InfluxConnector.parseNumberFromName(edgeId);
 		this.checkDataAvailable(influxEdgeId, fromDate, channels);
 		final var measurement = this.getMeasurement(fromDate.getZone());
-		final var rawData = this.influxConnector.queryRawHistoricEnergyPerPeriodSinglePerDay(Optional.of(influxEdgeId), //
-				fromDate, toDate, channels, resolution, this.config.retentionPolicyMax() + "." + measurement);
+		var rawData = this.zoneToMeasurement.containsKey(fromDate.getZone()) //
+				? this.dailyEnergyRollup.getRawEnergyPerPeriod(influxEdgeId, fromDate, toDate, channels, resolution) //
+				: null;
+		if (rawData == null) {
+			rawData = this.influxConnector.queryRawHistoricEnergyPerPeriodSinglePerDay(Optional.of(influxEdgeId), //
+					fromDate, toDate, channels, resolution, this.config.retentionPolicyMax() + "." + measurement);
+		}
 		if (isTodayOrAfter(toDate)) {
 			if (this.queryWithCurrentData == null) {
 				throw new InternalTimedataException("Missing 'queryWithCurrentData' object");
@@ -278,7 +291,7 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 			channelPerType.getOrDefault(ChannelType.AVG, emptyList()).stream() //
 					.forEach(entry -> addEntryToPoint.accept(new AddValuesToPoint(entry.getKey(), entry.getValue()),
 							point));
-			this.influxConnector.write(point, this.writeParametersAvgPoints);
+			this.influxConnector.write(point, this.writeParametersAvgPoints, influxEdgeId);
 
 			for (final var measurementEntry : this.getDayChangeMeasurements(timestamp).entrySet()) {
 				final var zonedDateTime = ZonedDateTime
@@ -292,9 +305,15 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 						.time(truncatedTimestamp, WritePrecision.S);
 
 				channelPerType.getOrDefault(ChannelType.MAX, emptyList()).stream() //
-						.forEach(entry -> addEntryToPoint.accept(new AddValuesToPoint(entry.getKey(), entry.getValue()),
-								maxPoint));
-				this.influxConnector.write(maxPoint, this.writeParametersMaxPoints);
+						.forEach(entry -> {
+							final var added = AllowedChannels.addWithSpecificChannelType(maxPoint, entry.getKey(),
+									entry.getValue());
+							if (added) {
+								this.dailyEnergyRollup.put(influxEdgeId, zonedDateTime, entry.getKey(),
+										entry.getValue().getAsDouble());
+							}
+						});
+				this.influxConnector.write(maxPoint, this.writeParametersMaxPoints, influxEdgeId);
 			}
 		}
 	}
@@ -401,6 +420,13 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 		return ZonedDateTime.now(time.getZone()).truncatedTo(DurationUnit.ofDays(1)).isBefore(time);
 	}
 
+	private static Path parseSpillDirectory(String spillDirectory) {
+		if (spillDirectory == null || spillDirectory.isBlank()) {
+			return null;
+		}
+		return Path.of(spillDirectory);
+	}
+
 	private static Map<ZoneId, String> parseMeasurementsByZone(String[] strings) {
 		return Arrays.stream(strings) //
 				.map(t -> t.split("=")) //
@@ -416,7 +442,19 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return null;
+		final var dailyEnergyRollup = this.dailyEnergyRollup;
+		final var influxConnector = this.influxConnector;
+		if (dailyEnergyRollup == null || influxConnector == null) {
+			return null;
+		}
+		final var result = new HashMap<String, JsonElement>();
+		influxConnector.debugMetrics().forEach((key, value) -> {
+			result.put(this.config.id() + "/" + key, new JsonPrimitive(value));
+		});
+		result.put(this.config.id() + "/DailyRollupHits", new JsonPrimitive(dailyEnergyRollup.getHits()));
+		result.put(this.config.id() + "/DailyRollupMisses", new JsonPrimitive(dailyEnergyRollup.getMisses()));
+		result.put(this.config.id() + "/DailyRollupSize", new JsonPrimitive(dailyEnergyRollup.size()));
+		return result;
 	}
 
 }
@@ -50,6 +50,15 @@ import io.openems.shared.influxdb.QueryLanguageConfig;
 	@AttributeDefinition(name = "Number of max scheduled tasks", description = "Max-Size of Queued tasks.")
 	int maxQueueSize() default 5000;
 
+	@AttributeDefinition(name = "Days of daily values in memory", description = "Number of days for which the daily values of the max measurements are kept in memory per Edge to answer energy-per-period queries; 0 to disable")
+	int dailyRollupDays() default 40;
+
+	@AttributeDefinition(name = "Spill directory", description = "Directory for points that do not fit into the write queue and for queued points on shutdown; they are written as soon as possible. Empty to disable.")
+	String spillDirectory() default "";
+
+	@AttributeDefinition(name = "Max spill size [MB]", description = "Maximum size of spilled points per write queue.")
+	int maxSpillSize() default 1024;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata Aggregated InfluxDB";
 
 }
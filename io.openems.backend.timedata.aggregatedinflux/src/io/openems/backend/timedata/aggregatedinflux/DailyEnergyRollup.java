@@ -0,0 +1,224 @@
+package io.openems.backend.timedata.aggregatedinflux;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.timedata.DurationUnit;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.shared.influxdb.InfluxConnector;
+
+/**
+ * In-memory copy of the last days of the daily values in the measurements for
+ * max values.
+ *
+ * <p>
+ * For every Edge and time zone the values are kept in columns - one array per
+ * Channel, indexed by day - and updated with the same values that are written
+ * to InfluxDB. Energy-per-period queries with a resolution of days or months
+ * are answered from here if every day of the requested range is available;
+ * otherwise the caller falls back to InfluxDB.
+ */
+public class DailyEnergyRollup {
+
+	/**
+	 * Daily values are written from 23:55 on; a day without value is only
+	 * considered missing after that.
+	 */
+	private static final int WRITE_WINDOW_MINUTES = 5;
+
+	private static record Key(int influxEdgeId, ZoneId zone) {
+	}
+
+	/**
+	 * Ring buffer of the daily values of one Edge in one time zone.
+	 */
+	private static class Columns {
+
+		private static final long EMPTY = Long.MIN_VALUE;
+
+		private final long[] epochDays;
+		private final Map<String, double[]> values = new HashMap<>();
+
+		private Columns(int numberOfDays) {
+			this.epochDays = new long[numberOfDays];
+			Arrays.fill(this.epochDays, EMPTY);
+		}
+
+		private synchronized void put(long epochDay, String channel, double value) {
+			final var slot = (int) Math.floorMod(epochDay, (long) this.epochDays.length);
+			final var slotDay = this.epochDays[slot];
+			if (slotDay > epochDay) {
+				// older than the kept days
+				return;
+			}
+			if (slotDay != epochDay) {
+				this.epochDays[slot] = epochDay;
+				for (var column : this.values.values()) {
+					column[slot] = Double.NaN;
+				}
+			}
+			this.values.computeIfAbsent(channel, c -> {
+				final var column = new double[this.epochDays.length];
+				Arrays.fill(column, Double.NaN);
+				return column;
+			})[slot] = value;
+		}
+
+		private synchronized double get(long epochDay, String channel) {
+			final var slot = (int) Math.floorMod(epochDay, (long) this.epochDays.length);
+			if (this.epochDays[slot] != epochDay) {
+				return Double.NaN;
+			}
+			final var column = this.values.get(channel);
+			if (column == null) {
+				return Double.NaN;
+			}
+			return column[slot];
+		}
+	}
+
+	private final Clock clock;
+	private final int numberOfDays;
+	private final Map<Key, Columns> columns = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public DailyEnergyRollup(Clock clock, int numberOfDays) {
+		this.clock = clock;
+		this.numberOfDays = numberOfDays;
+	}
+
+	/**
+	 * Adds a daily value.
+	 *
+	 * @param influxEdgeId the numeric Edge-ID
+	 * @param day          the start of the day in the time zone of the
+	 *                     measurement
+	 * @param channel      the Channel-Address
+	 * @param value        the value
+	 */
+	public void put(int influxEdgeId, ZonedDateTime day, String channel, double value) {
+		if (this.numberOfDays <= 0) {
+			return;
+		}
+		this.columns.computeIfAbsent(new Key(influxEdgeId, day.getZone()), k -> new Columns(this.numberOfDays)) //
+				.put(day.toLocalDate().toEpochDay(), channel, value);
+	}
+
+	/**
+	 * Gets the daily values in the same form as the raw energy-per-period query
+	 * of the {@link InfluxConnector}.
+	 *
+	 * @param influxEdgeId the numeric Edge-ID
+	 * @param fromDate     the From-Date
+	 * @param toDate       the To-Date
+	 * @param channels     the {@link ChannelAddress}es
+	 * @param resolution   the {@link Resolution}
+	 * @return the values; null if they are not completely available
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> getRawEnergyPerPeriod(//
+			int influxEdgeId, //
+			ZonedDateTime fromDate, //
+			ZonedDateTime toDate, //
+			Set<ChannelAddress> channels, //
+			Resolution resolution //
+	) {
+		if (this.numberOfDays <= 0) {
+			return null;
+		}
+		final var unit = resolution.getUnit();
+		if (unit != ChronoUnit.DAYS && unit != ChronoUnit.MONTHS) {
+			return null;
+		}
+		final var columns = this.columns.get(new Key(influxEdgeId, fromDate.getZone()));
+		if (columns == null) {
+			this.misses.incrementAndGet();
+			return null;
+		}
+
+		final var now = ZonedDateTime.now(this.clock);
+		final var start = fromDate.minusDays(1);
+		var day = start.truncatedTo(DurationUnit.ofDays(1));
+		if (day.isBefore(start)) {
+			day = day.plusDays(1);
+		}
+
+		final var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (; day.isBefore(toDate); day = day.plusDays(1)) {
+			final var epochDay = day.toLocalDate().toEpochDay();
+			final var isWritten = !day.plusDays(1).minusMinutes(WRITE_WINDOW_MINUTES).isAfter(now);
+			final var row = new TreeMap<ChannelAddress, JsonElement>();
+			for (var channel : channels) {
+				final var value = columns.get(epochDay, channel.toString());
+				if (!Double.isNaN(value)) {
+					row.put(channel, new JsonPrimitive(value));
+				}
+			}
+			if (row.isEmpty() && !isWritten) {
+				// not yet written; also not available in InfluxDB
+				continue;
+			}
+			if (row.size() != channels.size()) {
+				this.misses.incrementAndGet();
+				return null;
+			}
+			result.put(getKey(day, fromDate, unit), row);
+		}
+
+		if (result.isEmpty()) {
+			this.hits.incrementAndGet();
+			return Collections.emptySortedMap();
+		}
+		if (!result.firstKey().isBefore(fromDate)) {
+			// InfluxDB would additionally query the last value before 'fromDate'
+			this.misses.incrementAndGet();
+			return null;
+		}
+		this.hits.incrementAndGet();
+		return result;
+	}
+
+	private static ZonedDateTime getKey(ZonedDateTime day, ZonedDateTime fromDate, ChronoUnit unit) {
+		if (unit == ChronoUnit.MONTHS && day.isAfter(fromDate)) {
+			if (day.getMonthValue() == fromDate.getMonthValue() && day.getYear() == fromDate.getYear()) {
+				return fromDate.truncatedTo(DurationUnit.ofDays(1));
+			}
+			return day.withDayOfMonth(1);
+		}
+		return day;
+	}
+
+	/**
+	 * Gets the number of Edges and time zones with daily values.
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return this.columns.size();
+	}
+
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+}
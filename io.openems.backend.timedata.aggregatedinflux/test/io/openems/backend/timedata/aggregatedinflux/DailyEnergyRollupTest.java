@@ -0,0 +1,96 @@
+package io.openems.backend.timedata.aggregatedinflux;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.common.test.TimeLeapClock;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+public class DailyEnergyRollupTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+	private static final String CHANNEL = "_sum/ConsumptionActiveEnergy";
+	private static final ChannelAddress ADDRESS = new ChannelAddress("_sum", "ConsumptionActiveEnergy");
+	private static final Set<ChannelAddress> CHANNELS = Set.of(ADDRESS);
+	private static final Resolution DAYS = new Resolution(1, ChronoUnit.DAYS);
+	private static final Resolution MONTHS = new Resolution(1, ChronoUnit.MONTHS);
+
+	private static ZonedDateTime day(int month, int dayOfMonth) {
+		return ZonedDateTime.of(2023, month, dayOfMonth, 0, 0, 0, 0, ZONE);
+	}
+
+	private static DailyEnergyRollup createRollup(int numberOfDays) {
+		// 2023-02-10 12:00
+		final var clock = new TimeLeapClock(day(2, 10).plusHours(12).toInstant(), ZONE);
+		final var rollup = new DailyEnergyRollup(clock, numberOfDays);
+		// 2023-01-20 to 2023-02-09
+		for (var day = day(1, 20); day.isBefore(day(2, 10)); day = day.plusDays(1)) {
+			rollup.put(1, day, CHANNEL, day.getDayOfYear() * 100);
+		}
+		return rollup;
+	}
+
+	@Test
+	public void testDays() throws Exception {
+		final var rollup = createRollup(40);
+
+		final var result = rollup.getRawEnergyPerPeriod(1, day(2, 1), day(2, 5), CHANNELS, DAYS);
+		assertEquals(5, result.size());
+		assertEquals(day(1, 31), result.firstKey());
+		assertEquals(day(2, 4), result.lastKey());
+		assertEquals(3100, result.get(day(1, 31)).get(ADDRESS).getAsDouble(), 0);
+		assertEquals(1, rollup.getHits());
+
+		// today is not yet written
+		final var current = rollup.getRawEnergyPerPeriod(1, day(2, 1), day(3, 1), CHANNELS, DAYS);
+		assertEquals(day(2, 9), current.lastKey());
+	}
+
+	@Test
+	public void testMonths() throws Exception {
+		final var rollup = createRollup(40);
+
+		final var result = rollup.getRawEnergyPerPeriod(1, day(1, 25), day(2, 10), CHANNELS, MONTHS);
+		assertEquals(3, result.size());
+		assertEquals(2400, result.get(day(1, 24)).get(ADDRESS).getAsDouble(), 0);
+		assertEquals(3100, result.get(day(1, 25)).get(ADDRESS).getAsDouble(), 0);
+		assertEquals(4000, result.get(day(2, 1)).get(ADDRESS).getAsDouble(), 0);
+	}
+
+	@Test
+	public void testMissingValues() throws Exception {
+		final var rollup = createRollup(10);
+
+		// older than the kept days
+		assertNull(rollup.getRawEnergyPerPeriod(1, day(1, 25), day(2, 5), CHANNELS, DAYS));
+		// unknown Edge
+		assertNull(rollup.getRawEnergyPerPeriod(2, day(2, 1), day(2, 5), CHANNELS, DAYS));
+		// unknown Channel
+		assertNull(rollup.getRawEnergyPerPeriod(1, day(2, 1), day(2, 5),
+				Set.of(new ChannelAddress("_sum", "ProductionActiveEnergy")), DAYS));
+		// fine resolution
+		assertNull(rollup.getRawEnergyPerPeriod(1, day(2, 1), day(2, 5), CHANNELS,
+				new Resolution(15, ChronoUnit.MINUTES)));
+
+		assertNotNull(rollup.getRawEnergyPerPeriod(1, day(2, 1), day(2, 5), CHANNELS, DAYS));
+		assertEquals(3, rollup.getMisses());
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		final var rollup = createRollup(0);
+
+		assertNull(rollup.getRawEnergyPerPeriod(1, day(2, 1), day(2, 5), CHANNELS, DAYS));
+		assertEquals(0, rollup.size());
+	}
+
+}
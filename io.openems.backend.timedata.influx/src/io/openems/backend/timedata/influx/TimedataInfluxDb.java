@@ -1,6 +1,7 @@
 package io.openems.backend.timedata.influx;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Optional;
@@ -9,6 +10,7 @@ import java.util.SortedMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -94,7 +96,15 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				config.maxQueueSize(), //
 				(e) -> {
 					this.fieldTypeConflictHandler.handleException(e);
-				});
+				}, false /* disable safe write */, parseSpillDirectory(config.spillDirectory()),
+				config.maxSpillSize() * 1_000_000L);
+	}
+
+	private static Path parseSpillDirectory(String spillDirectory) {
+		if (spillDirectory == null || spillDirectory.isBlank()) {
+			return null;
+		}
+		return Path.of(spillDirectory);
 	}
 
 	@Deactivate
@@ -226,7 +236,7 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 						channelEntry.getValue());
 			}
 
-			this.influxConnector.write(point);
+			this.influxConnector.write(point, influxEdgeId);
 		}
 	}
 
@@ -445,7 +455,14 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return null;
+		final var influxConnector = this.influxConnector;
+		if (influxConnector == null) {
+			return null;
+		}
+		return influxConnector.debugMetrics().entrySet().stream() //
+				.collect(Collectors.toMap(//
+						entry -> this.config.id() + "/" + entry.getKey(), //
+						entry -> new JsonPrimitive(entry.getValue())));
 	}
 
 }
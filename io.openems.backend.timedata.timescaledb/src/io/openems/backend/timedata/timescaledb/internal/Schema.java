@@ -1,6 +1,7 @@
 package io.openems.backend.timedata.timescaledb.internal;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.OffsetDateTime;
@@ -166,6 +167,54 @@ public class Schema {
 		return this.getOrCreateEdgeChannel(con, edgeId, channelAddress, value, type);
 	}
 
+	/**
+	 * Gets the Channels for the given Channel-Addresses of one Edge. Adds them if
+	 * they were not existing before.
+	 * 
+	 * <p>
+	 * Uses one {@link PreparedStatement} for all Channels that are missing in the
+	 * Cache.
+	 * 
+	 * @param con              a database {@link Connection}, in case entries need
+	 *                         to be added
+	 * @param edgeId           the Edge-ID
+	 * @param channelAddresses map of Channel-Address to a {@link JsonElement}
+	 *                         sample value used for type detection
+	 * @return map of Channel-Address to {@link ChannelRecord}; Channels that are
+	 *         not in Cache and whose type cannot be detected are missing
+	 * @throws SQLException on error while adding
+	 */
+	public Map<String, ChannelRecord> getChannels(Connection con, String edgeId,
+			Map<String, JsonElement> channelAddresses) throws SQLException {
+		var result = new HashMap<String, ChannelRecord>();
+		PreparedStatement pst = null;
+		try {
+			for (var entry : channelAddresses.entrySet()) {
+				var channelAddress = entry.getKey();
+				// Cache-Lookup
+				var channel = this.getChannelFromCache(edgeId, channelAddress);
+				if (channel == null) {
+					// Missing in Cache -> add to database
+					var type = Type.detect(entry.getValue());
+					if (type == null) {
+						// unable to detect
+						continue;
+					}
+					if (pst == null) {
+						pst = prepareGetOrCreateEdgeChannel(con);
+					}
+					channel = this.getOrCreateEdgeChannel(pst, edgeId, channelAddress, type);
+				}
+				result.put(channelAddress, channel);
+			}
+		} finally {
+			if (pst != null) {
+				pst.close();
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Gets the {@link ChannelRecord} from local Cache.
 	 * 
@@ -192,9 +241,19 @@ public class Schema {
 	 */
 	private ChannelRecord getOrCreateEdgeChannel(Connection con, String edgeId, String channelAddress,
 			JsonElement value, Type type) throws SQLException {
-		var pst = con.prepareStatement("" //
+		try (var pst = prepareGetOrCreateEdgeChannel(con)) {
+			return this.getOrCreateEdgeChannel(pst, edgeId, channelAddress, type);
+		}
+	}
+
+	private static PreparedStatement prepareGetOrCreateEdgeChannel(Connection con) throws SQLException {
+		return con.prepareStatement("" //
 				+ "SELECT _channel_id, _channel_type, _priority, _available_since " //
 				+ "FROM openems_get_or_create_edge_channel_id(?, ?, ?, ?);");
+	}
+
+	private ChannelRecord getOrCreateEdgeChannel(PreparedStatement pst, String edgeId, String channelAddress,
+			Type type) throws SQLException {
 		pst.setString(1, edgeId);
 		var channelAddressArray = channelAddress.split("/");
 		pst.setString(2, channelAddressArray[0] /* Component-ID */);
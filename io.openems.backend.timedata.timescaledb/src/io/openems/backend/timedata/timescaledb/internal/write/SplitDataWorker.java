@@ -1,6 +1,11 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -9,6 +14,7 @@ import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Maps;
 import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
@@ -26,6 +32,11 @@ import io.openems.common.worker.AbstractImmediateWorker;
  * {@link SplitDataWorker} manages an internal Queue which can be filled via
  * {@link #addData(String, TreeBasedTable)}. The worker then splits the data
  * into typed queues for integer, float and string.
+ *
+ * <p>
+ * The worker blocks while the Queue is empty and handles all queued data in
+ * batches. Channels that are missing in the Cache are resolved asynchronously
+ * once per batch using a single database connection.
  */
 public class SplitDataWorker extends AbstractImmediateWorker {
 
@@ -39,6 +50,11 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 		}
 	}
 
+	/**
+	 * Maximum number of {@link WriteData} that are handled in one batch.
+	 */
+	private static final int MAX_DATA_PER_BATCH = 1_000;
+
 	private final Logger log = LoggerFactory.getLogger(SplitDataWorker.class);
 
 	private final HikariDataSource dataSource;
@@ -77,46 +93,123 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 			return;
 		}
 
-		if (this.sourceQueue.isEmpty()) {
-			return;
+		// Retrieve next elements of Queue; waits till an element is available.
+		var batch = new ArrayList<WriteData>();
+		batch.add(this.sourceQueue.take());
+		this.sourceQueue.drainTo(batch, MAX_DATA_PER_BATCH - 1);
+
+		// Channels that are missing in Cache, per Edge-ID
+		var unknownChannels = new HashMap<String, Map<String, Map<Long, JsonElement>>>();
+
+		for (var data : batch) {
+			for (var column : data.table.columnMap().entrySet()) {
+				// Cache-Lookup once per Channel
+				var channelAddress = column.getKey();
+				var channel = schema.getChannelFromCache(data.edgeId, channelAddress);
+				if (channel != null) {
+					// Channel exists in Cache -> immediately forward to typed queue
+					for (var cell : column.getValue().entrySet()) {
+						this.addToTypedQueue(channel, cell.getKey(), cell.getValue());
+					}
+
+				} else {
+					// Channel missing in Cache -> resolve later
+					unknownChannels //
+							.computeIfAbsent(data.edgeId, k -> new HashMap<>()) //
+							.computeIfAbsent(channelAddress, k -> new TreeMap<>()) //
+							.putAll(column.getValue());
+				}
+			}
 		}
 
-		// Retrieve next element in of Queue; waits till an element is available.
-		var data = this.sourceQueue.take();
+		if (!unknownChannels.isEmpty()) {
+			// Resolve all missing Channels of this batch async using one connection
+			this.executor.execute(() -> this.resolveUnknownChannels(schema, unknownChannels));
+		}
+	}
+
+	/**
+	 * Gets or creates the {@link ChannelRecord}s for Channels that are missing in
+	 * the Cache and forwards their values to the typed queues.
+	 * 
+	 * @param schema          the {@link Schema}
+	 * @param unknownChannels the values per Edge-ID, Channel-Address and timestamp
+	 */
+	private void resolveUnknownChannels(Schema schema,
+			Map<String, Map<String, Map<Long, JsonElement>>> unknownChannels) {
+		try (var con = this.dataSource.getConnection()) {
+			for (var edge : unknownChannels.entrySet()) {
+				this.resolveUnknownChannels(schema, con, edge.getKey(), edge.getValue());
+			}
+
+		} catch (SQLException e) {
+			this.log.error("Unable to get ChannelRecords for Channels of Edges " //
+					+ unknownChannels.keySet() + ": " + e.getMessage());
+		}
+	}
 
-		for (var cell : data.table.cellSet()) {
-			// Cache-Lookup
-			var channel = schema.getChannelFromCache(data.edgeId, cell.getColumnKey());
-			if (channel != null) {
-				// Channel exists in Cache -> immediately forward to typed queue
-				this.addToTypedQueue(channel, cell.getRowKey(), cell.getValue());
+	/**
+	 * Gets or creates the {@link ChannelRecord}s for Channels of one Edge.
+	 * 
+	 * <p>
+	 * If getting the Channels at once fails, they are retried one by one, so that
+	 * a single failing Channel does not drop the values of all other Channels.
+	 * 
+	 * @param schema   the {@link Schema}
+	 * @param con      the database {@link Connection}
+	 * @param edgeId   the Edge-ID
+	 * @param channels the values per Channel-Address and timestamp
+	 */
+	private void resolveUnknownChannels(Schema schema, Connection con, String edgeId,
+			Map<String, Map<Long, JsonElement>> channels) {
+		Map<String, ChannelRecord> channelRecords;
+		try {
+			channelRecords = schema.getChannels(con, edgeId, //
+					Maps.transformValues(channels, SplitDataWorker::getFirstNonNullValue));
+		} catch (SQLException e) {
+			this.log.warn("Unable to get ChannelRecords for Channels of Edge [" + edgeId
+					+ "]. Retrying one by one: " + e.getMessage());
+			channelRecords = null;
+		}
 
+		for (var channel : channels.entrySet()) {
+			var value = getFirstNonNullValue(channel.getValue());
+			ChannelRecord channelRecord = null;
+			String error = null;
+			if (channelRecords != null) {
+				channelRecord = channelRecords.get(channel.getKey());
 			} else {
-				// Channel missing in Cache -> async
-				this.executor.execute(() -> {
-					try (var con = this.dataSource.getConnection()) {
-						var channelRecord = schema.getChannel(con, data.edgeId, cell.getColumnKey(), cell.getValue());
-						if (channelRecord != null) {
-							// Ok -> add to queue
-							this.addToTypedQueue(channelRecord, cell.getRowKey(), cell.getValue());
-							return;
-						}
-
-						if (cell.getValue() != null && cell.getValue() != JsonNull.INSTANCE) {
-							// Error and value was not null
-							this.log.error("Unable to get ChannelRecord for Channel " //
-									+ "[" + data.edgeId + "/" + cell.getColumnKey() + "=" + cell.getValue() + "]");
-						}
-
-					} catch (SQLException e) {
-						this.log.error("Unable to get ChannelRecord for Channel " //
-								+ "[" + data.edgeId + "/" + cell.getColumnKey() + "=" + cell.getValue() + "]: "
-								+ e.getMessage());
-					}
-				});
+				try {
+					channelRecord = schema.getChannel(con, edgeId, channel.getKey(), value);
+				} catch (SQLException e) {
+					error = e.getMessage();
+				}
+			}
+
+			if (channelRecord != null) {
+				// Ok -> add to queue
+				for (var cell : channel.getValue().entrySet()) {
+					this.addToTypedQueue(channelRecord, cell.getKey(), cell.getValue());
+				}
+				continue;
+			}
+
+			if (value != JsonNull.INSTANCE) {
+				// Error and value was not null
+				this.log.error("Unable to get ChannelRecord for Channel " //
+						+ "[" + edgeId + "/" + channel.getKey() + "=" + value + "]" //
+						+ (error != null ? ": " + error : ""));
+			}
+		}
+	}
 
+	private static JsonElement getFirstNonNullValue(Map<Long, JsonElement> values) {
+		for (var value : values.values()) {
+			if (value != null && value != JsonNull.INSTANCE) {
+				return value;
 			}
 		}
+		return JsonNull.INSTANCE;
 	}
 
 	/**
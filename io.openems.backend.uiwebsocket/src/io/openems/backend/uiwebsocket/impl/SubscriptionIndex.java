@@ -0,0 +1,113 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indexes the UI sessions by websocket id and by subscribed Edge-ID.
+ *
+ * <p>
+ * Maintained on open, on SubscribeEdgesRequest and on close of a session, so
+ * that forwarding data of an Edge only touches the sessions that actually
+ * subscribed it.
+ */
+public class SubscriptionIndex {
+
+	private final ConcurrentHashMap<UUID, WsData> sessions = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Set<WsData>> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Adds a session.
+	 *
+	 * @param wsData the {@link WsData}
+	 */
+	public void add(WsData wsData) {
+		this.sessions.put(wsData.getId(), wsData);
+	}
+
+	/**
+	 * Removes a session and all its subscriptions.
+	 *
+	 * @param wsData          the {@link WsData}
+	 * @param subscribedEdges the currently subscribed Edge-IDs
+	 */
+	public void remove(WsData wsData, Set<String> subscribedEdges) {
+		this.sessions.remove(wsData.getId(), wsData);
+		for (var edgeId : subscribedEdges) {
+			this.unsubscribe(wsData, edgeId);
+		}
+	}
+
+	/**
+	 * Updates the subscriptions of a session.
+	 *
+	 * @param wsData     the {@link WsData}
+	 * @param oldEdgeIds the previously subscribed Edge-IDs
+	 * @param newEdgeIds the newly subscribed Edge-IDs
+	 */
+	public void update(WsData wsData, Set<String> oldEdgeIds, Set<String> newEdgeIds) {
+		for (var edgeId : oldEdgeIds) {
+			if (!newEdgeIds.contains(edgeId)) {
+				this.unsubscribe(wsData, edgeId);
+			}
+		}
+		for (var edgeId : newEdgeIds) {
+			if (!oldEdgeIds.contains(edgeId)) {
+				this.subscribe(wsData, edgeId);
+			}
+		}
+	}
+
+	private void subscribe(WsData wsData, String edgeId) {
+		this.subscribers.compute(edgeId, (id, set) -> {
+			if (set == null) {
+				set = ConcurrentHashMap.newKeySet();
+			}
+			set.add(wsData);
+			return set;
+		});
+	}
+
+	private void unsubscribe(WsData wsData, String edgeId) {
+		this.subscribers.computeIfPresent(edgeId, (id, set) -> {
+			set.remove(wsData);
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	/**
+	 * Gets the session with the given websocket id.
+	 *
+	 * @param id the websocket id
+	 * @return the {@link WsData}; null if there is no such session
+	 */
+	public WsData getSession(UUID id) {
+		return this.sessions.get(id);
+	}
+
+	/**
+	 * Gets the sessions that subscribed the given Edge-ID.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link WsData}s; empty if there are none
+	 */
+	public Set<WsData> getSubscribers(String edgeId) {
+		var result = this.subscribers.get(edgeId);
+		if (result == null) {
+			return Collections.emptySet();
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of Edge-IDs with at least one subscriber.
+	 *
+	 * @return the number of subscribed Edges
+	 */
+	public int getNumberOfSubscribedEdges() {
+		return this.subscribers.size();
+	}
+
+}
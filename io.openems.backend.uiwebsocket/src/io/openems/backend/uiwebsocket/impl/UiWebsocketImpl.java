@@ -1,8 +1,6 @@
 package io.openems.backend.uiwebsocket.impl;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -140,10 +138,9 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var wsDatas = this.getWsDatasForEdgeId(edgeId);
 		OpenemsNamedException exception = null;
-		for (WsData wsData : wsDatas) {
-			if (!wsData.isEdgeSubscribed(edgeId)) {
+		for (var wsData : this.server.subscriptionIndex.getSubscribers(edgeId)) {
+			if (!this.hasRole(wsData, edgeId)) {
 				continue;
 			}
 			try {
@@ -168,48 +165,33 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			throw new OpenemsException("Server is not yet fully initialized");
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData.getId().equals(websocketId)) {
-				return wsData;
-			}
+		var wsData = this.server.subscriptionIndex.getSession(websocketId);
+		if (wsData != null) {
+			return wsData;
 		}
 		throw OpenemsError.BACKEND_NO_UI_WITH_TOKEN.exception(websocketId);
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Does the authenticated User of the WebSocket connection have access to the
+	 * Edge-ID?.
 	 *
+	 * @param wsData the WebSocket attachment
 	 * @param edgeId the Edge-ID
-	 * @return the WsDatas; empty list if there are none
+	 * @return true if the User has a Role for the Edge
 	 */
-	private List<WsData> getWsDatasForEdgeId(String edgeId) {
-		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
-			}
-			// get attachment User-ID
-			var userIdOpt = wsData.getUserId();
-			if (userIdOpt.isPresent()) {
-				var userId = userIdOpt.get();
-				// get User for User-ID
-				var userOpt = this.metadata.getUser(userId);
-				if (userOpt.isPresent()) {
-					var user = userOpt.get();
-					var edgeRoleOpt = user.getRole(edgeId);
-					if (edgeRoleOpt.isPresent()) {
-						// User has access to this Edge-ID
-						result.add(wsData);
-					}
-				}
-			}
+	private boolean hasRole(WsData wsData, String edgeId) {
+		// get attachment User-ID
+		var userIdOpt = wsData.getUserId();
+		if (userIdOpt.isEmpty()) {
+			return false;
+		}
+		// get User for User-ID
+		var userOpt = this.metadata.getUser(userIdOpt.get());
+		if (userOpt.isEmpty()) {
+			return false;
 		}
-		return result;
+		return userOpt.get().getRole(edgeId).isPresent();
 	}
 
 	@Override
@@ -226,12 +208,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
-			}
+		for (var wsData : this.server.subscriptionIndex.getSubscribers(edgeId)) {
+			wsData.sendSubscribedChannels(edgeId, edgeCache);
 		}
 	}
 
@@ -274,6 +252,8 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		this.server.debugMetrics().forEach((key, value) -> {
 			metrics.put(this.getId() + "/" + key, new JsonPrimitive(value));
 		});
+		metrics.put(this.getId() + "/SubscribedEdges",
+				new JsonPrimitive(this.server.subscriptionIndex.getNumberOfSubscribedEdges()));
 
 		return metrics;
 	}
@@ -14,6 +14,7 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final Logger log = LoggerFactory.getLogger(WebsocketServer.class);
 
 	protected final UiWebsocketImpl parent;
+	protected final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
 	private final OnOpen onOpen;
 	private final OnRequest onRequest;
 	private final OnNotification onNotification;
@@ -32,7 +33,9 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
 	@Override
 	protected WsData createWsData() {
-		return new WsData(this);
+		var wsData = new WsData(this);
+		this.subscriptionIndex.add(wsData);
+		return wsData;
 	}
 
 	@Override
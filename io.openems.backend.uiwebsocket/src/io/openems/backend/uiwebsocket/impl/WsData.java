@@ -2,7 +2,6 @@ package io.openems.backend.uiwebsocket.impl;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -85,7 +84,9 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private Optional<String> userId = Optional.empty();
 	private Optional<String> token = Optional.empty();
 
-	private Set<String> subscribedEdges = new HashSet<>();
+	private volatile Set<String> subscribedEdges = Collections.emptySet();
+	// Guarded by 'this'; a disposed session must not be added to the SubscriptionIndex again
+	private boolean isDisposed = false;
 
 	public WsData(WebsocketServer parent) {
 		this.parent = parent;
@@ -195,9 +196,14 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 * 
 	 * @param edgeIds the edges to subscribe
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+		if (this.isDisposed) {
+			return;
+		}
 		// TODO maybe only add and remove on explicit request
-		this.subscribedEdges = edgeIds;
+		var newEdgeIds = Set.copyOf(edgeIds);
+		this.parent.subscriptionIndex.update(this, this.subscribedEdges, newEdgeIds);
+		this.subscribedEdges = newEdgeIds;
 	}
 
 	/**
@@ -240,4 +246,14 @@ public class WsData extends io.openems.common.websocket.WsData {
 		return this.id;
 	}
 
+	@Override
+	public void dispose() {
+		synchronized (this) {
+			this.isDisposed = true;
+			this.parent.subscriptionIndex.remove(this, this.subscribedEdges);
+			this.subscribedEdges = Collections.emptySet();
+		}
+		super.dispose();
+	}
+
 }
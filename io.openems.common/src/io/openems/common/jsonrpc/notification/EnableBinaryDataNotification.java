@@ -0,0 +1,74 @@
+package io.openems.common.jsonrpc.notification;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryDataEncoding;
+
+/**
+ * Sent from Backend to Edge to announce that data notifications
+ * ({@link AbstractDataNotification}) may be sent in the binary format of
+ * {@link BinaryDataEncoding} on this connection.
+ *
+ * <p>
+ * The Backend only sends this notification if the Edge advertised support via
+ * the {@link BinaryDataEncoding#HANDSHAKE_HEADER} handshake header.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "enableBinaryData",
+ *   "params": {
+ *     "version": number,
+ *     "compression": boolean
+ *   }
+ * }
+ * </pre>
+ */
+public class EnableBinaryDataNotification extends JsonrpcNotification {
+
+	public static final String METHOD = "enableBinaryData";
+
+	/**
+	 * Parses a {@link JsonrpcNotification} to a
+	 * {@link EnableBinaryDataNotification}.
+	 *
+	 * @param notification the {@link JsonrpcNotification}
+	 * @return the {@link EnableBinaryDataNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static EnableBinaryDataNotification from(JsonrpcNotification notification) throws OpenemsNamedException {
+		var params = notification.getParams();
+		return new EnableBinaryDataNotification(//
+				JsonUtils.getAsInt(params, "version"), //
+				JsonUtils.getAsBoolean(params, "compression"));
+	}
+
+	private final int version;
+	private final boolean compression;
+
+	public EnableBinaryDataNotification(int version, boolean compression) {
+		super(EnableBinaryDataNotification.METHOD);
+		this.version = version;
+		this.compression = compression;
+	}
+
+	public int getVersion() {
+		return this.version;
+	}
+
+	public boolean isCompression() {
+		return this.compression;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("version", this.version) //
+				.addProperty("compression", this.compression) //
+				.build();
+	}
+
+}
@@ -215,6 +215,25 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 		}
 	}
 
+	/**
+	 * Sends a binary message.
+	 *
+	 * @param bytes       the message
+	 * @param description a description of the message for error messages
+	 * @throws OpenemsException on error, e.g. if the websocket is not connected
+	 */
+	protected void sendBinaryOrError(byte[] bytes, String description) throws OpenemsException {
+		try {
+			this.ws.send(bytes);
+		} catch (Exception e) {
+			if (e instanceof WebsocketNotConnectedException) {
+				AbstractWebsocketClient.this.reconnectorWorker.triggerNextRun();
+			}
+			throw new OpenemsException(
+					"Unable to send binary message. " + e.getClass().getSimpleName() + ": " + description);
+		}
+	}
+
 	/**
 	 * Sends a JSON-RPC message. Returns true if sending was successful, otherwise
 	 * false. Also logs a warning in that case.
@@ -2,6 +2,7 @@ package io.openems.common.websocket;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -143,6 +144,29 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 				}
 			}
 
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer bytes) {
+				try {
+					final JsonrpcNotification message;
+					try {
+						message = AbstractWebsocketServer.this.handleBinaryMessage(ws, bytes);
+						if (message == null) {
+							// silently ignore 'null'
+							return;
+						}
+					} catch (OpenemsNamedException e) {
+						AbstractWebsocketServer.this.handleInternalErrorAsync(e, WebsocketUtils.getWsDataString(ws));
+						return;
+					}
+
+					AbstractWebsocketServer.this
+							.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws, message));
+
+				} catch (Throwable t) {
+					AbstractWebsocketServer.this.handleInternalErrorSync(t, WebsocketUtils.getWsDataString(ws));
+				}
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				try {
@@ -385,4 +409,17 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		throw new OpenemsException("Unhandled Non-JSON-RPC message", e);
 	}
 
+	/**
+	 * Handle binary messages, e.g. data notifications in
+	 * {@link BinaryDataEncoding}.
+	 *
+	 * @param ws    the {@link WebSocket}
+	 * @param bytes the message
+	 * @return message converted to {@link JsonrpcNotification}; or null
+	 * @throws OpenemsNamedException if conversion is not possible
+	 */
+	protected JsonrpcNotification handleBinaryMessage(WebSocket ws, ByteBuffer bytes) throws OpenemsNamedException {
+		throw new OpenemsException("Unhandled binary message");
+	}
+
 }
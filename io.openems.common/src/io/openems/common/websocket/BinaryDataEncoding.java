@@ -0,0 +1,407 @@
+package io.openems.common.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingConsumer;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.EnableBinaryDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Compact binary encoding for {@link AbstractDataNotification}s sent from Edge
+ * to Backend.
+ *
+ * <p>
+ * Channel-Addresses are sent only once per connection and referenced by a
+ * numeric id afterwards. Timestamps are delta-encoded varints and numeric
+ * values are sent in their binary representation. Larger messages are
+ * optionally compressed with {@link Deflater}.
+ *
+ * <p>
+ * The encoding is negotiated per connection: the Edge advertises support via
+ * the {@link #HANDSHAKE_HEADER} handshake header; the Backend answers with an
+ * {@link EnableBinaryDataNotification}. Edges and Backends without support keep
+ * using JSON.
+ *
+ * <pre>
+ * message    := version:byte flags:byte body             ; body is deflated if flags &amp; 0x01
+ * body       := type:byte
+ *               newEntries:varint {address:string}        ; appended to the dictionary
+ *               rows:varint {timestampDelta:zigzag-varint
+ *                            values:varint {id:varint value}}
+ * value      := tag:byte [payload]
+ * </pre>
+ *
+ * <p>
+ * {@link Encoder} and {@link Decoder} are stateful and must be created once per
+ * connection.
+ */
+public final class BinaryDataEncoding {
+
+	public static final String HANDSHAKE_HEADER = "X-OpenEMS-Binary-Data";
+	public static final int VERSION = 1;
+
+	private static final int FLAG_COMPRESSED = 0x01;
+
+	/**
+	 * Messages with a smaller body are never compressed.
+	 */
+	private static final int COMPRESSION_THRESHOLD = 256;
+
+	/**
+	 * Maximum size of an inflated body; protects against decompression bombs.
+	 */
+	protected static final int MAX_INFLATED_SIZE = 16 * 1024 * 1024;
+
+	private static final byte TYPE_TIMESTAMPED = 0;
+	private static final byte TYPE_AGGREGATED = 1;
+	private static final byte TYPE_RESEND = 2;
+
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_TRUE = 1;
+	private static final byte TAG_FALSE = 2;
+	private static final byte TAG_INTEGER = 3;
+	private static final byte TAG_FLOAT = 4;
+	private static final byte TAG_DOUBLE = 5;
+	private static final byte TAG_STRING = 6;
+	private static final byte TAG_JSON = 7;
+
+	private BinaryDataEncoding() {
+	}
+
+	/**
+	 * Encodes {@link AbstractDataNotification}s; holds the dictionary of
+	 * Channel-Addresses that were already sent on this connection.
+	 */
+	public static class Encoder {
+
+		private final boolean compression;
+		private final Map<String, Integer> dictionary = new HashMap<>();
+
+		public Encoder(boolean compression) {
+			this.compression = compression;
+		}
+
+		/**
+		 * Encodes a {@link AbstractDataNotification} and sends it.
+		 *
+		 * <p>
+		 * New Channel-Addresses are added to the dictionary only if sending was
+		 * successful, so that the dictionary stays in sync with the one of the
+		 * remote {@link Decoder}. Messages are sent in the order they are encoded.
+		 *
+		 * @param notification the {@link AbstractDataNotification}
+		 * @param send         sends the encoded message on the connection of this
+		 *                     {@link Encoder}
+		 * @throws OpenemsException if sending failed
+		 */
+		public synchronized void encode(AbstractDataNotification notification,
+				ThrowingConsumer<byte[], OpenemsException> send) throws OpenemsException {
+			final var data = notification.getData();
+			final var body = new ByteArrayOutputStream(64 + data.size() * 4);
+			body.write(getType(notification));
+
+			// New dictionary entries
+			var newEntries = new LinkedHashMap<String, Integer>();
+			for (var address : data.columnKeySet()) {
+				if (!this.dictionary.containsKey(address)) {
+					newEntries.put(address, this.dictionary.size() + newEntries.size());
+				}
+			}
+			writeVarLong(body, newEntries.size());
+			for (var address : newEntries.keySet()) {
+				writeString(body, address);
+			}
+
+			// Rows
+			var rows = data.rowMap();
+			writeVarLong(body, rows.size());
+			var lastTimestamp = 0L;
+			for (var row : rows.entrySet()) {
+				writeVarLong(body, zigZag(row.getKey() - lastTimestamp));
+				lastTimestamp = row.getKey();
+				writeVarLong(body, row.getValue().size());
+				for (var entry : row.getValue().entrySet()) {
+					var id = this.dictionary.get(entry.getKey());
+					writeVarLong(body, id != null ? id : newEntries.get(entry.getKey()));
+					writeValue(body, entry.getValue());
+				}
+			}
+
+			var bodyBytes = body.toByteArray();
+			var flags = 0;
+			if (this.compression && bodyBytes.length >= COMPRESSION_THRESHOLD) {
+				bodyBytes = deflate(bodyBytes);
+				flags |= FLAG_COMPRESSED;
+			}
+			var result = new byte[bodyBytes.length + 2];
+			result[0] = VERSION;
+			result[1] = (byte) flags;
+			System.arraycopy(bodyBytes, 0, result, 2, bodyBytes.length);
+
+			send.accept(result);
+			this.dictionary.putAll(newEntries);
+		}
+	}
+
+	/**
+	 * Decodes binary messages created by an {@link Encoder}; holds the dictionary
+	 * of Channel-Addresses that were received on this connection.
+	 */
+	public static class Decoder {
+
+		private final List<String> dictionary = new ArrayList<>();
+
+		/**
+		 * Decodes a binary message.
+		 *
+		 * @param message the message
+		 * @return the {@link AbstractDataNotification}
+		 * @throws OpenemsException on error
+		 */
+		public synchronized AbstractDataNotification decode(ByteBuffer message) throws OpenemsException {
+			try {
+				if (message.remaining() < 2) {
+					throw new OpenemsException("Binary message is too short");
+				}
+				var version = message.get();
+				if (version != VERSION) {
+					throw new OpenemsException("Unsupported binary message version [" + version + "]");
+				}
+				var flags = message.get();
+				var body = (flags & FLAG_COMPRESSED) != 0 ? inflate(message) : message;
+
+				var type = body.get();
+				var newEntries = readCount(body);
+				for (var i = 0; i < newEntries; i++) {
+					this.dictionary.add(readString(body));
+				}
+
+				var data = TreeBasedTable.<Long, String, JsonElement>create();
+				var rows = readCount(body);
+				var timestamp = 0L;
+				for (var i = 0; i < rows; i++) {
+					timestamp += unZigZag(readVarLong(body));
+					var values = readCount(body);
+					for (var j = 0; j < values; j++) {
+						var id = readVarLong(body);
+						if (id < 0 || id >= this.dictionary.size()) {
+							throw new OpenemsException("Unknown Channel-Address id [" + id + "]");
+						}
+						data.put(timestamp, this.dictionary.get((int) id), readValue(body));
+					}
+				}
+
+				return switch (type) {
+				case TYPE_TIMESTAMPED -> new TimestampedDataNotification(data);
+				case TYPE_AGGREGATED -> new AggregatedDataNotification(data);
+				case TYPE_RESEND -> new ResendDataNotification(data);
+				default -> throw new OpenemsException("Unknown binary message type [" + type + "]");
+				};
+
+			} catch (RuntimeException | DataFormatException e) {
+				throw new OpenemsException("Unable to decode binary message. " + e.getClass().getSimpleName() + ": "
+						+ e.getMessage());
+			}
+		}
+	}
+
+	private static byte getType(AbstractDataNotification notification) {
+		if (notification instanceof TimestampedDataNotification) {
+			return TYPE_TIMESTAMPED;
+		} else if (notification instanceof AggregatedDataNotification) {
+			return TYPE_AGGREGATED;
+		} else if (notification instanceof ResendDataNotification) {
+			return TYPE_RESEND;
+		}
+		throw new IllegalArgumentException("Unsupported notification [" + notification.getMethod() + "]");
+	}
+
+	private static void writeValue(ByteArrayOutputStream out, JsonElement value) {
+		if (value == null || value.isJsonNull()) {
+			out.write(TAG_NULL);
+			return;
+		}
+		if (value.isJsonPrimitive()) {
+			var p = value.getAsJsonPrimitive();
+			if (p.isBoolean()) {
+				out.write(p.getAsBoolean() ? TAG_TRUE : TAG_FALSE);
+				return;
+			}
+			if (p.isString()) {
+				out.write(TAG_STRING);
+				writeString(out, p.getAsString());
+				return;
+			}
+			var number = p.getAsNumber();
+			if (number instanceof Integer || number instanceof Long || number instanceof Short
+					|| number instanceof Byte) {
+				out.write(TAG_INTEGER);
+				writeVarLong(out, zigZag(number.longValue()));
+				return;
+			}
+			if (number instanceof Float f) {
+				out.write(TAG_FLOAT);
+				writeInt(out, Float.floatToIntBits(f));
+				return;
+			}
+			if (number instanceof Double d) {
+				out.write(TAG_DOUBLE);
+				writeLong(out, Double.doubleToLongBits(d));
+				return;
+			}
+			// e.g. LazilyParsedNumber
+			var decimal = new BigDecimal(number.toString());
+			if (decimal.scale() <= 0 && decimal.toBigInteger().bitLength() < 64) {
+				out.write(TAG_INTEGER);
+				writeVarLong(out, zigZag(decimal.longValue()));
+				return;
+			}
+		}
+		out.write(TAG_JSON);
+		writeString(out, value.toString());
+	}
+
+	private static JsonElement readValue(ByteBuffer in) {
+		var tag = in.get();
+		return switch (tag) {
+		case TAG_NULL -> JsonNull.INSTANCE;
+		case TAG_TRUE -> new JsonPrimitive(true);
+		case TAG_FALSE -> new JsonPrimitive(false);
+		case TAG_INTEGER -> new JsonPrimitive(unZigZag(readVarLong(in)));
+		case TAG_FLOAT -> new JsonPrimitive(Float.intBitsToFloat(in.getInt()));
+		case TAG_DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(in.getLong()));
+		case TAG_STRING -> new JsonPrimitive(readString(in));
+		case TAG_JSON -> {
+			try {
+				yield JsonParser.parseString(readString(in));
+			} catch (JsonSyntaxException e) {
+				throw new IllegalArgumentException(e.getMessage());
+			}
+		}
+		default -> throw new IllegalArgumentException("Unknown value tag [" + tag + "]");
+		};
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarLong(ByteBuffer in) {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			var b = in.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IllegalArgumentException("Malformed varint");
+	}
+
+	private static int readCount(ByteBuffer in) {
+		var count = readVarLong(in);
+		if (count < 0 || count > in.remaining()) {
+			throw new IllegalArgumentException("Invalid count [" + count + "]");
+		}
+		return (int) count;
+	}
+
+	private static void writeInt(ByteArrayOutputStream out, int value) {
+		out.write(value >>> 24);
+		out.write(value >>> 16);
+		out.write(value >>> 8);
+		out.write(value);
+	}
+
+	private static void writeLong(ByteArrayOutputStream out, long value) {
+		writeInt(out, (int) (value >>> 32));
+		writeInt(out, (int) value);
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static String readString(ByteBuffer in) {
+		var length = readCount(in);
+		var bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] deflate(byte[] input) {
+		var deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(input);
+			deflater.finish();
+			var out = new ByteArrayOutputStream(input.length / 2 + 16);
+			var buffer = new byte[4096];
+			while (!deflater.finished()) {
+				var length = deflater.deflate(buffer);
+				out.write(buffer, 0, length);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static ByteBuffer inflate(ByteBuffer input) throws DataFormatException {
+		var inflater = new Inflater();
+		try {
+			inflater.setInput(input);
+			var out = new ByteArrayOutputStream(Math.min(input.remaining() * 4, MAX_INFLATED_SIZE));
+			var buffer = new byte[4096];
+			while (!inflater.finished()) {
+				var length = inflater.inflate(buffer);
+				if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new DataFormatException("Truncated compressed data");
+				}
+				if (out.size() + length > MAX_INFLATED_SIZE) {
+					throw new DataFormatException("Inflated data exceeds [" + MAX_INFLATED_SIZE + "] bytes");
+				}
+				out.write(buffer, 0, length);
+			}
+			return ByteBuffer.wrap(out.toByteArray());
+		} finally {
+			inflater.end();
+		}
+	}
+
+}
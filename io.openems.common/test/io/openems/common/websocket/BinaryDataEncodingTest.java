@@ -0,0 +1,136 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.JsonUtils;
+
+public class BinaryDataEncodingTest {
+
+	private static final long TIMESTAMP = 1_700_000_000_000L;
+
+	private static TimestampedDataNotification createNotification(int cycle, int channels) {
+		var notification = new TimestampedDataNotification();
+		for (var i = 0; i < channels; i++) {
+			notification.add(TIMESTAMP + cycle * 1000L, "component" + i / 50 + "/Channel" + i,
+					new JsonPrimitive(cycle * 7 + i));
+		}
+		return notification;
+	}
+
+	@Test
+	public void testRoundtrip() throws OpenemsException {
+		var encoder = new BinaryDataEncoding.Encoder(true);
+		var decoder = new BinaryDataEncoding.Decoder();
+
+		var notification = new TimestampedDataNotification();
+		notification.add(TIMESTAMP, "_sum/State", new JsonPrimitive(0));
+		notification.add(TIMESTAMP, "_sum/EssSoc", new JsonPrimitive(-55L));
+		notification.add(TIMESTAMP, "_meta/Version", new JsonPrimitive("2023.10.1"));
+		notification.add(TIMESTAMP, "ess0/Float", new JsonPrimitive(1.5F));
+		notification.add(TIMESTAMP, "ess0/Double", new JsonPrimitive(0.1));
+		notification.add(TIMESTAMP, "ess0/Boolean", new JsonPrimitive(true));
+		notification.add(TIMESTAMP, "ess0/Null", JsonNull.INSTANCE);
+		notification.add(TIMESTAMP + 1000, "_sum/State", new JsonPrimitive(1));
+		notification.add(TIMESTAMP + 1000, "ess0/Object", JsonUtils.buildJsonObject() //
+				.addProperty("foo", "bar") //
+				.build());
+
+		var decoded = decoder.decode(ByteBuffer.wrap(encode(encoder, notification)));
+		assertTrue(decoded instanceof TimestampedDataNotification);
+		assertEquals(notification.getData(), decoded.getData());
+
+		// Dictionary is reused
+		var aggregated = new AggregatedDataNotification();
+		aggregated.add(TIMESTAMP, "_sum/State", new JsonPrimitive(2));
+		var bytes = encode(encoder, aggregated);
+		assertTrue(bytes.length < 16);
+		decoded = decoder.decode(ByteBuffer.wrap(bytes));
+		assertTrue(decoded instanceof AggregatedDataNotification);
+		assertEquals(aggregated.getData(), decoded.getData());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testUnknownDictionaryEntry() throws OpenemsException {
+		var encoder = new BinaryDataEncoding.Encoder(false);
+		encode(encoder, createNotification(0, 10));
+		// Decoder did not receive the first message
+		new BinaryDataEncoding.Decoder().decode(ByteBuffer.wrap(encode(encoder, createNotification(1, 10))));
+	}
+
+	@Test
+	public void testFailedSend() throws OpenemsException {
+		var encoder = new BinaryDataEncoding.Encoder(false);
+		var decoder = new BinaryDataEncoding.Decoder();
+		try {
+			encoder.encode(createNotification(0, 10), bytes -> {
+				throw new OpenemsException("Unable to send");
+			});
+			fail();
+		} catch (OpenemsException e) {
+			// expected
+		}
+
+		// Dictionary entries of the failed message are sent again
+		var notification = createNotification(1, 10);
+		assertEquals(notification.getData(), decoder.decode(ByteBuffer.wrap(encode(encoder, notification))).getData());
+	}
+
+	@Test(expected = OpenemsException.class)
+	public void testMaxInflatedSize() throws OpenemsException {
+		var deflater = new Deflater();
+		deflater.setInput(new byte[BinaryDataEncoding.MAX_INFLATED_SIZE + 1]);
+		deflater.finish();
+		var message = ByteBuffer.allocate(BinaryDataEncoding.MAX_INFLATED_SIZE / 100);
+		message.put((byte) BinaryDataEncoding.VERSION).put((byte) 0x01);
+		var buffer = new byte[4096];
+		while (!deflater.finished()) {
+			message.put(buffer, 0, deflater.deflate(buffer));
+		}
+		deflater.end();
+		new BinaryDataEncoding.Decoder().decode(message.flip());
+	}
+
+	/**
+	 * Compares bytes-on-wire of JSON and binary encoding for a typical sequence
+	 * of messages.
+	 */
+	@Test
+	public void testSize() throws OpenemsException {
+		var encoder = new BinaryDataEncoding.Encoder(true);
+		var decoder = new BinaryDataEncoding.Decoder();
+		var jsonBytes = 0L;
+		var binaryBytes = 0L;
+		for (var cycle = 0; cycle < 100; cycle++) {
+			var notification = createNotification(cycle, 500);
+			jsonBytes += notification.toString().getBytes(StandardCharsets.UTF_8).length;
+			var bytes = encode(encoder, notification);
+			binaryBytes += bytes.length;
+			assertEquals(notification.getData(), decoder.decode(ByteBuffer.wrap(bytes)).getData());
+		}
+		assertTrue("JSON [" + jsonBytes + "] Binary [" + binaryBytes + "]", binaryBytes * 5 < jsonBytes);
+	}
+
+	private static byte[] encode(BinaryDataEncoding.Encoder encoder, AbstractDataNotification notification)
+			throws OpenemsException {
+		var result = new AtomicReference<byte[]>();
+		encoder.encode(notification, result::set);
+		return result.get();
+	}
+
+}
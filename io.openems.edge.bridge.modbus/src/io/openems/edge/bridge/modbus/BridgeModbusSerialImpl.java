@@ -90,6 +90,7 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 		this.databits = config.databits();
 		this.stopbits = config.stopbits();
 		this.parity = config.parity();
+		this.worker.setMergeReadTasks(config.mergeReadTasksMaxGap(), config.mergeReadTasksMaxLength());
 	}
 
 	@Override
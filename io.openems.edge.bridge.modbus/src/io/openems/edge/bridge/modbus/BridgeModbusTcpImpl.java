@@ -2,6 +2,9 @@ package io.openems.edge.bridge.modbus;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -22,12 +25,18 @@ import io.openems.common.utils.InetAddressUtils;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
+import io.openems.edge.bridge.modbus.api.worker.internal.ReadTasksExecutor;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 
 /**
  * Provides a service for connecting to, querying and writing to a Modbus/TCP
  * device.
+ *
+ * <p>
+ * If more than one connection is configured, Read-Tasks are executed in
+ * parallel, each thread of the {@link ReadTasksExecutor} using its own
+ * connection.
  */
 @Designate(ocd = ConfigTcp.class, factory = true)
 @Component(//
@@ -43,8 +52,15 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler {
 
 	/** The configured IP address. */
-	private InetAddress ipAddress = null;
-	private int port;
+	private volatile InetAddress ipAddress = null;
+	private volatile int port;
+
+	/**
+	 * One connection per {@link ReadTasksExecutor} thread. Each slot is locked on
+	 * its own while connecting, so that an unreachable device only blocks the
+	 * thread that uses the connection.
+	 */
+	private volatile List<AtomicReference<TCPMasterConnection>> connections = createConnections(1);
 
 	public BridgeModbusTcpImpl() {
 		super(//
@@ -69,9 +85,17 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		this.closeModbusConnection();
 	}
 
-	private void applyConfig(ConfigTcp config) {
+	private synchronized void applyConfig(ConfigTcp config) {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		var connections = Math.max(1, config.connections());
+		if (connections != this.connections.size()) {
+			var oldConnections = this.connections;
+			this.connections = createConnections(connections);
+			oldConnections.forEach(BridgeModbusTcpImpl::close);
+		}
+		this.worker.setParallelism(connections);
+		this.worker.setMergeReadTasks(config.mergeReadTasksMaxGap(), config.mergeReadTasksMaxLength());
 	}
 
 	@Override
@@ -80,14 +104,35 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		super.deactivate();
 	}
 
+	/**
+	 * Closes the connection of the current {@link ReadTasksExecutor} thread, or
+	 * all connections if called from any other thread.
+	 */
 	@Override
 	public void closeModbusConnection() {
-		if (this._connection != null) {
-			this._connection.close();
-			this._connection = null;
+		var connections = this.connections;
+		var index = ReadTasksExecutor.getConnectionIndex();
+		if (index < 0) {
+			connections.forEach(BridgeModbusTcpImpl::close);
+		} else {
+			close(connections.get(index % connections.size()));
+		}
+	}
+
+	private static void close(AtomicReference<TCPMasterConnection> slot) {
+		// Does not wait for a concurrent connect(); that connection fails on its next use
+		var connection = slot.getAndSet(null);
+		if (connection != null) {
+			connection.close();
 		}
 	}
 
+	private static List<AtomicReference<TCPMasterConnection>> createConnections(int size) {
+		return IntStream.range(0, size) //
+				.mapToObj(i -> new AtomicReference<TCPMasterConnection>()) //
+				.toList();
+	}
+
 	@Override
 	public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
 		var connection = this.getModbusConnection();
@@ -96,27 +141,31 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return transaction;
 	}
 
-	private TCPMasterConnection _connection = null;
-
-	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
-		if (this._connection == null) {
-			/*
-			 * create new connection
-			 */
-			var connection = new TCPMasterConnection(this.getIpAddress());
-			connection.setPort(this.port);
-			this._connection = connection;
-		}
-		if (!this._connection.isConnected()) {
-			try {
-				this._connection.connect();
-			} catch (Exception e) {
-				throw new OpenemsException(
-						"Connection to [" + this.getIpAddress().getHostAddress() + "] failed: " + e.getMessage());
+	private TCPMasterConnection getModbusConnection() throws OpenemsException {
+		var connections = this.connections;
+		// Sequential execution uses the first connection
+		var slot = connections.get(Math.max(0, ReadTasksExecutor.getConnectionIndex()) % connections.size());
+		synchronized (slot) {
+			var connection = slot.get();
+			if (connection == null) {
+				/*
+				 * create new connection
+				 */
+				connection = new TCPMasterConnection(this.getIpAddress());
+				connection.setPort(this.port);
+				slot.set(connection);
+			}
+			if (!connection.isConnected()) {
+				try {
+					connection.connect();
+				} catch (Exception e) {
+					throw new OpenemsException(
+							"Connection to [" + this.getIpAddress().getHostAddress() + "] failed: " + e.getMessage());
+				}
+				connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
 			}
-			this._connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
+			return connection;
 		}
-		return this._connection;
 	}
 
 	@Override
@@ -42,5 +42,11 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Merge read tasks: max gap", description = "Merge neighbouring high priority read tasks of a device if they are separated by at most this number of registers; -1 = do not merge.")
+	int mergeReadTasksMaxGap() default -1;
+
+	@AttributeDefinition(name = "Merge read tasks: max length", description = "Maximum number of registers read by one merged request (up to 125).")
+	int mergeReadTasksMaxLength() default 125;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -9,15 +10,24 @@ import org.osgi.service.event.EventHandler;
 
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
+import io.openems.edge.bridge.modbus.jsonrpc.GetModbusTaskStatisticsRequest;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.jsonapi.JsonApi;
+import io.openems.edge.common.user.User;
 
 /**
  * Abstract service for connecting to, querying and writing to a Modbus device.
  */
-public abstract class AbstractModbusBridge extends AbstractOpenemsComponent implements BridgeModbus, EventHandler {
+public abstract class AbstractModbusBridge extends AbstractOpenemsComponent
+		implements BridgeModbus, EventHandler, JsonApi {
 
 	/**
 	 * Default Modbus timeout in [ms].
@@ -47,6 +57,8 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 			state -> this._setCycleTimeIsTooShort(state),
 			// Set ChannelId.CYCLE_DELAY
 			cycleDelay -> this._setCycleDelay(cycleDelay),
+			// Set ChannelId.EXECUTION_TIME
+			executionTime -> this._setExecutionTime(executionTime),
 			// LogVerbosity
 			this.logVerbosity //
 	);
@@ -137,6 +149,18 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		}
 	}
 
+	@Override
+	public CompletableFuture<JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("handleJsonrpcRequest", Role.ADMIN);
+		switch (request.getMethod()) {
+		case GetModbusTaskStatisticsRequest.METHOD:
+			return CompletableFuture.completedFuture(
+					new GenericJsonrpcResponseSuccess(request.getId(), this.worker.getTaskStatistics()));
+		}
+		return null;
+	}
+
 	@Override
 	public String debugLog() {
 		return switch (this.logVerbosity.get()) {
@@ -2,6 +2,7 @@ package io.openems.edge.bridge.modbus.api;
 
 import static io.openems.edge.bridge.modbus.api.ElementToChannelConverter.DIRECT_1_TO_1;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -23,6 +24,9 @@ import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.DoubleReadChannel;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -326,6 +330,8 @@ public abstract class AbstractOpenemsModbusComponent extends AbstractOpenemsComp
 			 */
 			// This is guaranteed to work because of sealed abstract classes
 			((AbstractModbusElement<?, ?, ?>) this.element).onUpdateCallback(value -> { //
+				// All Channels share the timestamp of this update
+				var timestamp = LocalDateTime.now();
 				/*
 				 * Applies the updated value on every Channel in ChannelMaps using the given
 				 * Converter. If the converter returns an Optional.empty, the value is ignored.
@@ -337,7 +343,7 @@ public abstract class AbstractOpenemsModbusComponent extends AbstractOpenemsComp
 					} catch (IllegalArgumentException e) {
 						throw new IllegalArgumentException("Conversion for [" + channel.channelId() + "] failed", e);
 					}
-					channel.setNextValue(convertedValue);
+					setNextValue(channel, convertedValue, timestamp);
 				});
 			});
 
@@ -388,6 +394,26 @@ public abstract class AbstractOpenemsModbusComponent extends AbstractOpenemsComp
 		}
 	}
 
+	/**
+	 * Sets the next value of a Channel; uses the primitive setters of numeric
+	 * Channels if the value has the matching type.
+	 *
+	 * @param channel   the {@link Channel}
+	 * @param value     the value
+	 * @param timestamp the timestamp of the value
+	 */
+	private static void setNextValue(Channel<?> channel, Object value, LocalDateTime timestamp) {
+		if (value instanceof Integer v && channel instanceof IntegerReadChannel c) {
+			c.setNextValue(v.intValue(), timestamp);
+		} else if (value instanceof Long v && channel instanceof LongReadChannel c) {
+			c.setNextValue(v.longValue(), timestamp);
+		} else if (value instanceof Double v && channel instanceof DoubleReadChannel c) {
+			c.setNextValue(v.doubleValue(), timestamp);
+		} else {
+			channel.setNextValue(value);
+		}
+	}
+
 	/**
 	 * Creates a ChannelMapper that can be used with builder pattern inside the
 	 * protocol definition.
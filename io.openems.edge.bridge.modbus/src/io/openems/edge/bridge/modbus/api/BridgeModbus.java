@@ -23,6 +23,11 @@ public interface BridgeModbus extends OpenemsComponent {
 		 * can be reduced by this amount, without causing CYCLE_TIME_IS_TOO_SHORT.
 		 */
 		CYCLE_DELAY(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Sum of the execution times of all Modbus Tasks in the previous Cycle.
+		 */
+		EXECUTION_TIME(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS)); //
 
 		private final Doc doc;
@@ -94,6 +99,34 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getCycleDelayChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#EXECUTION_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getExecutionTimeChannel() {
+		return this.channel(ChannelId.EXECUTION_TIME);
+	}
+
+	/**
+	 * Gets the Execution Time in [ms], see {@link ChannelId#EXECUTION_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getExecutionTime() {
+		return this.getExecutionTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#EXECUTION_TIME}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setExecutionTime(long value) {
+		this.getExecutionTimeChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
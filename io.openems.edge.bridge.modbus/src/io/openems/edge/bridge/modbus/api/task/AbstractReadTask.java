@@ -33,6 +33,8 @@ public abstract class AbstractReadTask<//
 	private final Priority priority;
 	private final Class<?> elementClazz;
 
+	private volatile Exception lastError = null;
+
 	public AbstractReadTask(String name, Class<RESPONSE> responseClazz, Class<ELEMENT> elementClazz, int startAddress,
 			Priority priority, ModbusElement... elements) {
 		super(name, responseClazz, startAddress, elements);
@@ -55,9 +57,12 @@ public abstract class AbstractReadTask<//
 				logError(this.log, e1, "Parsing Response failed.");
 				throw e1;
 			}
+			this.lastError = null;
 			return ExecuteState.OK;
 
 		} catch (Exception e) {
+			this.lastError = e;
+
 			// Invalidate Elements
 			Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
 
@@ -65,6 +70,15 @@ public abstract class AbstractReadTask<//
 		}
 	}
 
+	/**
+	 * Gets the error of the last execution.
+	 *
+	 * @return the {@link Exception}; null if the last execution was successful
+	 */
+	public Exception getLastError() {
+		return this.lastError;
+	}
+
 	/**
 	 * Verify length of response array.
 	 * 
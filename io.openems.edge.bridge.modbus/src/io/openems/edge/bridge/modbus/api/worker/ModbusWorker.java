@@ -1,20 +1,28 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.google.common.base.Stopwatch;
+import com.google.gson.JsonObject;
+
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasksManager;
 import io.openems.edge.bridge.modbus.api.worker.internal.DefectiveComponents;
+import io.openems.edge.bridge.modbus.api.worker.internal.ReadTasksExecutor;
+import io.openems.edge.bridge.modbus.api.worker.internal.TaskStatistics;
 import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
 
 /**
@@ -28,17 +36,27 @@ import io.openems.edge.bridge.modbus.api.worker.internal.TasksSupplierImpl;
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event). For this it uses a
  * {@link CycleTasksManager} that internally uses a {@link TasksSupplierImpl}
  * that supplies the tasks for one Cycle ({@link CycleTasks}).
+ *
+ * <p>
+ * If a parallelism &gt; 1 is set via {@link #setParallelism(int)}, Read-Tasks
+ * are executed in parallel by a {@link ReadTasksExecutor}. All other Tasks are
+ * executed sequentially after all pending Read-Tasks have finished.
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
 	// Callbacks
 	private final Function<Task, ExecuteState> execute;
 	private final Consumer<ModbusElement[]> invalidate;
+	private final Consumer<Long> executionTimeChannel;
 
 	private final DefectiveComponents defectiveComponents;
+	private final TaskStatistics statistics;
 	private final TasksSupplierImpl tasksSupplier;
 	private final CycleTasksManager cycleTasksManager;
 
+	private volatile int parallelism = 1;
+	private volatile ReadTasksExecutor readTasksExecutor = null;
+
 	/**
 	 * Constructor for {@link ModbusWorker}.
 	 * 
@@ -52,26 +70,57 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 * @param cycleDelayChannel          sets the
 	 *                                   {@link BridgeModbus.ChannelId#CYCLE_DELAY}
 	 *                                   channel
+	 * @param executionTimeChannel       sets the
+	 *                                   {@link BridgeModbus.ChannelId#EXECUTION_TIME}
+	 *                                   channel
 	 * @param logVerbosity               the configured {@link LogVerbosity}
 	 */
 	public ModbusWorker(Function<Task, ExecuteState> execute, Consumer<ModbusElement[]> invalidate,
 			Consumer<Boolean> cycleTimeIsTooShortChannel, Consumer<Long> cycleDelayChannel,
-			AtomicReference<LogVerbosity> logVerbosity) {
+			Consumer<Long> executionTimeChannel, AtomicReference<LogVerbosity> logVerbosity) {
 		this.execute = execute;
 		this.invalidate = invalidate;
+		this.executionTimeChannel = executionTimeChannel;
 
 		this.defectiveComponents = new DefectiveComponents(logVerbosity);
-		this.tasksSupplier = new TasksSupplierImpl();
+		this.statistics = new TaskStatistics();
+		this.tasksSupplier = new TasksSupplierImpl(this.statistics);
 		this.cycleTasksManager = new CycleTasksManager(this.tasksSupplier, this.defectiveComponents,
 				cycleTimeIsTooShortChannel, cycleDelayChannel, logVerbosity);
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
+		var readTasksExecutor = this.getReadTasksExecutor();
+		if (readTasksExecutor == null) {
+			this.execute(this.cycleTasksManager.getNextTask());
+			return;
+		}
+
+		if (!this.cycleTasksManager.hasNextReadTask()) {
+			// Wait-Tasks and the end of the Cycle have to wait for pending Read-Tasks
+			readTasksExecutor.awaitIdle();
+		}
 		var task = this.cycleTasksManager.getNextTask();
+		if (task instanceof ReadTask) {
+			readTasksExecutor.execute(() -> this.execute(task));
+		} else {
+			// State might have changed in-between, e.g. on EXECUTE_WRITE event
+			readTasksExecutor.awaitIdle();
+			this.execute(task);
+		}
+	}
 
-		// execute the task
+	private void execute(Task task) {
+		if (task instanceof WaitTask) {
+			this.execute.apply(task);
+			return;
+		}
+
+		// execute the task and record its execution time
+		var stopwatch = Stopwatch.createStarted();
 		var result = this.execute.apply(task);
+		this.statistics.record(task, stopwatch.elapsed(TimeUnit.MILLISECONDS));
 
 		switch (result) {
 		case OK -> {
@@ -89,7 +138,46 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		case NO_OP -> {
 		}
 		}
+	}
 
+	/**
+	 * Gets the {@link ReadTasksExecutor} for the configured parallelism; creates
+	 * or replaces it if required. This is called by the worker thread only.
+	 *
+	 * @return the {@link ReadTasksExecutor}; null for sequential execution
+	 * @throws InterruptedException on interrupt
+	 */
+	private ReadTasksExecutor getReadTasksExecutor() throws InterruptedException {
+		var parallelism = this.parallelism;
+		var readTasksExecutor = this.readTasksExecutor;
+		if (readTasksExecutor != null && readTasksExecutor.getParallelism() != parallelism) {
+			readTasksExecutor.awaitIdle();
+			readTasksExecutor.shutdown();
+			readTasksExecutor = null;
+		}
+		if (readTasksExecutor == null && parallelism > 1) {
+			readTasksExecutor = new ReadTasksExecutor(Thread.currentThread().getName(), parallelism);
+		}
+		this.readTasksExecutor = readTasksExecutor;
+		return readTasksExecutor;
+	}
+
+	/**
+	 * Sets the number of Read-Tasks that may be executed in parallel.
+	 *
+	 * @param parallelism the parallelism; 1 for sequential execution
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(1, parallelism);
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		var readTasksExecutor = this.readTasksExecutor;
+		if (readTasksExecutor != null) {
+			readTasksExecutor.shutdown();
+		}
 	}
 
 	/**
@@ -137,6 +225,18 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	public void removeProtocol(String sourceId) {
 		this.tasksSupplier.removeProtocol(sourceId);
 		this.defectiveComponents.remove(sourceId); // Cleanup
+		this.statistics.removeComponent(sourceId);
+	}
+
+	/**
+	 * Configures the merging of neighbouring HIGH priority Read-Tasks.
+	 *
+	 * @param maxGap    maximum number of unused registers between two tasks; -1
+	 *                  to disable merging
+	 * @param maxLength maximum number of registers of a merged task
+	 */
+	public void setMergeReadTasks(int maxGap, int maxLength) {
+		this.tasksSupplier.setMergeReadTasks(maxGap, maxLength);
 	}
 
 	/**
@@ -162,6 +262,19 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 * Called on BEFORE_PROCESS_IMAGE event.
 	 */
 	public void onBeforeProcessImage() {
+		this.executionTimeChannel.accept(this.statistics.getAndResetCycleExecutionTime());
 		this.cycleTasksManager.onBeforeProcessImage();
 	}
+
+	/**
+	 * Gets the execution time statistics of all Tasks.
+	 *
+	 * <p>
+	 * See {@link TaskStatistics#toJson()}
+	 *
+	 * @return the statistics as {@link JsonObject}
+	 */
+	public JsonObject getTaskStatistics() {
+		return this.statistics.toJson();
+	}
 }
\ No newline at end of file
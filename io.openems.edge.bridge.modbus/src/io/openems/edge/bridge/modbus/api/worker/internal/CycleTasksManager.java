@@ -87,7 +87,8 @@ public class CycleTasksManager {
 		this.waitDelayHandler.updateTotalNumberOfTasks(this.tasksSupplier.getTotalNumberOfTasks());
 
 		// Fill queues for this Cycle
-		this.cycleTasks = this.tasksSupplier.getCycleTasks(this.defectiveComponents);
+		this.cycleTasks = this.tasksSupplier.getCycleTasks(this.defectiveComponents,
+				this.waitDelayHandler.getWaitDelayTask().initialDelay);
 
 		// On defectiveComponents invalidate time measurement
 		if (this.cycleTasks.containsDefectiveComponent(this.defectiveComponents)) {
@@ -193,6 +194,22 @@ public class CycleTasksManager {
 		return nextTask;
 	}
 
+	/**
+	 * Is the next {@link Task} from {@link #getNextTask()} going to be a
+	 * Read-Task?.
+	 * 
+	 * @return true if a Read-Task is pending in the current state
+	 */
+	public synchronized boolean hasNextReadTask() {
+		if (this.cycleTasks == null) {
+			return false;
+		}
+		return switch (this.state) {
+		case READ_BEFORE_WRITE, READ_AFTER_WRITE -> !this.cycleTasks.reads().isEmpty();
+		case INITIAL_WAIT, WAIT_FOR_WRITE, WRITE, WAIT_BEFORE_READ, FINISHED -> false;
+		};
+	}
+
 	/**
 	 * Waiting in INITIAL_WAIT or WAIT_BEFORE_READ finished.
 	 */
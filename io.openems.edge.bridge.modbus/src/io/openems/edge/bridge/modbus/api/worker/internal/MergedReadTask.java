@@ -0,0 +1,184 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.DummyRegisterElement;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Reads the registers of several neighbouring {@link ReadTask}s of one
+ * Component with one single request. Gaps between the tasks are filled with
+ * {@link DummyRegisterElement}s.
+ *
+ * <p>
+ * If the device answers the merged request with a Modbus exception response
+ * (e.g. ILLEGAL_DATA_ADDRESS, because a gap register is not readable), but the
+ * original tasks can be executed one by one, the device is assumed to reject
+ * the merged request. From then on the original tasks are executed separately.
+ * Other errors - like timeouts - do not cause a split, because they would
+ * equally affect the separate requests.
+ */
+public class MergedReadTask implements ReadTask {
+
+	private final Logger log = LoggerFactory.getLogger(MergedReadTask.class);
+
+	private final List<AbstractReadRegistersTask<?, ?>> tasks;
+	private final AbstractReadRegistersTask<?, ?> merged;
+	private final ModbusElement[] elements;
+
+	private volatile boolean isSplit = false;
+
+	/**
+	 * Creates a {@link MergedReadTask}.
+	 *
+	 * @param tasks the {@link FC3ReadRegistersTask}s or
+	 *              {@link FC4ReadInputRegistersTask}s of one Component, sorted by
+	 *              start address and not overlapping
+	 */
+	public MergedReadTask(List<AbstractReadRegistersTask<?, ?>> tasks) {
+		this.tasks = List.copyOf(tasks);
+		var first = this.tasks.get(0);
+
+		var elements = new ArrayList<ModbusElement>();
+		var nextAddress = first.getStartAddress();
+		for (var task : this.tasks) {
+			if (task.getStartAddress() > nextAddress) {
+				elements.add(new DummyRegisterElement(nextAddress, task.getStartAddress() - 1));
+			}
+			elements.addAll(List.of(task.getElements()));
+			nextAddress = task.getStartAddress() + task.getLength();
+		}
+		var mergedElements = elements.toArray(ModbusElement[]::new);
+		this.merged = first instanceof FC4ReadInputRegistersTask //
+				? new FC4ReadInputRegistersTask(first.getStartAddress(), first.getPriority(), mergedElements) //
+				: new FC3ReadRegistersTask(first.getStartAddress(), first.getPriority(), mergedElements);
+		this.merged.setParent(first.getParent());
+
+		// The AbstractTask constructor registered the merged task at the elements
+		for (var task : this.tasks) {
+			for (var element : task.getElements()) {
+				element.setModbusTask(task);
+			}
+		}
+
+		this.elements = this.tasks.stream() //
+				.flatMap(t -> Stream.of(t.getElements())) //
+				.toArray(ModbusElement[]::new);
+	}
+
+	@Override
+	public ExecuteState execute(AbstractModbusBridge bridge) {
+		if (this.isSplit) {
+			return this.executeSeparately(bridge);
+		}
+
+		var result = this.merged.execute(bridge);
+		if (result != ExecuteState.ERROR || !(this.merged.getLastError() instanceof ModbusSlaveException)) {
+			return result;
+		}
+
+		// Fallback: execute the original tasks one by one
+		result = this.executeSeparately(bridge);
+		if (result != ExecuteState.ERROR) {
+			this.log.info("Merged read " + this + " was rejected [" + this.merged.getLastError().getMessage()
+					+ "]; reading the tasks separately from now on");
+			this.isSplit = true;
+		}
+		return result;
+	}
+
+	private ExecuteState executeSeparately(AbstractModbusBridge bridge) {
+		var result = ExecuteState.NO_OP;
+		for (var task : this.tasks) {
+			switch (task.execute(bridge)) {
+			case OK -> {
+				if (result == ExecuteState.NO_OP) {
+					result = ExecuteState.OK;
+				}
+			}
+			case ERROR -> result = ExecuteState.ERROR;
+			case NO_OP -> {
+			}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Are the original tasks executed separately, because the device rejected the
+	 * merged request?.
+	 *
+	 * @return true if split
+	 */
+	public boolean isSplit() {
+		return this.isSplit;
+	}
+
+	/**
+	 * Gets the original tasks.
+	 *
+	 * @return a list of tasks
+	 */
+	public List<AbstractReadRegistersTask<?, ?>> getTasks() {
+		return this.tasks;
+	}
+
+	@Override
+	public ModbusElement[] getElements() {
+		return this.elements;
+	}
+
+	@Override
+	public int getStartAddress() {
+		return this.merged.getStartAddress();
+	}
+
+	@Override
+	public int getLength() {
+		return this.merged.getLength();
+	}
+
+	@Override
+	public void setParent(AbstractOpenemsModbusComponent parent) {
+		this.merged.setParent(parent);
+	}
+
+	@Override
+	public AbstractOpenemsModbusComponent getParent() {
+		return this.merged.getParent();
+	}
+
+	@Override
+	public Priority getPriority() {
+		return this.merged.getPriority();
+	}
+
+	@Override
+	public void deactivate() {
+		// Elements are deactivated via the original tasks
+	}
+
+	@Override
+	public String toString() {
+		return "MergedReadTask [ref=" + this.getStartAddress() + ";length=" + this.getLength() + ";tasks="
+				+ this.tasks.stream() //
+						.map(t -> String.valueOf(t.getStartAddress())) //
+						.collect(Collectors.joining(",")) //
+				+ "]";
+	}
+}
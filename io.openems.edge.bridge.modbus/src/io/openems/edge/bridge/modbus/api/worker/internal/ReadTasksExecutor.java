@@ -0,0 +1,97 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+
+/**
+ * Executes {@link ReadTask}s in parallel on a fixed number of threads.
+ *
+ * <p>
+ * Every thread has its own connection index (see
+ * {@link #getConnectionIndex()}), so a bridge can serve each thread with its
+ * own Modbus connection.
+ */
+public class ReadTasksExecutor {
+
+	private static final ThreadLocal<Integer> CONNECTION_INDEX = new ThreadLocal<>();
+
+	/**
+	 * Gets the connection index of the current thread.
+	 *
+	 * @return the index, or -1 if the current thread is not a thread of a
+	 *         {@link ReadTasksExecutor}
+	 */
+	public static int getConnectionIndex() {
+		var index = CONNECTION_INDEX.get();
+		return index == null ? -1 : index;
+	}
+
+	private final int parallelism;
+	private final ExecutorService executor;
+	private final Semaphore permits;
+
+	public ReadTasksExecutor(String name, int parallelism) {
+		this.parallelism = parallelism;
+		this.permits = new Semaphore(parallelism);
+		var counter = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+			// Indexes are assigned round-robin, also to replacement threads
+			var index = counter.getAndIncrement() % parallelism;
+			var thread = new Thread(() -> {
+				CONNECTION_INDEX.set(index);
+				runnable.run();
+			}, name + ":Read-" + index);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * Executes the given Runnable as soon as a thread is free.
+	 *
+	 * @param runnable the Runnable
+	 * @throws InterruptedException if interrupted while waiting for a free thread
+	 */
+	public void execute(Runnable runnable) throws InterruptedException {
+		this.permits.acquire();
+		try {
+			this.executor.execute(() -> {
+				try {
+					runnable.run();
+				} finally {
+					this.permits.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			this.permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits till all previously submitted Runnables are finished.
+	 *
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public void awaitIdle() throws InterruptedException {
+		this.permits.acquire(this.parallelism);
+		this.permits.release(this.parallelism);
+	}
+
+	/**
+	 * Shuts down the executor.
+	 */
+	public void shutdown() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+	}
+
+}
@@ -0,0 +1,146 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Merges neighbouring HIGH priority {@link FC3ReadRegistersTask}s or
+ * {@link FC4ReadInputRegistersTask}s of one Component to
+ * {@link MergedReadTask}s, to reduce the number of requests per Cycle.
+ *
+ * <p>
+ * Tasks are merged if the gap between them is at most 'maxGap' registers and
+ * the merged request is at most 'maxLength' registers long. The result is
+ * cached per Component until its tasks change.
+ *
+ * <p>
+ * Whenever the tasks of a Component are merged anew, the new list is reported
+ * to the 'onChange' callback, e.g. to drop statistics of replaced
+ * {@link MergedReadTask}s.
+ */
+public class ReadTasksMerger {
+
+	/** The Modbus protocol allows reading up to 125 registers at once. */
+	public static final int MAX_LENGTH = 125;
+
+	private static record Entry(List<Task> tasks, List<Task> result) {
+	}
+
+	private final Map<String, Entry> cache = new HashMap<>();
+	private final BiConsumer<String, List<Task>> onChange;
+
+	private int maxGap = -1;
+	private int maxLength = MAX_LENGTH;
+
+	public ReadTasksMerger(BiConsumer<String, List<Task>> onChange) {
+		this.onChange = onChange;
+	}
+
+	public ReadTasksMerger() {
+		this((sourceId, tasks) -> {
+		});
+	}
+
+	/**
+	 * Configures the merging of tasks.
+	 *
+	 * @param maxGap    maximum number of unused registers between two tasks; -1
+	 *                  to disable merging
+	 * @param maxLength maximum number of registers of a merged task
+	 */
+	public synchronized void setConfig(int maxGap, int maxLength) {
+		if (maxGap < 0) {
+			// Original tasks are used again
+			this.cache.forEach((sourceId, entry) -> this.onChange.accept(sourceId, entry.tasks));
+		}
+		this.maxGap = maxGap;
+		this.maxLength = Math.max(1, Math.min(maxLength, MAX_LENGTH));
+		this.cache.clear();
+	}
+
+	/**
+	 * Replaces mergeable {@link Task}s of a Component with
+	 * {@link MergedReadTask}s.
+	 *
+	 * @param sourceId Component-ID of the source
+	 * @param tasks    the tasks of the Component
+	 * @return the tasks with merged Read-Tasks
+	 */
+	public synchronized List<Task> apply(String sourceId, List<Task> tasks) {
+		if (this.maxGap < 0) {
+			return tasks;
+		}
+		var entry = this.cache.get(sourceId);
+		if (entry == null || !entry.tasks.equals(tasks)) {
+			entry = new Entry(List.copyOf(tasks), this.merge(tasks));
+			this.cache.put(sourceId, entry);
+			this.onChange.accept(sourceId, entry.result);
+		}
+		return entry.result;
+	}
+
+	/**
+	 * Removes the cached tasks of a Component.
+	 *
+	 * @param sourceId Component-ID of the source
+	 */
+	public synchronized void remove(String sourceId) {
+		this.cache.remove(sourceId);
+	}
+
+	private List<Task> merge(List<Task> tasks) {
+		var result = new ArrayList<Task>();
+		// Function-Code -> candidates for merging
+		var candidates = new LinkedHashMap<Class<?>, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if ((task instanceof FC3ReadRegistersTask || task instanceof FC4ReadInputRegistersTask)
+					&& task.getPriority() == Priority.HIGH) {
+				candidates.computeIfAbsent(task.getClass(), c -> new ArrayList<>())
+						.add((AbstractReadRegistersTask<?, ?>) task);
+			} else {
+				result.add(task);
+			}
+		}
+
+		for (var list : candidates.values()) {
+			list.sort(Comparator.comparingInt(Task::getStartAddress));
+			var group = new ArrayList<AbstractReadRegistersTask<?, ?>>();
+			for (var task : list) {
+				if (!group.isEmpty() && !this.fits(group, task)) {
+					result.add(toTask(group));
+					group = new ArrayList<>();
+				}
+				group.add(task);
+			}
+			result.add(toTask(group));
+		}
+		return List.copyOf(result);
+	}
+
+	private boolean fits(List<AbstractReadRegistersTask<?, ?>> group, AbstractReadRegistersTask<?, ?> task) {
+		var first = group.get(0);
+		var last = group.get(group.size() - 1);
+		var gap = task.getStartAddress() - (last.getStartAddress() + last.getLength());
+		var length = task.getStartAddress() + task.getLength() - first.getStartAddress();
+		return gap >= 0 && gap <= this.maxGap && length <= this.maxLength;
+	}
+
+	private static Task toTask(List<AbstractReadRegistersTask<?, ?>> group) {
+		if (group.size() == 1) {
+			return group.get(0);
+		}
+		return new MergedReadTask(group);
+	}
+
+}
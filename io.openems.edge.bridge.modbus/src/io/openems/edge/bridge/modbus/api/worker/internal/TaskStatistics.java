@@ -0,0 +1,162 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.bridge.modbus.api.task.Task;
+
+/**
+ * Collects the execution times of {@link Task}s.
+ *
+ * <ul>
+ * <li>per Task: number of executions, moving average and maximum duration
+ * <li>per Component: a histogram of the execution times of all its Tasks
+ * <li>per Cycle: the sum of all execution times
+ * </ul>
+ */
+public class TaskStatistics {
+
+	/** Upper bounds of the histogram buckets in [ms]; last bucket is open. */
+	protected static final long[] HISTOGRAM_BOUNDS = { 10, 25, 50, 100, 250, 500, 1000 };
+
+	/** Weight of a new value in the moving average. */
+	private static final double ALPHA = 0.2;
+
+	private static class TaskRecord {
+		private final String componentId;
+		private long count = 0;
+		private long max = 0;
+		private double average = 0;
+
+		private TaskRecord(String componentId) {
+			this.componentId = componentId;
+		}
+	}
+
+	private final Map<Task, TaskRecord> tasks = new HashMap<>();
+	private final Map<String, long[]> histograms = new TreeMap<>();
+
+	private long cycleExecutionTime = 0;
+
+	/**
+	 * Records the execution time of a {@link Task}.
+	 *
+	 * @param task     the {@link Task}
+	 * @param duration the execution time in [ms]
+	 */
+	public synchronized void record(Task task, long duration) {
+		var componentId = task.getParent() == null ? "" : task.getParent().id();
+		var record = this.tasks.computeIfAbsent(task, t -> new TaskRecord(componentId));
+		record.average = record.count == 0 //
+				? duration //
+				: ALPHA * duration + (1 - ALPHA) * record.average;
+		record.count++;
+		record.max = Math.max(record.max, duration);
+
+		var histogram = this.histograms.computeIfAbsent(componentId, c -> new long[HISTOGRAM_BOUNDS.length + 1]);
+		histogram[getBucket(duration)]++;
+
+		this.cycleExecutionTime += duration;
+	}
+
+	/**
+	 * Gets the expected execution time of a {@link Task}, i.e. the moving average
+	 * of previous executions.
+	 *
+	 * @param task the {@link Task}
+	 * @return the expected execution time in [ms]; -1 if unknown
+	 */
+	public synchronized long getExpectedDuration(Task task) {
+		var record = this.tasks.get(task);
+		if (record == null) {
+			return -1;
+		}
+		return Math.round(record.average);
+	}
+
+	/**
+	 * Gets the sum of all execution times since the last call and resets it.
+	 *
+	 * @return the execution time in [ms]
+	 */
+	public synchronized long getAndResetCycleExecutionTime() {
+		var result = this.cycleExecutionTime;
+		this.cycleExecutionTime = 0;
+		return result;
+	}
+
+	/**
+	 * Removes the statistics of {@link Task}s of a Component that are not in the
+	 * given list anymore, e.g. replaced merged Read-Tasks.
+	 *
+	 * @param componentId the Component-ID
+	 * @param tasks       the current {@link Task}s of the Component
+	 */
+	public synchronized void retainTasks(String componentId, Collection<? extends Task> tasks) {
+		var current = new HashSet<Task>(tasks);
+		this.tasks.entrySet().removeIf(e -> e.getValue().componentId.equals(componentId) //
+				&& !current.contains(e.getKey()));
+	}
+
+	/**
+	 * Removes all statistics of a Component.
+	 *
+	 * @param componentId the Component-ID
+	 */
+	public synchronized void removeComponent(String componentId) {
+		this.tasks.values().removeIf(r -> r.componentId.equals(componentId));
+		this.histograms.remove(componentId);
+	}
+
+	/**
+	 * Exports the statistics as JSON.
+	 *
+	 * @return a {@link JsonObject}
+	 */
+	public synchronized JsonObject toJson() {
+		var components = new JsonObject();
+		this.histograms.forEach((componentId, histogram) -> {
+			var buckets = new JsonArray();
+			for (var i = 0; i < histogram.length; i++) {
+				buckets.add(JsonUtils.buildJsonObject() //
+						.addPropertyIfNotNull("le", i < HISTOGRAM_BOUNDS.length ? HISTOGRAM_BOUNDS[i] : null) //
+						.addProperty("count", histogram[i]) //
+						.build());
+			}
+			components.add(componentId, JsonUtils.buildJsonObject() //
+					.add("histogram", buckets) //
+					.add("tasks", new JsonArray()) //
+					.build());
+		});
+		this.tasks.forEach((task, record) -> {
+			var component = components.getAsJsonObject(record.componentId);
+			component.getAsJsonArray("tasks").add(JsonUtils.buildJsonObject() //
+					.addProperty("task", task.getClass().getSimpleName()) //
+					.addProperty("startAddress", task.getStartAddress()) //
+					.addProperty("length", task.getLength()) //
+					.addProperty("priority", task.getPriority().name()) //
+					.addProperty("count", record.count) //
+					.addProperty("average", Math.round(record.average)) //
+					.addProperty("max", record.max) //
+					.build());
+		});
+		return components;
+	}
+
+	protected static int getBucket(long duration) {
+		for (var i = 0; i < HISTOGRAM_BOUNDS.length; i++) {
+			if (duration <= HISTOGRAM_BOUNDS[i]) {
+				return i;
+			}
+		}
+		return HISTOGRAM_BOUNDS.length;
+	}
+
+}
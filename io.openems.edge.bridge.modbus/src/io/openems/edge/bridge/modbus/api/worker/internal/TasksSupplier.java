@@ -6,9 +6,11 @@ public interface TasksSupplier {
 	 * Supplies the Tasks for one Cycle.
 	 * 
 	 * @param defectiveComponents the {@link DefectiveComponents} handler
+	 * @param idleTime            the expected idle time of the Cycle in [ms], i.e.
+	 *                            the planned delay before executing Tasks
 	 * @return a {@link CycleTasks} object
 	 */
-	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents);
+	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents, long idleTime);
 
 	/**
 	 * Gets the total number of tasks.
@@ -1,8 +1,10 @@
 package io.openems.edge.bridge.modbus.api.worker.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.stream.Collectors;
@@ -17,9 +19,18 @@ import io.openems.edge.common.type.Tuple;
 
 /**
  * Supplies Tasks.
+ *
+ * <p>
+ * Every Cycle contains all HIGH priority Read-Tasks, all Write-Tasks and at
+ * least one LOW priority Read-Task. Further LOW priority Read-Tasks are added
+ * as long as their expected execution times (see {@link TaskStatistics}) fit
+ * into a share of the idle time of the Cycle.
  */
 public class TasksSupplierImpl implements TasksSupplier {
 
+	/** Share of the idle time that may be used for additional LOW priority tasks. */
+	private static final double LOW_PRIORITY_IDLE_TIME_SHARE = 0.5;
+
 	/**
 	 * Source-ID -> TasksManager for {@link Task}s.
 	 */
@@ -30,6 +41,22 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
 
+	/**
+	 * Merges HIGH priority {@link ReadTask}s.
+	 */
+	private final ReadTasksMerger readTasksMerger;
+
+	private final TaskStatistics statistics;
+
+	public TasksSupplierImpl(TaskStatistics statistics) {
+		this.statistics = statistics;
+		this.readTasksMerger = new ReadTasksMerger(statistics::retainTasks);
+	}
+
+	public TasksSupplierImpl() {
+		this(new TaskStatistics());
+	}
+
 	/**
 	 * Adds the protocol.
 	 *
@@ -47,25 +74,35 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	public void removeProtocol(String sourceId) {
 		this.taskManagers.remove(sourceId);
+		this.readTasksMerger.remove(sourceId);
+	}
+
+	/**
+	 * Configures the merging of neighbouring HIGH priority {@link ReadTask}s.
+	 *
+	 * @param maxGap    maximum number of unused registers between two tasks; -1
+	 *                  to disable merging
+	 * @param maxLength maximum number of registers of a merged task
+	 */
+	public void setMergeReadTasks(int maxGap, int maxLength) {
+		this.readTasksMerger.setConfig(maxGap, maxLength);
 	}
 
 	@Override
-	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
+	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents, long idleTime) {
 		Map<String, LinkedList<Task>> tasks = new HashMap<>();
-		// One Low Priority ReadTask
-		{
-			var t = this.getOneLowPriorityReadTask();
-			if (t != null) {
-				tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
-						.add(t.b());
-			}
+		// Low Priority ReadTasks
+		for (var t : this.getLowPriorityReadTasks(Math.round(idleTime * LOW_PRIORITY_IDLE_TIME_SHARE))) {
+			tasks.computeIfAbsent(t.a(), (ignore) -> new LinkedList<>()) //
+					.add(t.b());
 		}
 		// All High Priority ReadTasks + all WriteTasks
 		this.taskManagers.forEach((id, taskManager) -> {
 			var list = tasks.computeIfAbsent(id, (ignore) -> new LinkedList<>());
-			taskManager.getTasks().stream() //
+			var componentTasks = taskManager.getTasks().stream() //
 					.filter(t -> t instanceof WriteTask || t.getPriority() == Priority.HIGH) //
-					.forEach(list::add);
+					.toList();
+			list.addAll(this.readTasksMerger.apply(id, componentTasks));
 		});
 		// Filter out defective components
 		tasks.forEach((id, componentTasks) -> {
@@ -94,6 +131,44 @@ public class TasksSupplierImpl implements TasksSupplier {
 						.collect(Collectors.toCollection(LinkedList::new)));
 	}
 
+	/**
+	 * Get LOW priority tasks for one Cycle: always one task, plus further tasks
+	 * whose expected execution times fit into the given budget. Every task is
+	 * returned at most once per Cycle.
+	 *
+	 * @param budget the available time in [ms]
+	 * @return a list of tasks; empty if there is no available task
+	 */
+	private synchronized List<Tuple<String, ReadTask>> getLowPriorityReadTasks(long budget) {
+		var result = new ArrayList<Tuple<String, ReadTask>>();
+		var task = this.getOneLowPriorityReadTask();
+		if (task == null) {
+			return result;
+		}
+		result.add(task);
+
+		var expectedDuration = this.statistics.getExpectedDuration(task.b());
+		if (expectedDuration < 0) {
+			// Execution time is unknown -> only one task
+			return result;
+		}
+		var remaining = budget - expectedDuration;
+		while (true) {
+			// Do not refill the queue, to avoid executing a task twice
+			var next = this.nextLowPriorityTasks.peek();
+			if (next == null) {
+				break;
+			}
+			expectedDuration = this.statistics.getExpectedDuration(next.b());
+			if (expectedDuration < 0 || expectedDuration > remaining) {
+				break;
+			}
+			result.add(this.nextLowPriorityTasks.poll());
+			remaining -= expectedDuration;
+		}
+		return result;
+	}
+
 	/**
 	 * Get one LOW priority task.
 	 *
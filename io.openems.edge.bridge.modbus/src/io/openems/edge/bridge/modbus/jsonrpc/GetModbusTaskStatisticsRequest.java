@@ -0,0 +1,60 @@
+package io.openems.edge.bridge.modbus.jsonrpc;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+
+/**
+ * Wraps a JSON-RPC Request to query the execution time statistics of the
+ * Modbus Tasks of a Modbus-Bridge.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getModbusTaskStatistics",
+ *   "params": {}
+ * }
+ * </pre>
+ *
+ * <p>
+ * Response:
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     [componentId]: {
+ *       "histogram": [{
+ *         "le"?: number, // upper bound in [ms]; missing for the last bucket
+ *         "count": number
+ *       }],
+ *       "tasks": [{
+ *         "task": string,
+ *         "startAddress": number,
+ *         "length": number,
+ *         "priority": "HIGH"|"LOW",
+ *         "count": number,
+ *         "average": number, // [ms]
+ *         "max": number // [ms]
+ *       }]
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+public class GetModbusTaskStatisticsRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getModbusTaskStatistics";
+
+	public GetModbusTaskStatisticsRequest() {
+		super(METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+
+}
@@ -5,7 +5,16 @@ import java.net.UnknownHostException;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersResponse;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
@@ -19,6 +28,7 @@ import io.openems.edge.common.component.OpenemsComponent;
 public class DummyModbusBridge extends AbstractModbusBridge implements BridgeModbusTcp, BridgeModbus, OpenemsComponent {
 
 	private final Map<String, ModbusProtocol> protocols = new HashMap<>();
+	private final Map<Integer, Integer> registers = new HashMap<>();
 
 	private InetAddress ipAddress = null;
 
@@ -46,6 +56,22 @@ public class DummyModbusBridge extends AbstractModbusBridge implements BridgeMod
 		return this;
 	}
 
+	/**
+	 * Sets values of readable registers. Read requests are answered from these
+	 * registers; a request for a register that was not set is answered with an
+	 * ILLEGAL_DATA_ADDRESS exception response.
+	 * 
+	 * @param startAddress the address of the first register
+	 * @param values       the register values
+	 * @return myself
+	 */
+	public DummyModbusBridge withRegisters(int startAddress, int... values) {
+		for (var i = 0; i < values.length; i++) {
+			this.registers.put(startAddress + i, values[i]);
+		}
+		return this;
+	}
+
 	@Override
 	public void addProtocol(String sourceId, ModbusProtocol protocol) {
 		this.protocols.put(sourceId, protocol);
@@ -66,12 +92,41 @@ public class DummyModbusBridge extends AbstractModbusBridge implements BridgeMod
 
 	@Override
 	public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
-		throw new UnsupportedOperationException("Unsupported by Dummy Class");
+		if (this.registers.isEmpty()) {
+			throw new UnsupportedOperationException("Unsupported by Dummy Class");
+		}
+		return new ModbusTransaction() {
+			@Override
+			public void execute() throws ModbusException {
+				var bridge = DummyModbusBridge.this;
+				if (this.request instanceof ReadMultipleRegistersRequest r) {
+					this.response = new ReadMultipleRegistersResponse(
+							bridge.readRegisters(r.getReference(), r.getWordCount()));
+				} else if (this.request instanceof ReadInputRegistersRequest r) {
+					this.response = new ReadInputRegistersResponse(
+							bridge.readRegisters(r.getReference(), r.getWordCount()));
+				} else {
+					throw new ModbusSlaveException(Modbus.ILLEGAL_FUNCTION_EXCEPTION);
+				}
+			}
+		};
+	}
+
+	private Register[] readRegisters(int startAddress, int length) throws ModbusSlaveException {
+		var result = new Register[length];
+		for (var i = 0; i < length; i++) {
+			var value = this.registers.get(startAddress + i);
+			if (value == null) {
+				throw new ModbusSlaveException(Modbus.ILLEGAL_ADDRESS_EXCEPTION);
+			}
+			result[i] = new SimpleRegister(value);
+		}
+		return result;
 	}
 
 	@Override
 	public void closeModbusConnection() {
-		throw new UnsupportedOperationException("Unsupported by Dummy Class");
+		// there is no connection
 	}
 
 }
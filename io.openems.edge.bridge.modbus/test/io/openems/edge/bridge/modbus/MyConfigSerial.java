@@ -17,6 +17,8 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		private Parity parity;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int mergeReadTasksMaxGap = -1;
+		private int mergeReadTasksMaxLength = 125;
 
 		private Builder() {
 		}
@@ -61,6 +63,12 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setMergeReadTasks(int maxGap, int maxLength) {
+			this.mergeReadTasksMaxGap = maxGap;
+			this.mergeReadTasksMaxLength = maxLength;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -117,4 +125,14 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int mergeReadTasksMaxGap() {
+		return this.builder.mergeReadTasksMaxGap;
+	}
+
+	@Override
+	public int mergeReadTasksMaxLength() {
+		return this.builder.mergeReadTasksMaxLength;
+	}
+
 }
\ No newline at end of file
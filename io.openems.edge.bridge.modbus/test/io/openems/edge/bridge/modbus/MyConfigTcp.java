@@ -12,6 +12,9 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private int port;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int connections = 1;
+		private int mergeReadTasksMaxGap = -1;
+		private int mergeReadTasksMaxLength = 125;
 
 		private Builder() {
 		}
@@ -41,6 +44,17 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setConnections(int connections) {
+			this.connections = connections;
+			return this;
+		}
+
+		public Builder setMergeReadTasks(int maxGap, int maxLength) {
+			this.mergeReadTasksMaxGap = maxGap;
+			this.mergeReadTasksMaxLength = maxLength;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +96,19 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int connections() {
+		return this.builder.connections;
+	}
+
+	@Override
+	public int mergeReadTasksMaxGap() {
+		return this.builder.mergeReadTasksMaxGap;
+	}
+
+	@Override
+	public int mergeReadTasksMaxLength() {
+		return this.builder.mergeReadTasksMaxLength;
+	}
+
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -14,6 +15,7 @@ import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.common.channel.value.IntegerValue;
 
 public class UnsignedWordElementTest {
 
@@ -22,6 +24,7 @@ public class UnsignedWordElementTest {
 		var sut = new ModbusTest.FC3ReadRegisters<>(new UnsignedWordElement(0), INTEGER);
 		sut.element.setInputValue(new Register[] { new SimpleRegister((byte) 0xAB, (byte) 0xCD) });
 		assertEquals(0xABCD, sut.channel.getNextValue().get());
+		assertTrue(sut.channel.getNextValue() instanceof IntegerValue); // primitive setter
 	}
 
 	@Test
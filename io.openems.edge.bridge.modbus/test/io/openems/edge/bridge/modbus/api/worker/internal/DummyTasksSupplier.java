@@ -23,7 +23,7 @@ public class DummyTasksSupplier implements TasksSupplier {
 	}
 
 	@Override
-	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents) {
+	public CycleTasks getCycleTasks(DefectiveComponents defectiveComponents, long idleTime) {
 		return this.records.poll();
 	}
 
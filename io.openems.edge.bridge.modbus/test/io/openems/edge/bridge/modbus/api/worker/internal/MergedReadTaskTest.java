@@ -0,0 +1,96 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
+import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class MergedReadTaskTest {
+
+	@Test
+	public void testSplitOnExceptionResponse() throws OpenemsException {
+		// Register 101 is not readable
+		var bridge = new DummyModbusBridge("modbus0") //
+				.withRegisters(100, 1) //
+				.withRegisters(102, 2);
+		var value100 = new AtomicReference<Integer>();
+		var value102 = new AtomicReference<Integer>();
+		var sut = createMergedReadTask(//
+				new UnsignedWordElement(100).onUpdateCallback(value100::set), //
+				new UnsignedWordElement(102).onUpdateCallback(value102::set));
+		assertEquals(3, sut.getLength());
+
+		assertEquals(ExecuteState.OK, sut.execute(bridge));
+		assertTrue(sut.isSplit());
+		assertEquals(Integer.valueOf(1), value100.get());
+		assertEquals(Integer.valueOf(2), value102.get());
+
+		// Register 101 became readable; Tasks stay split
+		bridge.withRegisters(101, 0).withRegisters(100, 3);
+		assertEquals(ExecuteState.OK, sut.execute(bridge));
+		assertTrue(sut.isSplit());
+		assertEquals(Integer.valueOf(3), value100.get());
+	}
+
+	@Test
+	public void testMerged() throws OpenemsException {
+		var bridge = new DummyModbusBridge("modbus0") //
+				.withRegisters(100, 1, 0, 2);
+		var value102 = new AtomicReference<Integer>();
+		var sut = createMergedReadTask(//
+				new UnsignedWordElement(100), //
+				new UnsignedWordElement(102).onUpdateCallback(value102::set));
+
+		assertEquals(ExecuteState.OK, sut.execute(bridge));
+		assertFalse(sut.isSplit());
+		assertEquals(Integer.valueOf(2), value102.get());
+	}
+
+	@Test
+	public void testNoSplitOnTimeout() throws OpenemsException {
+		var bridge = new DummyModbusBridge("modbus0") {
+			@Override
+			public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
+				return new ModbusTransaction() {
+					@Override
+					public void execute() throws ModbusException {
+						throw new ModbusIOException("Timeout");
+					}
+				};
+			}
+		};
+		var sut = createMergedReadTask(//
+				new UnsignedWordElement(100), //
+				new UnsignedWordElement(102));
+
+		assertEquals(ExecuteState.ERROR, sut.execute(bridge));
+		assertFalse(sut.isSplit());
+	}
+
+	private static MergedReadTask createMergedReadTask(UnsignedWordElement... elements) throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var tasks = List.<AbstractReadRegistersTask<?, ?>>of(//
+				new FC3ReadRegistersTask(elements[0].startAddress, Priority.HIGH, elements[0]), //
+				new FC3ReadRegistersTask(elements[1].startAddress, Priority.HIGH, elements[1]));
+		tasks.forEach(t -> t.setParent(component));
+		return new MergedReadTask(tasks);
+	}
+
+}
@@ -0,0 +1,48 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ReadTasksExecutorTest {
+
+	@Test
+	public void test() throws InterruptedException {
+		var sut = new ReadTasksExecutor("test", 3);
+		assertEquals(-1, ReadTasksExecutor.getConnectionIndex());
+
+		var started = new CountDownLatch(3);
+		var release = new CountDownLatch(1);
+		var finished = new AtomicInteger();
+		var indexes = ConcurrentHashMap.<Integer>newKeySet();
+		for (var i = 0; i < 3; i++) {
+			sut.execute(() -> {
+				indexes.add(ReadTasksExecutor.getConnectionIndex());
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				finished.incrementAndGet();
+			});
+		}
+
+		// all Runnables are executed in parallel
+		started.await();
+		assertEquals(0, finished.get());
+		release.countDown();
+
+		sut.awaitIdle();
+		assertEquals(3, finished.get());
+		assertEquals(Set.of(0, 1, 2), indexes);
+
+		sut.shutdown();
+	}
+
+}
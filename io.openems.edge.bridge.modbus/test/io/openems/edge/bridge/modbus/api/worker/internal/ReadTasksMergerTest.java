@@ -0,0 +1,93 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.bridge.modbus.api.element.UnsignedDoublewordElement;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.Task;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadTasksMergerTest {
+
+	private static final String CMP = "device0";
+
+	@Test
+	public void testDisabled() {
+		var sut = new ReadTasksMerger();
+		List<Task> tasks = List.of(//
+				new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100)), //
+				new FC3ReadRegistersTask(101, Priority.HIGH, new UnsignedWordElement(101)));
+		assertSame(tasks, sut.apply(CMP, tasks));
+	}
+
+	@Test
+	public void testMerge() {
+		var sut = new ReadTasksMerger();
+		sut.setConfig(5, 8);
+
+		var element100 = new UnsignedWordElement(100);
+		var task100 = new FC3ReadRegistersTask(100, Priority.HIGH, element100);
+		var task103 = new FC3ReadRegistersTask(103, Priority.HIGH, new UnsignedDoublewordElement(103));
+		var task200 = new FC3ReadRegistersTask(200, Priority.HIGH, new UnsignedWordElement(200)); // gap too big
+		var task108 = new FC3ReadRegistersTask(108, Priority.HIGH, new UnsignedWordElement(108)); // too long
+		var taskLow = new FC3ReadRegistersTask(106, Priority.LOW, new UnsignedWordElement(106)); // LOW priority
+		var taskFc4 = new FC4ReadInputRegistersTask(105, Priority.HIGH, new UnsignedWordElement(105)); // other FC
+		var taskFc4b = new FC4ReadInputRegistersTask(106, Priority.HIGH, new UnsignedWordElement(106));
+		List<Task> tasks = List.of(task200, task103, taskLow, task108, task100, taskFc4, taskFc4b);
+
+		var result = sut.apply(CMP, tasks);
+		assertEquals(5, result.size());
+		assertTrue(result.contains(task200));
+		assertTrue(result.contains(task108));
+		assertTrue(result.contains(taskLow));
+
+		var mergedFc3 = result.stream() //
+				.filter(MergedReadTask.class::isInstance).map(MergedReadTask.class::cast) //
+				.filter(t -> t.getStartAddress() == 100) //
+				.findFirst().get();
+		assertEquals(List.of(task100, task103), mergedFc3.getTasks());
+		assertEquals(5, mergedFc3.getLength());
+		assertEquals(2, mergedFc3.getElements().length); // without gap filler
+		assertSame(task100, element100.getModbusTask());
+
+		var mergedFc4 = result.stream() //
+				.filter(MergedReadTask.class::isInstance).map(MergedReadTask.class::cast) //
+				.filter(t -> t.getStartAddress() == 105) //
+				.findFirst().get();
+		assertEquals(List.of(taskFc4, taskFc4b), mergedFc4.getTasks());
+
+		// Cached
+		assertSame(result, sut.apply(CMP, List.copyOf(tasks)));
+
+		// Tasks changed
+		assertEquals(3, sut.apply(CMP, List.of(task100, task103, task108, task200)).size());
+	}
+
+	@Test
+	public void testOnChange() {
+		var changes = new ArrayList<List<Task>>();
+		var sut = new ReadTasksMerger((sourceId, tasks) -> changes.add(tasks));
+		sut.setConfig(5, 8);
+
+		List<Task> tasks = List.of(//
+				new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100)), //
+				new FC3ReadRegistersTask(101, Priority.HIGH, new UnsignedWordElement(101)));
+		var result = sut.apply(CMP, tasks);
+		sut.apply(CMP, tasks); // cached
+		assertEquals(List.of(result), changes);
+
+		// Disable merging -> original tasks are current again
+		sut.setConfig(-1, 8);
+		assertEquals(List.of(result, tasks), changes);
+	}
+
+}
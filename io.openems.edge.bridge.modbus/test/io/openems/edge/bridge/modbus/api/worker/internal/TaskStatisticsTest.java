@@ -0,0 +1,75 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.worker.DummyReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class TaskStatisticsTest {
+
+	@Test
+	public void test() throws OpenemsException {
+		var sut = new TaskStatistics();
+		var component = new DummyModbusComponent();
+		var task = new DummyReadTask("RT_H_1", 0, Priority.HIGH);
+		component.getModbusProtocol().addTask(task);
+
+		assertEquals(-1, sut.getExpectedDuration(task));
+
+		sut.record(task, 100);
+		assertEquals(100, sut.getExpectedDuration(task));
+		sut.record(task, 200);
+		assertEquals(120, sut.getExpectedDuration(task)); // moving average
+		assertEquals(300, sut.getAndResetCycleExecutionTime());
+		assertEquals(0, sut.getAndResetCycleExecutionTime());
+
+		var json = sut.toJson().getAsJsonObject(component.id());
+		var t = json.getAsJsonArray("tasks").get(0).getAsJsonObject();
+		assertEquals(2, t.get("count").getAsLong());
+		assertEquals(200, t.get("max").getAsLong());
+		var histogram = json.getAsJsonArray("histogram");
+		assertEquals(1, histogram.get(3).getAsJsonObject().get("count").getAsLong()); // <= 100 ms
+		assertEquals(1, histogram.get(4).getAsJsonObject().get("count").getAsLong()); // <= 250 ms
+		assertFalse(histogram.get(TaskStatistics.HISTOGRAM_BOUNDS.length).getAsJsonObject().has("le"));
+
+		sut.removeComponent(component.id());
+		assertEquals(-1, sut.getExpectedDuration(task));
+		assertEquals(0, sut.toJson().size());
+	}
+
+	@Test
+	public void testRetainTasks() throws OpenemsException {
+		var sut = new TaskStatistics();
+		var component = new DummyModbusComponent();
+		var task1 = new DummyReadTask("RT_H_1", 0, Priority.HIGH);
+		var task2 = new DummyReadTask("RT_H_2", 0, Priority.HIGH);
+		component.getModbusProtocol().addTasks(task1, task2);
+		sut.record(task1, 100);
+		sut.record(task2, 100);
+
+		sut.retainTasks(component.id(), List.of(task2));
+		assertEquals(-1, sut.getExpectedDuration(task1));
+		assertEquals(100, sut.getExpectedDuration(task2));
+		assertEquals(1, sut.toJson().getAsJsonObject(component.id()).getAsJsonArray("tasks").size());
+
+		// Other Components are not affected
+		sut.retainTasks("other0", List.of());
+		assertEquals(100, sut.getExpectedDuration(task2));
+	}
+
+	@Test
+	public void testGetBucket() {
+		assertEquals(0, TaskStatistics.getBucket(0));
+		assertEquals(0, TaskStatistics.getBucket(10));
+		assertEquals(1, TaskStatistics.getBucket(11));
+		assertEquals(TaskStatistics.HISTOGRAM_BOUNDS.length, TaskStatistics.getBucket(5000));
+	}
+
+}
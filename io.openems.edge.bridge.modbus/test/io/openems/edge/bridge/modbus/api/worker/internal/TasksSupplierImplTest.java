@@ -5,6 +5,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -45,7 +46,7 @@ public class TasksSupplierImplTest {
 		sut.addProtocol(component.id(), protocol);
 
 		// 1st Cycle
-		var tasks = sut.getCycleTasks(defectiveComponents);
+		var tasks = sut.getCycleTasks(defectiveComponents, 0);
 		assertEquals(4, tasks.reads().size() + tasks.writes().size());
 		assertEquals(RT_L_1, tasks.reads().get(0));
 		assertEquals(RT_H_1, tasks.reads().get(1));
@@ -54,7 +55,7 @@ public class TasksSupplierImplTest {
 		assertFalse(tasks.reads().contains(RT_L_2)); // -> not
 
 		// 2nd Cycle
-		tasks = sut.getCycleTasks(defectiveComponents);
+		tasks = sut.getCycleTasks(defectiveComponents, 0);
 		assertEquals(4, tasks.reads().size() + tasks.writes().size());
 		assertEquals(RT_L_2, tasks.reads().get(0));
 		assertEquals(RT_H_1, tasks.reads().get(1));
@@ -66,19 +67,19 @@ public class TasksSupplierImplTest {
 		defectiveComponents.add(component.id());
 
 		// 3rd Cycle -> not yet due
-		tasks = sut.getCycleTasks(defectiveComponents);
+		tasks = sut.getCycleTasks(defectiveComponents, 0);
 		assertEquals(0, tasks.reads().size() + tasks.writes().size());
 
 		// 4th Cycle -> due: total one task
 		clock.leap(30_001, ChronoUnit.MILLIS);
-		tasks = sut.getCycleTasks(defectiveComponents);
+		tasks = sut.getCycleTasks(defectiveComponents, 0);
 		assertEquals(1, tasks.reads().size() + tasks.writes().size());
 
 		// Remove from defective
 		defectiveComponents.remove(component.id());
 
 		// 5th Cycle -> back to normal
-		tasks = sut.getCycleTasks(defectiveComponents);
+		tasks = sut.getCycleTasks(defectiveComponents, 0);
 		assertEquals(4, tasks.reads().size() + tasks.writes().size());
 
 		// Finish
@@ -96,11 +97,50 @@ public class TasksSupplierImplTest {
 		protocol.addTasks(RT_H_1, RT_H_2, WT_1);
 		sut.addProtocol(component.id(), protocol);
 
-		var tasks = sut.getCycleTasks(defectiveComponents);
+		var tasks = sut.getCycleTasks(defectiveComponents, 0);
 		assertEquals(3, tasks.reads().size() + tasks.writes().size());
 		assertTrue(tasks.reads().contains(RT_H_1));
 		assertTrue(tasks.reads().contains(RT_H_2));
 		assertTrue(tasks.writes().contains(WT_1));
 	}
 
+	@Test
+	public void testLowPriorityBudget() throws OpenemsException {
+		var defectiveComponents = new DefectiveComponents(new TimeLeapClock());
+		var statistics = new TaskStatistics();
+		var sut = new TasksSupplierImpl(statistics);
+
+		var component = new DummyModbusComponent();
+		var protocol = component.getModbusProtocol();
+		var rtL3 = new DummyReadTask("RT_L_3", 40, Priority.LOW);
+		protocol.addTasks(RT_H_1, RT_L_1, RT_L_2, rtL3);
+		sut.addProtocol(component.id(), protocol);
+
+		// Unknown execution times -> one LOW priority task per Cycle
+		var tasks = sut.getCycleTasks(defectiveComponents, 1000);
+		assertEquals(List.of(RT_L_1, RT_H_1), tasks.reads());
+
+		statistics.record(RT_L_1, 20);
+		statistics.record(RT_L_2, 30);
+		statistics.record(rtL3, 40);
+
+		// Budget 50 % of 100 ms: RT_L_2 (30 ms) is always executed; RT_L_3 (40 ms)
+		// does not fit anymore
+		tasks = sut.getCycleTasks(defectiveComponents, 100);
+		assertEquals(List.of(RT_L_2, RT_H_1), tasks.reads());
+
+		// Queue is not refilled within one Cycle: RT_L_1 (20 ms) would fit into 50 %
+		// of 120 ms after RT_L_3 (40 ms), but has to wait for the next Cycle
+		tasks = sut.getCycleTasks(defectiveComponents, 120);
+		assertEquals(List.of(rtL3, RT_H_1), tasks.reads());
+
+		// Refilled queue: all LOW priority tasks fit into 50 % of 200 ms
+		tasks = sut.getCycleTasks(defectiveComponents, 200);
+		assertEquals(List.of(RT_L_1, RT_L_2, rtL3, RT_H_1), tasks.reads());
+
+		// No idle time -> one LOW priority task
+		tasks = sut.getCycleTasks(defectiveComponents, 0);
+		assertEquals(List.of(RT_L_1, RT_H_1), tasks.reads());
+	}
+
 }
@@ -1,8 +1,11 @@
 package io.openems.edge.common.channel;
 
+import java.time.LocalDateTime;
+
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
 import io.openems.edge.common.channel.internal.OpenemsTypeDoc;
+import io.openems.edge.common.channel.value.DoubleValue;
 import io.openems.edge.common.component.OpenemsComponent;
 
 public class DoubleReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Double>, Double> {
@@ -11,4 +14,49 @@ public class DoubleReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Double
 		super(OpenemsType.DOUBLE, component, channelId, channelDoc);
 	}
 
+	/**
+	 * Updates the 'next value' of Channel from a primitive double.
+	 *
+	 * <p>
+	 * Avoids boxing. Use {@link #setNextValue(Object)} with 'null' to set an
+	 * UNDEFINED value.
+	 *
+	 * @param value the 'next value'. It is going to be the 'value' after the next
+	 *              ProcessImage gets activated.
+	 */
+	public void setNextValue(double value) {
+		this.setNextValue(value, LocalDateTime.now());
+	}
+
+	/**
+	 * Updates the 'next value' of Channel from a primitive double with the given
+	 * timestamp, e.g. one timestamp shared by all values of a Modbus response.
+	 *
+	 * @param value     the 'next value'. It is going to be the 'value' after the
+	 *                  next ProcessImage gets activated.
+	 * @param timestamp the timestamp of the value
+	 */
+	public void setNextValue(double value, LocalDateTime timestamp) {
+		this.applyNextValue(new DoubleValue(this, value, timestamp));
+	}
+
+	/**
+	 * Gets the active value as primitive double; or the given alternative value if
+	 * the value is UNDEFINED.
+	 *
+	 * @param alternativeValue the alternative value
+	 * @return the value
+	 */
+	public double getAsDouble(double alternativeValue) {
+		var value = this.value();
+		if (value instanceof DoubleValue v) {
+			return v.getAsDouble();
+		}
+		var v = value.get();
+		if (v != null) {
+			return v;
+		}
+		return alternativeValue;
+	}
+
 }
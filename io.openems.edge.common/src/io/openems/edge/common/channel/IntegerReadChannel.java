@@ -1,8 +1,11 @@
 package io.openems.edge.common.channel;
 
+import java.time.LocalDateTime;
+
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
 import io.openems.edge.common.channel.internal.OpenemsTypeDoc;
+import io.openems.edge.common.channel.value.IntegerValue;
 import io.openems.edge.common.component.OpenemsComponent;
 
 public class IntegerReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Integer>, Integer> {
@@ -11,4 +14,49 @@ public class IntegerReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Integ
 		super(OpenemsType.INTEGER, component, channelId, channelDoc);
 	}
 
+	/**
+	 * Updates the 'next value' of Channel from a primitive int.
+	 *
+	 * <p>
+	 * Avoids boxing. Use {@link #setNextValue(Object)} with 'null' to set an
+	 * UNDEFINED value.
+	 *
+	 * @param value the 'next value'. It is going to be the 'value' after the next
+	 *              ProcessImage gets activated.
+	 */
+	public void setNextValue(int value) {
+		this.setNextValue(value, LocalDateTime.now());
+	}
+
+	/**
+	 * Updates the 'next value' of Channel from a primitive int with the given
+	 * timestamp, e.g. one timestamp shared by all values of a Modbus response.
+	 *
+	 * @param value     the 'next value'. It is going to be the 'value' after the
+	 *                  next ProcessImage gets activated.
+	 * @param timestamp the timestamp of the value
+	 */
+	public void setNextValue(int value, LocalDateTime timestamp) {
+		this.applyNextValue(new IntegerValue(this, value, timestamp));
+	}
+
+	/**
+	 * Gets the active value as primitive int; or the given alternative value if
+	 * the value is UNDEFINED.
+	 *
+	 * @param alternativeValue the alternative value
+	 * @return the value
+	 */
+	public int getAsInt(int alternativeValue) {
+		var value = this.value();
+		if (value instanceof IntegerValue v) {
+			return v.getAsInt();
+		}
+		var v = value.get();
+		if (v != null) {
+			return v;
+		}
+		return alternativeValue;
+	}
+
 }
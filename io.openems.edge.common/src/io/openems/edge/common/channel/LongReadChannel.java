@@ -1,8 +1,11 @@
 package io.openems.edge.common.channel;
 
+import java.time.LocalDateTime;
+
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
 import io.openems.edge.common.channel.internal.OpenemsTypeDoc;
+import io.openems.edge.common.channel.value.LongValue;
 import io.openems.edge.common.component.OpenemsComponent;
 
 public class LongReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Long>, Long> {
@@ -11,4 +14,49 @@ public class LongReadChannel extends AbstractReadChannel<OpenemsTypeDoc<Long>, L
 		super(OpenemsType.LONG, component, channelId, channelDoc);
 	}
 
+	/**
+	 * Updates the 'next value' of Channel from a primitive long.
+	 *
+	 * <p>
+	 * Avoids boxing. Use {@link #setNextValue(Object)} with 'null' to set an
+	 * UNDEFINED value.
+	 *
+	 * @param value the 'next value'. It is going to be the 'value' after the next
+	 *              ProcessImage gets activated.
+	 */
+	public void setNextValue(long value) {
+		this.setNextValue(value, LocalDateTime.now());
+	}
+
+	/**
+	 * Updates the 'next value' of Channel from a primitive long with the given
+	 * timestamp, e.g. one timestamp shared by all values of a Modbus response.
+	 *
+	 * @param value     the 'next value'. It is going to be the 'value' after the
+	 *                  next ProcessImage gets activated.
+	 * @param timestamp the timestamp of the value
+	 */
+	public void setNextValue(long value, LocalDateTime timestamp) {
+		this.applyNextValue(new LongValue(this, value, timestamp));
+	}
+
+	/**
+	 * Gets the active value as primitive long; or the given alternative value if
+	 * the value is UNDEFINED.
+	 *
+	 * @param alternativeValue the alternative value
+	 * @return the value
+	 */
+	public long getAsLong(long alternativeValue) {
+		var value = this.value();
+		if (value instanceof LongValue v) {
+			return v.getAsLong();
+		}
+		var v = value.get();
+		if (v != null) {
+			return v;
+		}
+		return alternativeValue;
+	}
+
 }
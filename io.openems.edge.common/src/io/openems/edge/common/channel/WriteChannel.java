@@ -42,6 +42,7 @@ public interface WriteChannel<T> extends Channel<T> {
 		OpenemsNamedException exception = null;
 		// set the write value
 		this._setNextWriteValue(typedValue);
+		WriteRecorder.record(this, typedValue);
 		for (ThrowingConsumer<T, OpenemsNamedException> callback : this.getOnSetNextWrites()) {
 			try {
 				callback.accept(typedValue);
@@ -0,0 +1,58 @@
+package io.openems.edge.common.channel;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records the {@link WriteChannel}s that are written by the current thread.
+ *
+ * <p>
+ * Used by the Cycle to derive the write sets of Controllers. Recording is only
+ * active between {@link #start()} and {@link #stop()}; otherwise
+ * {@link WriteChannel#setNextWriteValueFromObject(Object)} only pays for a
+ * {@link ThreadLocal} lookup.
+ */
+public final class WriteRecorder {
+
+	private static final ThreadLocal<Map<WriteChannel<?>, Object>> RECORDS = new ThreadLocal<>();
+
+	private WriteRecorder() {
+	}
+
+	/**
+	 * Starts recording for the current thread.
+	 */
+	public static void start() {
+		RECORDS.set(new LinkedHashMap<>());
+	}
+
+	/**
+	 * Stops recording for the current thread.
+	 *
+	 * @return the written Channels with their last written value, in order of
+	 *         first write
+	 */
+	public static Map<WriteChannel<?>, Object> stop() {
+		var records = RECORDS.get();
+		RECORDS.remove();
+		if (records == null) {
+			return Collections.emptyMap();
+		}
+		return records;
+	}
+
+	/**
+	 * Records a write if recording is active for the current thread.
+	 *
+	 * @param channel the {@link WriteChannel}
+	 * @param value   the written value
+	 */
+	static void record(WriteChannel<?> channel, Object value) {
+		var records = RECORDS.get();
+		if (records != null) {
+			records.put(channel, value);
+		}
+	}
+
+}
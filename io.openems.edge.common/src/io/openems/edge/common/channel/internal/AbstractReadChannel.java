@@ -2,8 +2,8 @@ package io.openems.edge.common.channel.internal;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -34,7 +34,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+	private final PastValues<T> pastValues = new PastValues<>();
 
 	/**
 	 * The 'next' value of the Channel. Copied to 'active' in
@@ -116,12 +116,13 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 			this.onUpdateCallbacks.forEach(callback -> callback.accept(newValue));
 
 			// If value has changed -> call 'onChange' callbacks
-			if (!Objects.equals(oldValue.get(), newValue.get())) {
+			if (!oldValue.hasSameValue(newValue)) {
 				this.onChangeCallbacks.forEach(callback -> callback.accept(oldValue, newValue));
 			}
 
-			// Additionally append to 'pastValues'
-			this.appendPastValue(newValue);
+			// Additionally append to 'pastValues'; deletes entries that are elder than
+			// MAX_AGE_OF_PAST_VALUES
+			this.pastValues.add(newValue);
 
 		} catch (RuntimeException e) {
 			var component = this.parent != null ? this.parent.id() : "";
@@ -131,19 +132,6 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		}
 	}
 
-	/**
-	 * Appends a value to `pastValues` and deletes entries that are elder than
-	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
-	 * 
-	 * @param value a new {@link Value}
-	 */
-	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
-	}
-
 	@Override
 	public ChannelAddress address() {
 		return new ChannelAddress(this.parent.id(), this.channelId().id());
@@ -177,11 +165,23 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 			return;
 		}
 
-		this.nextValue = new Value<>(this, value);
+		this.applyNextValue(new Value<>(this, value));
+	}
+
+	/**
+	 * Sets the next value from an already created {@link Value}, e.g. from one of
+	 * the primitive setters. Internal method.
+	 *
+	 * @param value the next {@link Value}; never null
+	 */
+	protected void applyNextValue(Value<T> value) {
+		this.nextValue = value;
 		if (this.channelDoc.isDebug()) {
-			this.log.info("Next value for [" + this.address() + "]: " + this.nextValue.asString());
+			this.log.info("Next value for [" + this.address() + "]: " + value.asString());
+		}
+		for (var callback : this.onSetNextValueCallbacks) {
+			callback.accept(value);
 		}
-		this.onSetNextValueCallbacks.forEach(callback -> callback.accept(this.nextValue));
 	}
 
 	@Override
@@ -300,8 +300,8 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 * @return a map of recording time and historic value at that time
 	 */
 	@Override
-	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
-		return this.pastValues;
+	public NavigableMap<LocalDateTime, Value<T>> getPastValues() {
+		return this.pastValues.asMap();
 	}
 
 	/**
@@ -0,0 +1,181 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.NavigableMap;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * Holds the past values of a Channel in a ring buffer.
+ *
+ * <p>
+ * Timestamps are stored in a primitive array as nanoseconds of the
+ * {@link LocalDateTime} (interpreted as UTC), values in a parallel array.
+ * Values that are older than {@link Channel#MAX_AGE_OF_PAST_VALUES} compared
+ * to the latest value are dropped on {@link #add(Value)}. The buffer only grows
+ * if more values fall into that period than currently fit.
+ *
+ * <p>
+ * {@link #asMap()} returns a read-only view on the buffer without copying. A
+ * slot that might be referenced by such a view is never overwritten; instead
+ * the buffer is reallocated once a view is outstanding and {@link #add(Value)}
+ * runs out of free slots, i.e. at most once per capacity-minus-size Cycles.
+ *
+ * @param <T> the type of the Channel
+ */
+public class PastValues<T> {
+
+	private static final int INITIAL_CAPACITY = 64;
+	private static final long MAX_AGE_NANOS = Duration.from(Channel.MAX_AGE_OF_PAST_VALUES).toNanos();
+
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private Value<T>[] values = newArray(INITIAL_CAPACITY);
+
+	/**
+	 * Index of the oldest entry.
+	 */
+	private int head = 0;
+
+	/**
+	 * Number of entries.
+	 */
+	private int size = 0;
+
+	/**
+	 * Number of slots that can be written before a slot that is referenced by a
+	 * view would be overwritten; -1 if no view was created since the last
+	 * reallocation.
+	 */
+	private int freeSlots = -1;
+
+	/**
+	 * Cached view; reset on every change.
+	 */
+	private PastValuesMap<T> map = null;
+
+	/**
+	 * Converts a {@link LocalDateTime} to the internal timestamp representation.
+	 *
+	 * @param timestamp the {@link LocalDateTime}
+	 * @return nanoseconds since epoch, interpreting the timestamp as UTC
+	 */
+	protected static long toNanos(LocalDateTime timestamp) {
+		return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + timestamp.getNano();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Value<T>[] newArray(int length) {
+		return (Value<T>[]) new Value<?>[length];
+	}
+
+	/**
+	 * Adds a {@link Value} and drops entries that are older than
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 *
+	 * <p>
+	 * An existing entry with the same timestamp is replaced. If the timestamp is
+	 * before the latest entry (i.e. the system clock was set back), all entries
+	 * that are not older than the given timestamp are dropped to keep the buffer
+	 * sorted.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public synchronized void add(Value<T> value) {
+		final var timestamp = toNanos(value.getTimestamp());
+		var capacity = this.timestamps.length;
+
+		// Drop entries with same or later timestamp
+		var droppedLatest = false;
+		while (this.size > 0) {
+			var last = (this.head + this.size - 1) % capacity;
+			if (this.timestamps[last] < timestamp) {
+				break;
+			}
+			this.size--;
+			droppedLatest = true;
+		}
+
+		// Drop entries that are too old. Slots are not cleared, because they might
+		// still be referenced by a view.
+		final var compareTime = timestamp - MAX_AGE_NANOS;
+		while (this.size > 0 && this.timestamps[this.head] < compareTime) {
+			this.head = (this.head + 1) % capacity;
+			this.size--;
+		}
+
+		if (this.size == capacity) {
+			this.reallocate(capacity * 2);
+		} else if (this.freeSlots == 0 || this.freeSlots > 0 && droppedLatest) {
+			// Next slot might be referenced by a view
+			this.reallocate(capacity);
+		}
+		if (this.freeSlots > 0) {
+			this.freeSlots--;
+		}
+
+		var index = (this.head + this.size) % this.timestamps.length;
+		this.timestamps[index] = timestamp;
+		this.values[index] = value;
+		this.size++;
+		this.map = null;
+	}
+
+	private void reallocate(int newCapacity) {
+		var newTimestamps = new long[newCapacity];
+		Value<T>[] newValues = newArray(newCapacity);
+		this.copyTo(newTimestamps, newValues);
+		this.timestamps = newTimestamps;
+		this.values = newValues;
+		this.head = 0;
+		this.freeSlots = -1;
+	}
+
+	/**
+	 * Copies the entries in ascending order to the given arrays.
+	 *
+	 * @param targetTimestamps the target for timestamps
+	 * @param targetValues     the target for values
+	 */
+	private void copyTo(long[] targetTimestamps, Value<T>[] targetValues) {
+		var firstPart = Math.min(this.size, this.timestamps.length - this.head);
+		System.arraycopy(this.timestamps, this.head, targetTimestamps, 0, firstPart);
+		System.arraycopy(this.values, this.head, targetValues, 0, firstPart);
+		System.arraycopy(this.timestamps, 0, targetTimestamps, firstPart, this.size - firstPart);
+		System.arraycopy(this.values, 0, targetValues, firstPart, this.size - firstPart);
+	}
+
+	/**
+	 * Gets the number of entries.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets a read-only {@link NavigableMap} view of the current entries.
+	 *
+	 * <p>
+	 * The view is a snapshot: it is not updated by later calls to
+	 * {@link #add(Value)}. It is cached until the next change, so repeated calls
+	 * within one Cycle share the same instance.
+	 *
+	 * @return a map of recording time and historic value at that time
+	 */
+	public synchronized NavigableMap<LocalDateTime, Value<T>> asMap() {
+		var map = this.map;
+		if (map == null) {
+			map = new PastValuesMap<>(this.timestamps, this.values, this.head, this.size);
+			this.map = map;
+			if (this.freeSlots < 0) {
+				this.freeSlots = this.timestamps.length - this.size;
+			}
+		}
+		return map;
+	}
+
+}
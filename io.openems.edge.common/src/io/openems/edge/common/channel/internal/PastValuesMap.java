@@ -0,0 +1,508 @@
+package io.openems.edge.common.channel.internal;
+
+import java.time.LocalDateTime;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import io.openems.edge.common.channel.value.Value;
+
+/**
+ * An immutable {@link NavigableMap} view on a range of the ring buffer of
+ * {@link PastValues}.
+ *
+ * <p>
+ * Lookups use binary search on the primitive timestamp array. Range views
+ * ({@link #tailMap(LocalDateTime)}, {@link #descendingMap()},...) and key sets
+ * are further views on the same arrays; nothing is copied.
+ * {@link PastValues} never overwrites a slot that might be referenced by a
+ * view.
+ *
+ * @param <T> the type of the Channel
+ */
+public class PastValuesMap<T> extends AbstractMap<LocalDateTime, Value<T>>
+		implements NavigableMap<LocalDateTime, Value<T>> {
+
+	private final long[] timestamps;
+	private final Value<T>[] values;
+	/**
+	 * Slot of the logical index 0.
+	 */
+	private final int head;
+	/**
+	 * First logical index (inclusive).
+	 */
+	private final int from;
+	/**
+	 * Last logical index (exclusive).
+	 */
+	private final int to;
+	private final boolean descending;
+
+	protected PastValuesMap(long[] timestamps, Value<T>[] values, int head, int size) {
+		this(timestamps, values, head, 0, size, false);
+	}
+
+	private PastValuesMap(long[] timestamps, Value<T>[] values, int head, int from, int to, boolean descending) {
+		this.timestamps = timestamps;
+		this.values = values;
+		this.head = head;
+		this.from = from;
+		this.to = to;
+		this.descending = descending;
+	}
+
+	private int slot(int index) {
+		var slot = this.head + index;
+		return slot >= this.timestamps.length ? slot - this.timestamps.length : slot;
+	}
+
+	private Value<T> value(int index) {
+		if (index < this.from || index >= this.to) {
+			return null;
+		}
+		return this.values[this.slot(index)];
+	}
+
+	private Entry<LocalDateTime, Value<T>> entry(int index) {
+		var value = this.value(index);
+		if (value == null) {
+			return null;
+		}
+		return new SimpleImmutableEntry<>(value.getTimestamp(), value);
+	}
+
+	private LocalDateTime key(int index) {
+		var value = this.value(index);
+		if (value == null) {
+			return null;
+		}
+		return value.getTimestamp();
+	}
+
+	/**
+	 * Binary search in ascending order; same semantics as
+	 * {@link java.util.Arrays#binarySearch(long[], int, int, long)} on logical
+	 * indices.
+	 */
+	private int search(LocalDateTime key) {
+		var nanos = PastValues.toNanos(key);
+		var low = this.from;
+		var high = this.to - 1;
+		while (low <= high) {
+			var mid = (low + high) >>> 1;
+			var midValue = this.timestamps[this.slot(mid)];
+			if (midValue < nanos) {
+				low = mid + 1;
+			} else if (midValue > nanos) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	private int ascendingLower(LocalDateTime key) {
+		var index = this.search(key);
+		return index >= 0 ? index - 1 : -index - 2;
+	}
+
+	private int ascendingFloor(LocalDateTime key) {
+		var index = this.search(key);
+		return index >= 0 ? index : -index - 2;
+	}
+
+	private int ascendingCeiling(LocalDateTime key) {
+		var index = this.search(key);
+		return index >= 0 ? index : -index - 1;
+	}
+
+	private int ascendingHigher(LocalDateTime key) {
+		var index = this.search(key);
+		return index >= 0 ? index + 1 : -index - 1;
+	}
+
+	private int first() {
+		return this.descending ? this.to - 1 : this.from;
+	}
+
+	private int last() {
+		return this.descending ? this.from : this.to - 1;
+	}
+
+	private int lower(LocalDateTime key) {
+		return this.descending ? this.ascendingHigher(key) : this.ascendingLower(key);
+	}
+
+	private int floor(LocalDateTime key) {
+		return this.descending ? this.ascendingCeiling(key) : this.ascendingFloor(key);
+	}
+
+	private int ceiling(LocalDateTime key) {
+		return this.descending ? this.ascendingFloor(key) : this.ascendingCeiling(key);
+	}
+
+	private int higher(LocalDateTime key) {
+		return this.descending ? this.ascendingLower(key) : this.ascendingHigher(key);
+	}
+
+	private <E> Iterator<E> iterator(IntFunction<E> mapper) {
+		return new Iterator<>() {
+			private int remaining = PastValuesMap.this.size();
+			private int index = PastValuesMap.this.first();
+
+			@Override
+			public boolean hasNext() {
+				return this.remaining > 0;
+			}
+
+			@Override
+			public E next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				this.remaining--;
+				var result = mapper.apply(this.index);
+				this.index += PastValuesMap.this.descending ? -1 : 1;
+				return result;
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return this.to - this.from;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.to == this.from;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof LocalDateTime t && this.search(t) >= 0;
+	}
+
+	@Override
+	public Value<T> get(Object key) {
+		if (key instanceof LocalDateTime t) {
+			return this.value(this.search(t));
+		}
+		return null;
+	}
+
+	@Override
+	public Set<Entry<LocalDateTime, Value<T>>> entrySet() {
+		return new AbstractSet<>() {
+
+			@Override
+			public Iterator<Entry<LocalDateTime, Value<T>>> iterator() {
+				return PastValuesMap.this.iterator(PastValuesMap.this::entry);
+			}
+
+			@Override
+			public int size() {
+				return PastValuesMap.this.size();
+			}
+		};
+	}
+
+	@Override
+	public Collection<Value<T>> values() {
+		return new AbstractCollection<>() {
+
+			@Override
+			public Iterator<Value<T>> iterator() {
+				return PastValuesMap.this.iterator(PastValuesMap.this::value);
+			}
+
+			@Override
+			public int size() {
+				return PastValuesMap.this.size();
+			}
+		};
+	}
+
+	@Override
+	public Set<LocalDateTime> keySet() {
+		return this.navigableKeySet();
+	}
+
+	@Override
+	public Comparator<? super LocalDateTime> comparator() {
+		// null means natural ordering
+		return this.descending ? Comparator.reverseOrder() : null;
+	}
+
+	@Override
+	public LocalDateTime firstKey() {
+		if (this.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return this.key(this.first());
+	}
+
+	@Override
+	public LocalDateTime lastKey() {
+		if (this.isEmpty()) {
+			throw new NoSuchElementException();
+		}
+		return this.key(this.last());
+	}
+
+	@Override
+	public Entry<LocalDateTime, Value<T>> firstEntry() {
+		return this.entry(this.first());
+	}
+
+	@Override
+	public Entry<LocalDateTime, Value<T>> lastEntry() {
+		return this.entry(this.last());
+	}
+
+	@Override
+	public Entry<LocalDateTime, Value<T>> lowerEntry(LocalDateTime key) {
+		return this.entry(this.lower(key));
+	}
+
+	@Override
+	public LocalDateTime lowerKey(LocalDateTime key) {
+		return this.key(this.lower(key));
+	}
+
+	@Override
+	public Entry<LocalDateTime, Value<T>> floorEntry(LocalDateTime key) {
+		return this.entry(this.floor(key));
+	}
+
+	@Override
+	public LocalDateTime floorKey(LocalDateTime key) {
+		return this.key(this.floor(key));
+	}
+
+	@Override
+	public Entry<LocalDateTime, Value<T>> ceilingEntry(LocalDateTime key) {
+		return this.entry(this.ceiling(key));
+	}
+
+	@Override
+	public LocalDateTime ceilingKey(LocalDateTime key) {
+		return this.key(this.ceiling(key));
+	}
+
+	@Override
+	public Entry<LocalDateTime, Value<T>> higherEntry(LocalDateTime key) {
+		return this.entry(this.higher(key));
+	}
+
+	@Override
+	public LocalDateTime higherKey(LocalDateTime key) {
+		return this.key(this.higher(key));
+	}
+
+	@Override
+	public Entry<LocalDateTime, Value<T>> pollFirstEntry() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public Entry<LocalDateTime, Value<T>> pollLastEntry() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public PastValuesMap<T> subMap(LocalDateTime fromKey, boolean fromInclusive, LocalDateTime toKey,
+			boolean toInclusive) {
+		if (this.descending) {
+			return this.ascendingRange(toKey, toInclusive, fromKey, fromInclusive);
+		}
+		return this.ascendingRange(fromKey, fromInclusive, toKey, toInclusive);
+	}
+
+	@Override
+	public PastValuesMap<T> subMap(LocalDateTime fromKey, LocalDateTime toKey) {
+		return this.subMap(fromKey, true, toKey, false);
+	}
+
+	@Override
+	public PastValuesMap<T> headMap(LocalDateTime toKey, boolean inclusive) {
+		if (this.descending) {
+			return this.ascendingRange(toKey, inclusive, null, false);
+		}
+		return this.ascendingRange(null, false, toKey, inclusive);
+	}
+
+	@Override
+	public PastValuesMap<T> headMap(LocalDateTime toKey) {
+		return this.headMap(toKey, false);
+	}
+
+	@Override
+	public PastValuesMap<T> tailMap(LocalDateTime fromKey, boolean inclusive) {
+		if (this.descending) {
+			return this.ascendingRange(null, false, fromKey, inclusive);
+		}
+		return this.ascendingRange(fromKey, inclusive, null, false);
+	}
+
+	@Override
+	public PastValuesMap<T> tailMap(LocalDateTime fromKey) {
+		return this.tailMap(fromKey, true);
+	}
+
+	@Override
+	public PastValuesMap<T> descendingMap() {
+		return new PastValuesMap<>(this.timestamps, this.values, this.head, this.from, this.to, !this.descending);
+	}
+
+	@Override
+	public NavigableSet<LocalDateTime> navigableKeySet() {
+		return new KeySet(this);
+	}
+
+	@Override
+	public NavigableSet<LocalDateTime> descendingKeySet() {
+		return new KeySet(this.descendingMap());
+	}
+
+	/**
+	 * Gets a view on a range in ascending order; null keys are unbounded.
+	 */
+	private PastValuesMap<T> ascendingRange(LocalDateTime low, boolean lowInclusive, LocalDateTime high,
+			boolean highInclusive) {
+		var start = this.from;
+		if (low != null) {
+			start = Math.max(start, lowInclusive ? this.ascendingCeiling(low) : this.ascendingHigher(low));
+		}
+		var end = this.to;
+		if (high != null) {
+			end = Math.min(end, (highInclusive ? this.ascendingFloor(high) : this.ascendingLower(high)) + 1);
+		}
+		end = Math.max(start, end);
+		if (start == this.from && end == this.to) {
+			return this;
+		}
+		return new PastValuesMap<>(this.timestamps, this.values, this.head, start, end, this.descending);
+	}
+
+	private static class KeySet extends AbstractSet<LocalDateTime> implements NavigableSet<LocalDateTime> {
+
+		private final PastValuesMap<?> map;
+
+		private KeySet(PastValuesMap<?> map) {
+			this.map = map;
+		}
+
+		@Override
+		public Iterator<LocalDateTime> iterator() {
+			return this.map.iterator(this.map::key);
+		}
+
+		@Override
+		public Iterator<LocalDateTime> descendingIterator() {
+			return this.descendingSet().iterator();
+		}
+
+		@Override
+		public int size() {
+			return this.map.size();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return this.map.containsKey(o);
+		}
+
+		@Override
+		public Comparator<? super LocalDateTime> comparator() {
+			return this.map.comparator();
+		}
+
+		@Override
+		public LocalDateTime first() {
+			return this.map.firstKey();
+		}
+
+		@Override
+		public LocalDateTime last() {
+			return this.map.lastKey();
+		}
+
+		@Override
+		public LocalDateTime lower(LocalDateTime e) {
+			return this.map.lowerKey(e);
+		}
+
+		@Override
+		public LocalDateTime floor(LocalDateTime e) {
+			return this.map.floorKey(e);
+		}
+
+		@Override
+		public LocalDateTime ceiling(LocalDateTime e) {
+			return this.map.ceilingKey(e);
+		}
+
+		@Override
+		public LocalDateTime higher(LocalDateTime e) {
+			return this.map.higherKey(e);
+		}
+
+		@Override
+		public LocalDateTime pollFirst() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public LocalDateTime pollLast() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> descendingSet() {
+			return new KeySet(this.map.descendingMap());
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> subSet(LocalDateTime fromElement, boolean fromInclusive,
+				LocalDateTime toElement, boolean toInclusive) {
+			return new KeySet(this.map.subMap(fromElement, fromInclusive, toElement, toInclusive));
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> subSet(LocalDateTime fromElement, LocalDateTime toElement) {
+			return this.subSet(fromElement, true, toElement, false);
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> headSet(LocalDateTime toElement, boolean inclusive) {
+			return new KeySet(this.map.headMap(toElement, inclusive));
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> headSet(LocalDateTime toElement) {
+			return this.headSet(toElement, false);
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> tailSet(LocalDateTime fromElement, boolean inclusive) {
+			return new KeySet(this.map.tailMap(fromElement, inclusive));
+		}
+
+		@Override
+		public NavigableSet<LocalDateTime> tailSet(LocalDateTime fromElement) {
+			return this.tailSet(fromElement, true);
+		}
+	}
+
+}
@@ -0,0 +1,51 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.LocalDateTime;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.DoubleReadChannel;
+
+/**
+ * A defined {@link Value} that holds a primitive double.
+ *
+ * <p>
+ * Created by {@link DoubleReadChannel#setNextValue(double)}. The value is only
+ * boxed if it is accessed via the generic {@link #get()} method.
+ */
+public class DoubleValue extends Value<Double> {
+
+	private final double value;
+
+	public DoubleValue(Channel<Double> parent, double value, LocalDateTime timestamp) {
+		super(parent, null, timestamp);
+		this.value = value;
+	}
+
+	/**
+	 * Gets the value as primitive double.
+	 *
+	 * @return the value
+	 */
+	public double getAsDouble() {
+		return this.value;
+	}
+
+	@Override
+	public Double get() {
+		return this.value;
+	}
+
+	@Override
+	public boolean isDefined() {
+		return true;
+	}
+
+	@Override
+	public boolean hasSameValue(Value<?> other) {
+		if (other instanceof DoubleValue o) {
+			return Double.compare(this.value, o.value) == 0;
+		}
+		return super.hasSameValue(other);
+	}
+
+}
@@ -0,0 +1,51 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.LocalDateTime;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.IntegerReadChannel;
+
+/**
+ * A defined {@link Value} that holds a primitive int.
+ *
+ * <p>
+ * Created by {@link IntegerReadChannel#setNextValue(int)}. The value is only
+ * boxed if it is accessed via the generic {@link #get()} method.
+ */
+public class IntegerValue extends Value<Integer> {
+
+	private final int value;
+
+	public IntegerValue(Channel<Integer> parent, int value, LocalDateTime timestamp) {
+		super(parent, null, timestamp);
+		this.value = value;
+	}
+
+	/**
+	 * Gets the value as primitive int.
+	 *
+	 * @return the value
+	 */
+	public int getAsInt() {
+		return this.value;
+	}
+
+	@Override
+	public Integer get() {
+		return this.value;
+	}
+
+	@Override
+	public boolean isDefined() {
+		return true;
+	}
+
+	@Override
+	public boolean hasSameValue(Value<?> other) {
+		if (other instanceof IntegerValue o) {
+			return this.value == o.value;
+		}
+		return super.hasSameValue(other);
+	}
+
+}
@@ -0,0 +1,51 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.LocalDateTime;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.LongReadChannel;
+
+/**
+ * A defined {@link Value} that holds a primitive long.
+ *
+ * <p>
+ * Created by {@link LongReadChannel#setNextValue(long)}. The value is only
+ * boxed if it is accessed via the generic {@link #get()} method.
+ */
+public class LongValue extends Value<Long> {
+
+	private final long value;
+
+	public LongValue(Channel<Long> parent, long value, LocalDateTime timestamp) {
+		super(parent, null, timestamp);
+		this.value = value;
+	}
+
+	/**
+	 * Gets the value as primitive long.
+	 *
+	 * @return the value
+	 */
+	public long getAsLong() {
+		return this.value;
+	}
+
+	@Override
+	public Long get() {
+		return this.value;
+	}
+
+	@Override
+	public boolean isDefined() {
+		return true;
+	}
+
+	@Override
+	public boolean hasSameValue(Value<?> other) {
+		if (other instanceof LongValue o) {
+			return this.value == o.value;
+		}
+		return super.hasSameValue(other);
+	}
+
+}
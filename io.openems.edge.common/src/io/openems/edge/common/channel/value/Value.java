@@ -1,6 +1,7 @@
 package io.openems.edge.common.channel.value;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -46,9 +47,13 @@ public class Value<T> {
 	private final LocalDateTime timestamp;
 
 	public Value(Channel<T> parent, T value) {
+		this(parent, value, LocalDateTime.now());
+	}
+
+	public Value(Channel<T> parent, T value, LocalDateTime timestamp) {
 		this.parent = parent;
 		this.value = value;
-		this.timestamp = LocalDateTime.now();
+		this.timestamp = timestamp;
 	}
 
 	/**
@@ -62,9 +67,10 @@ public class Value<T> {
 
 	@Override
 	public String toString() {
-		if (this.value != null) {
+		var value = this.get();
+		if (value != null) {
 			var optionString = this.asOptionString();
-			return this.parent.channelDoc().getUnit().format(this.value, this.parent.getType())
+			return this.parent.channelDoc().getUnit().format(value, this.parent.getType())
 					+ (optionString.isEmpty() ? "" : ":" + optionString);
 		}
 		var enumDoc = this.isEnumValue();
@@ -128,7 +134,7 @@ public class Value<T> {
 	 * @return true if the value is defined; false if it is UNDEFINED
 	 */
 	public boolean isDefined() {
-		return this.asOptional().isPresent();
+		return this.get() != null;
 	}
 
 	/**
@@ -151,7 +157,22 @@ public class Value<T> {
 	 * @return the value; or an alternative value if the value is null
 	 */
 	public T orElse(T alternativeValue) {
-		return Optional.ofNullable(this.get()).orElse(alternativeValue);
+		var value = this.get();
+		if (value != null) {
+			return value;
+		}
+		return alternativeValue;
+	}
+
+	/**
+	 * Checks if this Value wraps the same value as the other Value. Timestamps are
+	 * ignored.
+	 *
+	 * @param other the other {@link Value}
+	 * @return true if both values are equal
+	 */
+	public boolean hasSameValue(Value<?> other) {
+		return Objects.equals(this.get(), other.get());
 	}
 
 	/**
@@ -14,6 +14,7 @@ import io.openems.edge.common.channel.Doc;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.jsonapi.JsonApi;
+import io.openems.edge.common.sum.Sum;
 
 /**
  * A Service that provides access to OpenEMS-Components.
@@ -184,6 +185,25 @@ public interface ComponentManager extends OpenemsComponent, JsonApi, ClockProvid
 	 */
 	public List<OpenemsComponent> getEnabledComponents();
 
+	/**
+	 * Gets the Channels of all enabled OpenEMS-Components, excluding the
+	 * {@link Sum}-Component, as a flat array.
+	 *
+	 * <p>
+	 * This is used by the Cycle to switch to the next process image without
+	 * iterating the Components on every Cycle. Implementations may cache the
+	 * result until a Component is activated, modified or deactivated. The
+	 * returned array must not be modified.
+	 *
+	 * @return an array of Channels
+	 */
+	public default Channel<?>[] getEnabledComponentsChannels() {
+		return this.getEnabledComponents().stream() //
+				.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
+				.flatMap(c -> c.channels().stream()) //
+				.toArray(Channel<?>[]::new);
+	}
+
 	/**
 	 * Gets all enabled OpenEMS-Components of the given Type.
 	 * 
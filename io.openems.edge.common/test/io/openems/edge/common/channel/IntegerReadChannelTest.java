@@ -0,0 +1,71 @@
+package io.openems.edge.common.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.value.IntegerValue;
+
+public class IntegerReadChannelTest {
+
+	@Test
+	public void testInteger() {
+		var channel = (IntegerReadChannel) Doc.of(OpenemsType.INTEGER) //
+				.createChannelInstance(null, null);
+		var changes = new AtomicInteger();
+		channel.onChange((oldValue, newValue) -> changes.incrementAndGet());
+
+		assertEquals(-1, channel.getAsInt(-1));
+
+		channel.setNextValue(1234);
+		assertTrue(channel.getNextValue() instanceof IntegerValue);
+		assertEquals(1234, channel.getNextValue().get().intValue());
+		channel.nextProcessImage();
+		assertEquals(1234, channel.getAsInt(-1));
+		assertEquals(1, changes.get());
+
+		// Same value via generic API -> no change
+		channel.setNextValue(Integer.valueOf(1234));
+		channel.nextProcessImage();
+		assertEquals(1, changes.get());
+
+		// UNDEFINED via generic API
+		channel.setNextValue(null);
+		channel.nextProcessImage();
+		assertFalse(channel.value().isDefined());
+		assertEquals(-1, channel.getAsInt(-1));
+		assertEquals(2, changes.get());
+	}
+
+	@Test
+	public void testLongAndDouble() {
+		var longChannel = (LongReadChannel) Doc.of(OpenemsType.LONG) //
+				.createChannelInstance(null, null);
+		longChannel.setNextValue(5_000_000_000L);
+		longChannel.nextProcessImage();
+		assertEquals(5_000_000_000L, longChannel.getAsLong(0));
+		assertEquals(Long.valueOf(5_000_000_000L), longChannel.value().get());
+
+		var doubleChannel = (DoubleReadChannel) Doc.of(OpenemsType.DOUBLE) //
+				.createChannelInstance(null, null);
+		doubleChannel.setNextValue(1.5);
+		doubleChannel.nextProcessImage();
+		assertEquals(1.5, doubleChannel.getAsDouble(0), 0.001);
+	}
+
+	@Test
+	public void testTimestamp() {
+		var channel = (IntegerReadChannel) Doc.of(OpenemsType.INTEGER) //
+				.createChannelInstance(null, null);
+		var timestamp = LocalDateTime.of(2023, 1, 1, 0, 0);
+		channel.setNextValue(1, timestamp);
+		assertEquals(timestamp, channel.getNextValue().getTimestamp());
+	}
+
+}
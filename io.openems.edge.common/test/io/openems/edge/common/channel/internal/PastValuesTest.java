@@ -0,0 +1,156 @@
+package io.openems.edge.common.channel.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import io.openems.edge.common.channel.value.Value;
+
+public class PastValuesTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+	private static Value<Integer> value(int seconds, Integer value) {
+		return new Value<>(null, value, START.plusSeconds(seconds));
+	}
+
+	@Test
+	public void testAdd() {
+		var sut = new PastValues<Integer>();
+		var expected = new TreeMap<LocalDateTime, Value<Integer>>();
+		for (var i = 0; i < 1000; i++) {
+			var value = value(i, i);
+			sut.add(value);
+			expected.put(value.getTimestamp(), value);
+			expected.headMap(value.getTimestamp().minusSeconds(310)).clear();
+		}
+		assertEquals(311, sut.size());
+		assertEquals(expected, sut.asMap());
+		assertEquals(START.plusSeconds(689), sut.asMap().firstKey());
+		assertEquals(START.plusSeconds(999), sut.asMap().lastKey());
+	}
+
+	@Test
+	public void testReplaceAndClockChange() {
+		var sut = new PastValues<Integer>();
+		sut.add(value(0, 0));
+		sut.add(value(1, 1));
+		sut.add(value(2, 2));
+
+		// Same timestamp replaces
+		sut.add(value(2, 20));
+		assertEquals(3, sut.size());
+		assertEquals(20, sut.asMap().lastEntry().getValue().get().intValue());
+
+		// Clock set back drops later entries
+		sut.add(value(1, 10));
+		assertEquals(2, sut.size());
+		assertEquals(10, sut.asMap().lastEntry().getValue().get().intValue());
+	}
+
+	@Test
+	public void testNavigation() {
+		var sut = new PastValues<Integer>();
+		for (var i = 0; i < 10; i++) {
+			sut.add(value(i * 10, i));
+		}
+		var map = sut.asMap();
+		assertSame(map, sut.asMap());
+
+		assertEquals(START.plusSeconds(20), map.floorKey(START.plusSeconds(25)));
+		assertEquals(START.plusSeconds(20), map.floorKey(START.plusSeconds(20)));
+		assertEquals(START.plusSeconds(10), map.lowerKey(START.plusSeconds(20)));
+		assertEquals(START.plusSeconds(30), map.ceilingKey(START.plusSeconds(25)));
+		assertEquals(START.plusSeconds(30), map.higherKey(START.plusSeconds(20)));
+		assertNull(map.floorKey(START.minusSeconds(1)));
+		assertNull(map.higherKey(START.plusSeconds(90)));
+
+		var tail = map.tailMap(START.plusSeconds(50), true);
+		assertEquals(5, tail.size());
+		assertEquals(new ArrayList<>(new TreeMap<>(map).tailMap(START.plusSeconds(50), true).values()),
+				new ArrayList<>(tail.values()));
+		assertEquals(4, map.tailMap(START.plusSeconds(50), false).size());
+		assertEquals(5, map.headMap(START.plusSeconds(50)).size());
+		assertEquals(3, map.subMap(START.plusSeconds(15), START.plusSeconds(45)).size());
+		assertTrue(map.tailMap(START.plusSeconds(100)).isEmpty());
+		assertEquals(9, map.descendingMap().firstEntry().getValue().get().intValue());
+		assertEquals(3, map.get(START.plusSeconds(30)).get().intValue());
+
+		// Snapshot is not modified
+		sut.add(value(100, 10));
+		assertEquals(10, map.size());
+		assertEquals(11, sut.asMap().size());
+	}
+
+	@Test
+	public void testDescending() {
+		var sut = new PastValues<Integer>();
+		var expected = new TreeMap<LocalDateTime, Value<Integer>>();
+		for (var i = 0; i < 10; i++) {
+			var value = value(i * 10, i);
+			sut.add(value);
+			expected.put(value.getTimestamp(), value);
+		}
+		var map = sut.asMap().descendingMap();
+		var expectedMap = expected.descendingMap();
+		assertEquals(new ArrayList<>(expectedMap.values()), new ArrayList<>(map.values()));
+		assertEquals(new ArrayList<>(expectedMap.keySet()), new ArrayList<>(map.keySet()));
+		assertEquals(expectedMap.firstKey(), map.firstKey());
+		assertEquals(expectedMap.lastKey(), map.lastKey());
+		for (var seconds : new int[] { -1, 0, 25, 30, 90, 95 }) {
+			var key = START.plusSeconds(seconds);
+			assertEquals(expectedMap.floorKey(key), map.floorKey(key));
+			assertEquals(expectedMap.lowerKey(key), map.lowerKey(key));
+			assertEquals(expectedMap.ceilingKey(key), map.ceilingKey(key));
+			assertEquals(expectedMap.higherKey(key), map.higherKey(key));
+			assertEquals(expectedMap.headMap(key, true), map.headMap(key, true));
+			assertEquals(new ArrayList<>(expectedMap.tailMap(key).keySet()), //
+					new ArrayList<>(map.tailMap(key).keySet()));
+		}
+		assertEquals(new ArrayList<>(expectedMap.subMap(START.plusSeconds(65), START.plusSeconds(20)).keySet()),
+				new ArrayList<>(map.subMap(START.plusSeconds(65), START.plusSeconds(20)).keySet()));
+		assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.descendingMap().keySet()));
+		assertEquals(new ArrayList<>(expected.descendingKeySet()),
+				new ArrayList<>(sut.asMap().descendingKeySet()));
+		assertEquals(START.plusSeconds(40), sut.asMap().navigableKeySet().floor(START.plusSeconds(45)));
+	}
+
+	@Test
+	public void testViewIsNotOverwritten() {
+		var sut = new PastValues<Integer>();
+		var expected = new TreeMap<LocalDateTime, Value<Integer>>();
+		for (var i = 0; i < 300; i++) {
+			var value = value(i, i);
+			sut.add(value);
+			expected.put(value.getTimestamp(), value);
+		}
+		var map = sut.asMap();
+		var expectedMap = new TreeMap<>(expected);
+
+		// Ring buffer wraps around multiple times
+		for (var i = 300; i < 2000; i++) {
+			sut.add(value(i, i));
+			if (i % 100 == 0) {
+				sut.asMap();
+			}
+		}
+		assertEquals(expectedMap, map);
+		assertEquals(new ArrayList<>(expectedMap.descendingMap().values()),
+				new ArrayList<>(map.descendingMap().values()));
+
+		// Clock set back
+		map = sut.asMap();
+		expectedMap = new TreeMap<>(map);
+		sut.add(value(1500, 0));
+		assertEquals(expectedMap, map);
+		assertEquals(0, sut.asMap().lastEntry().getValue().get().intValue());
+	}
+
+}
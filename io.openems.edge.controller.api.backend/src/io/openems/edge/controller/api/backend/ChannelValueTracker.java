@@ -0,0 +1,154 @@
+package io.openems.edge.controller.api.backend;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.channel.PersistencePriority;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.Sum;
+
+/**
+ * Tracks changes of the persisted Channels of all enabled Components.
+ *
+ * <p>
+ * Every tracked Channel gets an onChange-Callback that marks it as dirty. The
+ * Channel-Address String is built only once per Channel. The set of tracked
+ * Channels is only synchronized if the Channel array of the
+ * {@link io.openems.edge.common.component.ComponentManager} changed, i.e. a
+ * Component was activated, modified or deactivated.
+ */
+public class ChannelValueTracker {
+
+	private static final class Tracked {
+
+		private final Channel<?> channel;
+		private final String key;
+		private final BiConsumer<?, ?> callback;
+		private volatile boolean isDirty = true;
+
+		private Tracked(ChannelValueTracker parent, Channel<?> channel) {
+			this.channel = channel;
+			this.key = channel.address().toString();
+			this.callback = channel.onChange((oldValue, newValue) -> parent.markDirty(this));
+		}
+	}
+
+	/**
+	 * All tracked Channels. Only accessed from the Cycle thread.
+	 */
+	private final Map<Channel<?>, Tracked> tracked = new IdentityHashMap<>();
+
+	private final ConcurrentLinkedQueue<Tracked> dirty = new ConcurrentLinkedQueue<>();
+
+	private Channel<?>[] lastChannels = null;
+	private PersistencePriority lastPriority = null;
+
+	private void markDirty(Tracked tracked) {
+		if (!tracked.isDirty) {
+			tracked.isDirty = true;
+			this.dirty.add(tracked);
+		}
+	}
+
+	/**
+	 * Synchronizes the tracked Channels if the Components changed.
+	 *
+	 * @param channels          the Channels of all enabled Components, excluding
+	 *                          the {@link Sum} Component; see
+	 *                          {@link io.openems.edge.common.component.ComponentManager#getEnabledComponentsChannels()}
+	 * @param enabledComponents the enabled Components, used to find the
+	 *                          {@link Sum} Component
+	 * @param priority          the minimum {@link PersistencePriority}
+	 */
+	public void update(Channel<?>[] channels, List<OpenemsComponent> enabledComponents,
+			PersistencePriority priority) {
+		if (channels == this.lastChannels && priority == this.lastPriority) {
+			return;
+		}
+		this.lastChannels = channels;
+		this.lastPriority = priority;
+
+		var previous = new IdentityHashMap<>(this.tracked);
+		this.tracked.clear();
+		for (var channel : channels) {
+			this.track(channel, priority, previous);
+		}
+		for (var component : enabledComponents) {
+			if (component instanceof Sum) {
+				for (var channel : component.channels()) {
+					this.track(channel, priority, previous);
+				}
+			}
+		}
+
+		// Remove callbacks of Channels that are not tracked anymore
+		for (var entry : previous.values()) {
+			entry.channel.removeOnChangeCallback(entry.callback);
+		}
+		this.dirty.removeIf(entry -> !this.tracked.containsKey(entry.channel));
+	}
+
+	private void track(Channel<?> channel, PersistencePriority priority, Map<Channel<?>, Tracked> previous) {
+		var doc = channel.channelDoc();
+		if (doc.getAccessMode() == AccessMode.WRITE_ONLY // Ignore WRITE_ONLY Channels
+				|| !doc.getPersistencePriority().isAtLeast(priority)) { // Ignore Low-Priority Channels
+			return;
+		}
+		var entry = previous.remove(channel);
+		if (entry == null) {
+			// New Channel: initially dirty
+			entry = new Tracked(this, channel);
+			this.dirty.add(entry);
+		}
+		this.tracked.put(channel, entry);
+	}
+
+	/**
+	 * Collects the current values of all Channels that changed since the last
+	 * call and resets their dirty flag.
+	 *
+	 * @param target the target map of Channel-Address to value
+	 */
+	public void collectChanged(Map<String, JsonElement> target) {
+		Tracked entry;
+		while ((entry = this.dirty.poll()) != null) {
+			entry.isDirty = false;
+			target.put(entry.key, entry.channel.value().asJson());
+		}
+	}
+
+	/**
+	 * Collects the current values of all tracked Channels and resets all dirty
+	 * flags.
+	 *
+	 * @param target the target map of Channel-Address to value
+	 */
+	public void collectAll(Map<String, JsonElement> target) {
+		this.dirty.clear();
+		for (var entry : this.tracked.values()) {
+			entry.isDirty = false;
+			target.put(entry.key, entry.channel.value().asJson());
+		}
+	}
+
+	/**
+	 * Removes all callbacks.
+	 */
+	public void clear() {
+		for (var entry : this.tracked.values()) {
+			entry.channel.removeOnChangeCallback(entry.callback);
+		}
+		this.tracked.clear();
+		this.dirty.clear();
+		this.lastChannels = null;
+		this.lastPriority = null;
+	}
+
+}
@@ -4,8 +4,9 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.EnableBinaryDataNotification;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
@@ -17,8 +18,16 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 	}
 
 	@Override
-	public void run(WebSocket ws, JsonrpcNotification notification) throws OpenemsException {
-		this.parent.logWarn(this.log, "Unhandled Notification: " + notification);
+	public void run(WebSocket ws, JsonrpcNotification notification) throws OpenemsNamedException {
+		switch (notification.getMethod()) {
+		case EnableBinaryDataNotification.METHOD -> {
+			var websocket = this.parent.websocket;
+			if (websocket != null) {
+				websocket.enableBinaryData(EnableBinaryDataNotification.from(notification));
+			}
+		}
+		default -> this.parent.logWarn(this.log, "Unhandled Notification: " + notification);
+		}
 	}
 
 }
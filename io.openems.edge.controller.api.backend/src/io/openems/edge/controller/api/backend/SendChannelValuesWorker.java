@@ -12,7 +12,6 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -24,7 +23,6 @@ import java.util.stream.Collector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.TreeBasedTable;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
@@ -49,7 +47,9 @@ import io.openems.edge.common.type.TypeUtils;
  *
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
- * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}. Changed values are
+ * tracked incrementally by a {@link ChannelValueTracker}; values that could not
+ * be sent are kept and sent with the next successful message.
  */
 public class SendChannelValuesWorker {
 
@@ -72,14 +72,25 @@ public class SendChannelValuesWorker {
 	private final AtomicBoolean sendValuesOfAllChannelsAggregated = new AtomicBoolean(true);
 
 	/**
-	 * Keeps the last timestamp when all channel values were sent.
+	 * Keeps the last timestamp when sending all channel values was triggered.
 	 */
-	private Instant lastSendValuesOfAllChannels = Instant.MIN;
+	private volatile Instant lastSendValuesOfAllChannels = Instant.MIN;
 
 	/**
-	 * Keeps the values of last successful send.
+	 * Tracks changed Channel values. Only accessed from the Cycle thread.
 	 */
-	private Map<String, JsonElement> lastAllValues = ImmutableMap.of();
+	private final ChannelValueTracker tracker = new ChannelValueTracker();
+
+	/**
+	 * Values that were collected but not yet sent successfully. Guarded by
+	 * itself.
+	 */
+	private final Map<String, JsonElement> unsentValues = new HashMap<>();
+
+	/**
+	 * True if {@link #unsentValues} holds the values of all Channels.
+	 */
+	private boolean unsentValuesAreComplete = false;
 
 	private Instant lastSendAggregatedDataTimestamp;
 
@@ -101,6 +112,9 @@ public class SendChannelValuesWorker {
 	public void deactivate() {
 		// Shutdown executor
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+		synchronized (this) {
+			this.tracker.clear();
+		}
 	}
 
 	/**
@@ -110,13 +124,13 @@ public class SendChannelValuesWorker {
 	public synchronized void collectData() {
 		var now = Instant.now(this.parent.componentManager.getClock());
 
-		// Update the values of all channels
+		// Collect the changed values of Channels
 		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
+		this.collectData(now, enabledComponents);
 		final var aggregatedValues = this.collectAggregatedData(enabledComponents);
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
+		this.executor.execute(new SendTask(this, now));
 		if (aggregatedValues != null && !aggregatedValues.isEmpty()) {
 			aggregatedValues.rowMap().forEach((timestamp, data) -> {
 				this.executor.execute(new SendAggregatedDataTask(this, Instant.ofEpochMilli(timestamp), data));
@@ -125,35 +139,35 @@ public class SendChannelValuesWorker {
 	}
 
 	/**
-	 * Cycles through all Channels and collects the value.
+	 * Collects the changed values of Channels - or the values of all Channels once
+	 * in a while - and adds them to {@link #unsentValues}.
 	 *
+	 * @param now               the current timestamp
 	 * @param enabledComponents the enabled components
-	 * @return collected data
 	 */
-	private ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
+	private void collectData(Instant now, List<OpenemsComponent> enabledComponents) {
 		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(//
-							ImmutableMap.toImmutableMap(//
-									c -> c.address().toString(), //
-									c -> c.value().asJson(), //
-									// simple/stupid merge function to avoid
-									// 'java.lang.IllegalArgumentException Duplicate Key'
-									(t, u) -> {
-										this.parent.logWarn(this.log, "Duplicate Key [" + t.toString() + "]");
-										return t;
-									}));
+			this.tracker.update(this.parent.componentManager.getEnabledComponentsChannels(), enabledComponents,
+					this.parent.config.persistencePriority());
+
+			if (this.sendValuesOfAllChannels.getAndSet(false) // Send values of all Channels if explicitly asked for
+					// Send values of all Channels once in a while
+					|| Duration.between(this.lastSendValuesOfAllChannels, now)
+							.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
+				this.lastSendValuesOfAllChannels = now;
+				synchronized (this.unsentValues) {
+					this.unsentValues.clear();
+					this.tracker.collectAll(this.unsentValues);
+					this.unsentValuesAreComplete = true;
+				}
+
+			} else {
+				synchronized (this.unsentValues) {
+					this.tracker.collectChanged(this.unsentValues);
+				}
+			}
 		} catch (Exception e) {
-			// ConcurrentModificationException can happen if Channels are dynamically added
-			// or removed
 			this.parent.logWarn(this.log, "Unable to collect date: " + e.getMessage());
-			return ImmutableMap.of();
 		}
 	}
 
@@ -337,52 +351,28 @@ public class SendChannelValuesWorker {
 
 		private final SendChannelValuesWorker parent;
 		private final Instant timestamp;
-		private final Map<String, JsonElement> allValues;
 
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp, Map<String, JsonElement> allValues) {
+		public SendTask(SendChannelValuesWorker parent, Instant timestamp) {
 			this.parent = parent;
 			this.timestamp = timestamp;
-			this.allValues = allValues;
 		}
 
 		@Override
 		public void run() {
-			// Holds the data of the last successful send. If the table is empty, it is also
-			// used as a marker to send all data.
-			final Map<String, JsonElement> lastAllValues;
-
-			if (this.parent.sendValuesOfAllChannels.getAndSet(false)) {
-				// Send values of all Channels once in a while
-				lastAllValues = ImmutableMap.of();
-
-			} else if (Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
-					.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
-				// Send values of all Channels if explicitly asked for
-				lastAllValues = ImmutableMap.of();
-
-			} else {
-				// Actually use the kept 'lastSentValues'
-				// CHECKSTYLE:OFF
-				lastAllValues = this.parent.lastAllValues;
-				// CHECKSTYLE:ON
+			// Take the values that were collected since the last successful send
+			final Map<String, JsonElement> sendValuesMap;
+			final boolean sendValuesAreComplete;
+			synchronized (this.parent.unsentValues) {
+				sendValuesMap = new HashMap<>(this.parent.unsentValues);
+				sendValuesAreComplete = this.parent.unsentValuesAreComplete;
+				this.parent.unsentValues.clear();
+				this.parent.unsentValuesAreComplete = false;
 			}
 
 			// Round timestamp to Global Cycle-Time
 			final var cycleTime = this.parent.parent.cycle.getCycleTime();
 			final var timestampMillis = this.timestamp.toEpochMilli() / cycleTime * cycleTime;
 
-			// Prepare message values
-			var sendValuesMap = new HashMap<String, JsonElement>();
-
-			// Collect Changed values
-			for (var entry : this.allValues.entrySet()) {
-				var channelAddress = entry.getKey();
-				var value = entry.getValue();
-				if (!Objects.equals(value, lastAllValues.get(channelAddress))) {
-					sendValuesMap.put(channelAddress, value);
-				}
-			}
-
 			// Create JSON-RPC notification
 			var message = new TimestampedDataNotification();
 			message.add(timestampMillis, sendValuesMap);
@@ -396,15 +386,15 @@ public class SendChannelValuesWorker {
 			// Try to send
 			var wasSent = this.parent.parent.websocket.sendMessage(message);
 
-			if (wasSent) {
-				// Successfully sent: update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
-					// 'lastSentValues' was empty, i.e. all values were sent
-					this.parent.lastSendValuesOfAllChannels = this.timestamp;
+			if (!wasSent) {
+				// Keep values for next run; values collected in the meantime are newer
+				synchronized (this.parent.unsentValues) {
+					sendValuesMap.forEach(this.parent.unsentValues::putIfAbsent);
+				}
+				if (sendValuesAreComplete) {
+					this.parent.sendValuesOfAllChannels.set(true);
 				}
 			}
-
 		}
 
 	}
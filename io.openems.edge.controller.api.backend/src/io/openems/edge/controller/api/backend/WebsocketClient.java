@@ -10,7 +10,12 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.EnableBinaryDataNotification;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryDataEncoding;
 import io.openems.common.websocket.OnClose;
 
 public class WebsocketClient extends AbstractWebsocketClient<WsData> {
@@ -24,6 +29,12 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
+	/**
+	 * Encoder for data notifications; null if the Backend did not enable binary
+	 * data on the current connection.
+	 */
+	private volatile BinaryDataEncoding.Encoder binaryDataEncoder = null;
+
 	protected WebsocketClient(ControllerApiBackendImpl parent, String name, URI serverUri,
 			Map<String, String> httpHeaders, Proxy proxy) {
 		super(name, serverUri, httpHeaders, proxy);
@@ -33,6 +44,7 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.onNotification = new OnNotification(parent);
 		this.onError = new OnError(parent);
 		this.onClose = (ws, code, reason, remote) -> {
+			this.binaryDataEncoder = null;
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() //
 					+ (proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
 			this.parent.getUnableToSendChannel().setNextValue(true);
@@ -84,6 +96,31 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.parent.logError(log, message);
 	}
 
+	/**
+	 * Enables sending of data notifications in {@link BinaryDataEncoding} on the
+	 * current connection.
+	 *
+	 * @param notification the {@link EnableBinaryDataNotification}
+	 */
+	protected void enableBinaryData(EnableBinaryDataNotification notification) {
+		if (notification.getVersion() != BinaryDataEncoding.VERSION) {
+			this.logWarn(this.log, "Unsupported binary data version [" + notification.getVersion() + "]");
+			return;
+		}
+		this.binaryDataEncoder = new BinaryDataEncoding.Encoder(notification.isCompression());
+		this.logInfo(this.log, "Enabled binary data" + (notification.isCompression() ? " with compression" : ""));
+	}
+
+	@Override
+	public void sendMessageOrError(JsonrpcMessage message) throws OpenemsException {
+		var encoder = this.binaryDataEncoder;
+		if (encoder != null && message instanceof AbstractDataNotification notification) {
+			encoder.encode(notification, bytes -> this.sendBinaryOrError(bytes, notification.getMethod()));
+			return;
+		}
+		super.sendMessageOrError(message);
+	}
+
 	public boolean isConnected() {
 		return this.ws.isOpen();
 	}
@@ -0,0 +1,61 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.PersistencePriority;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.controller.api.backend.SendChannelValuesWorkerTest.DummyComponent;
+import io.openems.edge.controller.api.backend.SendChannelValuesWorkerTest.DummyComponent.DummyEnum;
+
+public class ChannelValueTrackerTest {
+
+	@Test
+	public void test() {
+		final var sut = new ChannelValueTracker();
+		final var component = new DummyComponent("component0");
+		final var channel = component.<Channel<DummyEnum>>channel(DummyComponent.ChannelId.DUMMY_ENUM_CHANNEL);
+		final var channels = component.channels().toArray(Channel<?>[]::new);
+		final var values = new HashMap<String, JsonElement>();
+
+		// Initially all Channels are dirty
+		sut.update(channels, List.of(), PersistencePriority.LOW);
+		sut.collectChanged(values);
+		assertEquals(channels.length, values.size());
+
+		// Nothing changed
+		values.clear();
+		sut.update(channels, List.of(), PersistencePriority.LOW);
+		sut.collectChanged(values);
+		assertTrue(values.isEmpty());
+
+		// Only the changed Channel
+		channel.setNextValue(DummyEnum.VALUE_2);
+		channel.nextProcessImage();
+		sut.collectChanged(values);
+		assertEquals(1, values.size());
+		assertEquals(new JsonPrimitive(2), values.get("component0/DummyEnumChannel"));
+
+		// All Channels
+		values.clear();
+		sut.collectAll(values);
+		assertEquals(channels.length, values.size());
+
+		// Channel is not tracked anymore
+		values.clear();
+		sut.update(new Channel<?>[0], List.of(), PersistencePriority.LOW);
+		channel.setNextValue(DummyEnum.VALUE_3);
+		channel.nextProcessImage();
+		sut.collectChanged(values);
+		assertTrue(values.isEmpty());
+	}
+
+}
@@ -0,0 +1,109 @@
+package io.openems.edge.core.componentmanager;
+
+import org.osgi.framework.ServiceEvent;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.Sum;
+
+/**
+ * Holds a flat array of all Channels of all enabled OpenEMS-Components.
+ *
+ * <p>
+ * The array is rebuilt lazily after an OSGi {@link ServiceEvent} for an
+ * {@link OpenemsComponent} was received (i.e. a Component was activated,
+ * modified or deactivated) or when a Component added or removed Channels at
+ * runtime. Otherwise {@link #getChannels()} returns the cached array without
+ * querying the OSGi service registry.
+ */
+public class ChannelRegistry {
+
+	/**
+	 * OSGi filter for {@link ServiceEvent}s relevant for this registry.
+	 */
+	public static final String FILTER = "(objectClass=" + OpenemsComponent.class.getName() + ")";
+
+	private static record Snapshot(OpenemsComponent[] components, int[] channelCounts, Channel<?>[] channels) {
+	}
+
+	private static final Snapshot EMPTY = new Snapshot(new OpenemsComponent[0], new int[0], new Channel<?>[0]);
+
+	private final ComponentManagerImpl parent;
+
+	private volatile boolean isDirty = true;
+	private volatile Snapshot snapshot = EMPTY;
+
+	public ChannelRegistry(ComponentManagerImpl parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Marks the registry as outdated; it will be rebuilt on next access.
+	 */
+	public void invalidate() {
+		this.isDirty = true;
+	}
+
+	/**
+	 * Gets the Channels of all enabled Components, excluding the {@link Sum}
+	 * Component.
+	 *
+	 * <p>
+	 * The returned array is shared and must not be modified.
+	 *
+	 * @return an array of Channels
+	 */
+	public Channel<?>[] getChannels() {
+		var snapshot = this.snapshot;
+		if (this.isDirty || this.haveChannelsChanged(snapshot)) {
+			snapshot = this.rebuild();
+		}
+		return snapshot.channels;
+	}
+
+	/**
+	 * Checks if any Component added or removed Channels since the snapshot was
+	 * built.
+	 *
+	 * @param snapshot the {@link Snapshot}
+	 * @return true if the number of Channels changed for any Component
+	 */
+	private boolean haveChannelsChanged(Snapshot snapshot) {
+		var components = snapshot.components;
+		var channelCounts = snapshot.channelCounts;
+		for (var i = 0; i < components.length; i++) {
+			if (components[i].channels().size() != channelCounts[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private synchronized Snapshot rebuild() {
+		// Reset flag before querying, so that events during the rebuild are not lost
+		this.isDirty = false;
+
+		var components = this.parent.getEnabledComponents().stream() //
+				.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
+				.toArray(OpenemsComponent[]::new);
+		var channelCounts = new int[components.length];
+		var channelsPerComponent = new Channel<?>[components.length][];
+		var totalChannels = 0;
+		for (var i = 0; i < components.length; i++) {
+			channelsPerComponent[i] = components[i].channels().toArray(new Channel<?>[0]);
+			channelCounts[i] = channelsPerComponent[i].length;
+			totalChannels += channelCounts[i];
+		}
+		var channels = new Channel<?>[totalChannels];
+		var index = 0;
+		for (var componentChannels : channelsPerComponent) {
+			System.arraycopy(componentChannels, 0, channels, index, componentChannels.length);
+			index += componentChannels.length;
+		}
+
+		var snapshot = new Snapshot(components, channelCounts, channels);
+		this.snapshot = snapshot;
+		return snapshot;
+	}
+
+}
@@ -0,0 +1,233 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.osgi.framework.Constants;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Holds an index of all registered OpenEMS-Components by Component-ID, enabled
+ * state and service interface.
+ *
+ * <p>
+ * The index is rebuilt lazily after an OSGi {@link ServiceEvent} for an
+ * {@link OpenemsComponent} was received (i.e. a Component was activated,
+ * modified or deactivated). Otherwise lookups are plain map reads without
+ * querying the OSGi service registry.
+ */
+public class ComponentRegistry {
+
+	/**
+	 * A registered {@link OpenemsComponent} with its OSGi service properties.
+	 */
+	protected static record Registration(//
+			OpenemsComponent component, //
+			String id, //
+			boolean enabled, //
+			String factoryPid, //
+			Set<String> objectClass //
+	) {
+	}
+
+	private static record Snapshot(//
+			List<Registration> registrations, //
+			List<OpenemsComponent> allComponents, //
+			List<OpenemsComponent> enabledComponents, //
+			Map<String, OpenemsComponent> componentsById, //
+			Map<String, OpenemsComponent> enabledComponentsById, //
+			/* filled on demand */
+			Map<Class<?>, List<?>> enabledComponentsByType //
+	) {
+	}
+
+	private static final Snapshot EMPTY = new Snapshot(List.of(), List.of(), List.of(), Map.of(), Map.of(),
+			new ConcurrentHashMap<>());
+
+	private final ComponentManagerImpl parent;
+
+	private volatile boolean isDirty = true;
+	private volatile Snapshot snapshot = EMPTY;
+
+	public ComponentRegistry(ComponentManagerImpl parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Marks the registry as outdated; it will be rebuilt on next access.
+	 */
+	public void invalidate() {
+		this.isDirty = true;
+	}
+
+	/**
+	 * Gets all enabled Components, excluding the {@link ComponentManager}.
+	 *
+	 * <p>
+	 * The returned list is shared and unmodifiable.
+	 *
+	 * @return a list of Components
+	 */
+	public List<OpenemsComponent> getEnabledComponents() {
+		return this.getSnapshot().enabledComponents;
+	}
+
+	/**
+	 * Gets all Components, excluding the {@link ComponentManager}.
+	 *
+	 * <p>
+	 * The returned list is shared and unmodifiable.
+	 *
+	 * @return a list of Components
+	 */
+	public List<OpenemsComponent> getAllComponents() {
+		return this.getSnapshot().allComponents;
+	}
+
+	/**
+	 * Gets all enabled Components that are registered under the given service
+	 * interface.
+	 *
+	 * <p>
+	 * The returned list is shared and unmodifiable. It is created on first request
+	 * and kept until the next change of any Component.
+	 *
+	 * @param <T>   the type of the Components
+	 * @param clazz the service interface
+	 * @return a list of Components
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+		var snapshot = this.getSnapshot();
+		return (List<T>) snapshot.enabledComponentsByType.computeIfAbsent(clazz, c -> {
+			var name = c.getName();
+			return snapshot.registrations.stream() //
+					.filter(r -> r.enabled && r.objectClass.contains(name)) //
+					.map(Registration::component) //
+					.filter(c::isInstance) //
+					.toList();
+		});
+	}
+
+	/**
+	 * Gets a Component by its Component-ID.
+	 *
+	 * @param componentId    the Component-ID
+	 * @param hasToBeEnabled if the Component has to be enabled
+	 * @return the Component or null if not found
+	 */
+	public OpenemsComponent getComponent(String componentId, boolean hasToBeEnabled) {
+		var snapshot = this.getSnapshot();
+		if (hasToBeEnabled) {
+			return snapshot.enabledComponentsById.get(componentId);
+		}
+		return snapshot.componentsById.get(componentId);
+	}
+
+	private Snapshot getSnapshot() {
+		var snapshot = this.snapshot;
+		if (this.isDirty) {
+			snapshot = this.rebuild();
+		}
+		return snapshot;
+	}
+
+	private synchronized Snapshot rebuild() {
+		if (!this.isDirty) {
+			// Rebuilt by another thread in the meantime
+			return this.snapshot;
+		}
+		// Reset flag before querying, so that events during the rebuild are not lost
+		this.isDirty = false;
+
+		var registrations = this.loadRegistrations();
+		var allComponents = new ArrayList<OpenemsComponent>(registrations.size());
+		var enabledComponents = new ArrayList<OpenemsComponent>(registrations.size());
+		var componentsById = new HashMap<String, OpenemsComponent>();
+		var enabledComponentsById = new HashMap<String, OpenemsComponent>();
+		for (var registration : registrations) {
+			var component = registration.component;
+			if (registration.id != null) {
+				// first registration wins, like the first result of a filtered query
+				componentsById.putIfAbsent(registration.id, component);
+				if (registration.enabled) {
+					enabledComponentsById.putIfAbsent(registration.id, component);
+				}
+			}
+			if (ComponentManager.SINGLETON_SERVICE_PID.equals(registration.factoryPid)) {
+				continue;
+			}
+			allComponents.add(component);
+			if (registration.enabled) {
+				enabledComponents.add(component);
+			}
+		}
+
+		var snapshot = new Snapshot(//
+				registrations, //
+				Collections.unmodifiableList(allComponents), //
+				Collections.unmodifiableList(enabledComponents), //
+				componentsById, //
+				enabledComponentsById, //
+				new ConcurrentHashMap<>());
+		this.snapshot = snapshot;
+		return snapshot;
+	}
+
+	/**
+	 * Loads all {@link OpenemsComponent}s from the OSGi service registry.
+	 *
+	 * @return a list of {@link Registration}s
+	 */
+	protected List<Registration> loadRegistrations() {
+		var bundleContext = this.parent.bundleContext;
+		if (bundleContext == null) {
+			// Can be null in JUnit tests
+			return Collections.emptyList();
+		}
+
+		try {
+			var serviceReferences = bundleContext.getServiceReferences(OpenemsComponent.class, null);
+			var result = new ArrayList<Registration>(serviceReferences.size());
+			for (var reference : serviceReferences) {
+				var component = bundleContext.getService(reference);
+				if (component == null) {
+					continue;
+				}
+				result.add(new Registration(component, //
+						toString(reference.getProperty("id")), //
+						"true".equals(toString(reference.getProperty("enabled"))), //
+						toString(reference.getProperty("service.factoryPid")), //
+						toSet(reference.getProperty(Constants.OBJECTCLASS))));
+				bundleContext.ungetService(reference);
+			}
+			return result;
+
+		} catch (InvalidSyntaxException e) {
+			// filter invalid
+			e.printStackTrace();
+			return Collections.emptyList();
+		}
+	}
+
+	private static String toString(Object value) {
+		return value == null ? null : value.toString();
+	}
+
+	private static Set<String> toSet(Object value) {
+		if (value instanceof String[] values) {
+			return Set.of(values);
+		}
+		return Set.of();
+	}
+
+}
@@ -13,6 +13,15 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Parallel Schedulers?", description = "Execute Schedulers in parallel if their Controllers write disjoint sets of Channels")
+	boolean parallelSchedulers() default false;
+
+	@AttributeDefinition(name = "Parallel Scheduler-IDs", description = "Only these Schedulers are executed in parallel; their Controllers must not use shared services like ESS Power")
+	String[] parallelSchedulerIds() default {};
+
+	@AttributeDefinition(name = "Parallel Threads", description = "Maximum number of threads for parallel execution of Schedulers")
+	int parallelThreads() default 4;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
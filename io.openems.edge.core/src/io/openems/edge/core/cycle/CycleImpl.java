@@ -1,7 +1,10 @@
 package io.openems.edge.core.cycle;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -18,13 +21,21 @@ import org.osgi.service.event.EventAdmin;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 
+import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.user.User;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfileRequest;
+import io.openems.edge.core.cycle.jsonrpc.GetCycleProfileResponse;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,7 +46,9 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, JsonApi {
+
+	protected final CycleProfiler profiler = new CycleProfiler(this);
 
 	private final CycleWorker worker = new CycleWorker(this);
 
@@ -59,6 +72,13 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 
 	private Config config = null;
 
+	/**
+	 * Executes Schedulers in parallel; null if disabled. Replaced on
+	 * reconfiguration; the {@link CycleWorker} shuts the previous instance down
+	 * once it is not used anymore.
+	 */
+	protected volatile ParallelSchedulers parallelSchedulers = null;
+
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
@@ -79,14 +99,15 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	public CycleImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
-				Cycle.ChannelId.values() //
+				Cycle.ChannelId.values(), //
+				CycleProfiler.ChannelId.values() //
 		);
 	}
 
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
-		this.config = config;
+		this.applyConfig(config);
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -97,7 +118,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	@Modified
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
-		this.config = config;
+		this.applyConfig(config);
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -109,9 +130,20 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.applyConfig(null);
 		this.worker.deactivate();
 	}
 
+	protected synchronized void applyConfig(Config config) {
+		this.config = config;
+		if (config != null && config.parallelSchedulers()) {
+			this.parallelSchedulers = new ParallelSchedulers(config.parallelThreads(),
+					Set.copyOf(Arrays.asList(config.parallelSchedulerIds())));
+		} else {
+			this.parallelSchedulers = null;
+		}
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		super.logInfo(log, message);
@@ -122,6 +154,22 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		super.logWarn(log, message);
 	}
 
+	@Override
+	public CompletableFuture<? extends JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("handleJsonrpcRequest", Role.GUEST);
+
+		switch (request.getMethod()) {
+
+		case GetCycleProfileRequest.METHOD:
+			return CompletableFuture.completedFuture(new GetCycleProfileResponse(request.getId(), //
+					this.profiler.toJson()));
+
+		default:
+			throw OpenemsError.JSONRPC_UNHANDLED_METHOD.exception(request.getMethod());
+		}
+	}
+
 	@Override
 	public int getCycleTime() {
 		var config = this.config;
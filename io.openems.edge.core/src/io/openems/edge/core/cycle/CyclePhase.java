@@ -0,0 +1,45 @@
+package io.openems.edge.core.cycle;
+
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * The phases of one Cycle, as measured by the {@link CycleProfiler}.
+ */
+public enum CyclePhase {
+	/**
+	 * Synchronous handlers of {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_PROCESS_IMAGE}.
+	 */
+	BEFORE_PROCESS_IMAGE, //
+	/**
+	 * Switching to the next process image of all Channels.
+	 */
+	PROCESS_IMAGE, //
+	/**
+	 * Synchronous handlers of {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_PROCESS_IMAGE}.
+	 */
+	AFTER_PROCESS_IMAGE, //
+	/**
+	 * Synchronous handlers of {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_CONTROLLERS}.
+	 */
+	BEFORE_CONTROLLERS, //
+	/**
+	 * Execution of all Schedulers and Controllers.
+	 */
+	CONTROLLERS, //
+	/**
+	 * Synchronous handlers of {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_CONTROLLERS}.
+	 */
+	AFTER_CONTROLLERS, //
+	/**
+	 * Synchronous handlers of {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_WRITE}.
+	 */
+	BEFORE_WRITE, //
+	/**
+	 * Synchronous handlers of {@link EdgeEventConstants#TOPIC_CYCLE_EXECUTE_WRITE}.
+	 */
+	EXECUTE_WRITE, //
+	/**
+	 * Synchronous handlers of {@link EdgeEventConstants#TOPIC_CYCLE_AFTER_WRITE}.
+	 */
+	AFTER_WRITE;
+}
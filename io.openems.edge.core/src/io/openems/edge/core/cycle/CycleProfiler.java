@@ -0,0 +1,174 @@
+package io.openems.edge.core.cycle;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.DoubleReadChannel;
+
+/**
+ * Measures the durations of the {@link CyclePhase}s and of every Controller.
+ *
+ * <p>
+ * Durations of the last {@link #WINDOW} Cycles are kept in
+ * {@link DurationHistogram}s. Percentiles are published to Channels every
+ * {@link #STATS_INTERVAL} Cycles and can be queried via JSON-RPC.
+ */
+public class CycleProfiler {
+
+	/**
+	 * Number of Cycles that are considered for the statistics.
+	 */
+	public static final int WINDOW = 300;
+
+	/**
+	 * Update Channels every x Cycles.
+	 */
+	public static final int STATS_INTERVAL = 10;
+
+	private enum Stat {
+		P50, P99, MAX;
+	}
+
+	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		BEFORE_PROCESS_IMAGE_P50(CyclePhase.BEFORE_PROCESS_IMAGE, Stat.P50),
+		BEFORE_PROCESS_IMAGE_P99(CyclePhase.BEFORE_PROCESS_IMAGE, Stat.P99),
+		BEFORE_PROCESS_IMAGE_MAX(CyclePhase.BEFORE_PROCESS_IMAGE, Stat.MAX),
+		PROCESS_IMAGE_P50(CyclePhase.PROCESS_IMAGE, Stat.P50),
+		PROCESS_IMAGE_P99(CyclePhase.PROCESS_IMAGE, Stat.P99),
+		PROCESS_IMAGE_MAX(CyclePhase.PROCESS_IMAGE, Stat.MAX),
+		AFTER_PROCESS_IMAGE_P50(CyclePhase.AFTER_PROCESS_IMAGE, Stat.P50),
+		AFTER_PROCESS_IMAGE_P99(CyclePhase.AFTER_PROCESS_IMAGE, Stat.P99),
+		AFTER_PROCESS_IMAGE_MAX(CyclePhase.AFTER_PROCESS_IMAGE, Stat.MAX),
+		BEFORE_CONTROLLERS_P50(CyclePhase.BEFORE_CONTROLLERS, Stat.P50),
+		BEFORE_CONTROLLERS_P99(CyclePhase.BEFORE_CONTROLLERS, Stat.P99),
+		BEFORE_CONTROLLERS_MAX(CyclePhase.BEFORE_CONTROLLERS, Stat.MAX),
+		CONTROLLERS_P50(CyclePhase.CONTROLLERS, Stat.P50),
+		CONTROLLERS_P99(CyclePhase.CONTROLLERS, Stat.P99),
+		CONTROLLERS_MAX(CyclePhase.CONTROLLERS, Stat.MAX),
+		AFTER_CONTROLLERS_P50(CyclePhase.AFTER_CONTROLLERS, Stat.P50),
+		AFTER_CONTROLLERS_P99(CyclePhase.AFTER_CONTROLLERS, Stat.P99),
+		AFTER_CONTROLLERS_MAX(CyclePhase.AFTER_CONTROLLERS, Stat.MAX),
+		BEFORE_WRITE_P50(CyclePhase.BEFORE_WRITE, Stat.P50),
+		BEFORE_WRITE_P99(CyclePhase.BEFORE_WRITE, Stat.P99),
+		BEFORE_WRITE_MAX(CyclePhase.BEFORE_WRITE, Stat.MAX),
+		EXECUTE_WRITE_P50(CyclePhase.EXECUTE_WRITE, Stat.P50),
+		EXECUTE_WRITE_P99(CyclePhase.EXECUTE_WRITE, Stat.P99),
+		EXECUTE_WRITE_MAX(CyclePhase.EXECUTE_WRITE, Stat.MAX),
+		AFTER_WRITE_P50(CyclePhase.AFTER_WRITE, Stat.P50),
+		AFTER_WRITE_P99(CyclePhase.AFTER_WRITE, Stat.P99),
+		AFTER_WRITE_MAX(CyclePhase.AFTER_WRITE, Stat.MAX);
+
+		private final CyclePhase phase;
+		private final Stat stat;
+		private final Doc doc;
+
+		private ChannelId(CyclePhase phase, Stat stat) {
+			this.phase = phase;
+			this.stat = stat;
+			this.doc = Doc.of(OpenemsType.DOUBLE) //
+					.unit(Unit.MILLISECONDS) //
+					.text(stat.name() + " duration of Cycle phase " + phase.name() + " over the last " + WINDOW
+							+ " Cycles");
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	private final CycleImpl parent;
+	private final Map<CyclePhase, DurationHistogram> phases = new EnumMap<>(CyclePhase.class);
+	private final Map<String, DurationHistogram> controllers = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of finished Cycles. Only written by the Cycle thread; read by the
+	 * threads that execute Schedulers in parallel.
+	 */
+	private volatile long cycle = 0;
+
+	public CycleProfiler(CycleImpl parent) {
+		this.parent = parent;
+		for (var phase : CyclePhase.values()) {
+			this.phases.put(phase, new DurationHistogram(WINDOW));
+		}
+	}
+
+	/**
+	 * Records the duration of a {@link CyclePhase}.
+	 *
+	 * @param phase     the {@link CyclePhase}
+	 * @param startTime the start of the phase from {@link System#nanoTime()}
+	 * @return the current {@link System#nanoTime()}, i.e. the start of the next
+	 *         phase
+	 */
+	public long recordPhase(CyclePhase phase, long startTime) {
+		var now = System.nanoTime();
+		this.phases.get(phase).add(now - startTime, this.cycle);
+		return now;
+	}
+
+	/**
+	 * Records the duration of a Controller run.
+	 *
+	 * @param controllerId the Controller-ID
+	 * @param startTime    the start of the run from {@link System#nanoTime()}
+	 */
+	public void recordController(String controllerId, long startTime) {
+		var now = System.nanoTime();
+		this.controllers.computeIfAbsent(controllerId, id -> new DurationHistogram(WINDOW)) //
+				.add(now - startTime, this.cycle);
+	}
+
+	/**
+	 * Finishes a Cycle. Updates the Channels every {@link #STATS_INTERVAL} Cycles
+	 * and removes Controllers that did not run within the {@link #WINDOW}.
+	 */
+	public void finishCycle() {
+		this.cycle++;
+		if (this.cycle % STATS_INTERVAL != 0) {
+			return;
+		}
+		for (var channelId : ChannelId.values()) {
+			var stats = this.phases.get(channelId.phase).getStats();
+			var value = switch (channelId.stat) {
+			case P50 -> stats.p50();
+			case P99 -> stats.p99();
+			case MAX -> stats.max();
+			};
+			this.parent.<DoubleReadChannel>channel(channelId).setNextValue(DurationHistogram.toMillis(value));
+		}
+		this.controllers.values().removeIf(h -> h.getLastCycle() < this.cycle - WINDOW);
+	}
+
+	/**
+	 * Gets the statistics of all {@link CyclePhase}s and Controllers as
+	 * {@link JsonObject}.
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		var phases = JsonUtils.buildJsonObject();
+		for (var entry : this.phases.entrySet()) {
+			phases.add(entry.getKey().name(), entry.getValue().getStats().toJson());
+		}
+		var controllers = JsonUtils.buildJsonObject();
+		for (var entry : new TreeMap<>(this.controllers).entrySet()) {
+			controllers.add(entry.getKey(), entry.getValue().getStats().toJson());
+		}
+		return JsonUtils.buildJsonObject() //
+				.addProperty("window", WINDOW) //
+				.add("phases", phases.build()) //
+				.add("controllers", controllers.build()) //
+				.build();
+	}
+
+}
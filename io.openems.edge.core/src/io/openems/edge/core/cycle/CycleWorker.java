@@ -1,5 +1,6 @@
 package io.openems.edge.core.cycle;
 
+import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -12,7 +13,6 @@ import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
 import io.openems.edge.common.event.EdgeEventConstants;
-import io.openems.edge.common.sum.Sum;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.scheduler.api.Scheduler;
 
@@ -21,10 +21,37 @@ public class CycleWorker extends AbstractWorker {
 	private final Logger log = LoggerFactory.getLogger(CycleWorker.class);
 	private final CycleImpl parent;
 
+	/**
+	 * The {@link ParallelSchedulers} used by the last Cycle.
+	 */
+	private ParallelSchedulers parallelSchedulers = null;
+
 	public CycleWorker(CycleImpl parent) {
 		this.parent = parent;
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		this.updateParallelSchedulers(null);
+	}
+
+	/**
+	 * Switches to the given {@link ParallelSchedulers} and shuts the previous
+	 * instance down.
+	 *
+	 * @param parallelSchedulers the {@link ParallelSchedulers}; null if disabled
+	 * @return the given {@link ParallelSchedulers}
+	 */
+	private synchronized ParallelSchedulers updateParallelSchedulers(ParallelSchedulers parallelSchedulers) {
+		var previous = this.parallelSchedulers;
+		if (previous != null && previous != parallelSchedulers) {
+			previous.deactivate();
+		}
+		this.parallelSchedulers = parallelSchedulers;
+		return parallelSchedulers;
+	}
+
 	@Override
 	protected int getCycleTime() {
 		return this.parent.getCycleTime();
@@ -43,22 +70,23 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		final var profiler = this.parent.profiler;
+
 		try {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
+			var phaseStart = System.nanoTime();
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			phaseStart = profiler.recordPhase(CyclePhase.BEFORE_PROCESS_IMAGE, phaseStart);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
+			final var channels = this.parent.componentManager.getEnabledComponentsChannels();
+			for (var i = 0; i < channels.length; i++) {
+				channels[i].nextProcessImage();
+			}
 			this.parent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
@@ -70,98 +98,64 @@ public class CycleWorker extends AbstractWorker {
 			this.parent.sumComponent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			phaseStart = profiler.recordPhase(CyclePhase.PROCESS_IMAGE, phaseStart);
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			phaseStart = profiler.recordPhase(CyclePhase.AFTER_PROCESS_IMAGE, phaseStart);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			phaseStart = profiler.recordPhase(CyclePhase.BEFORE_CONTROLLERS, phaseStart);
 
 			var hasDisabledController = false;
 
 			/*
 			 * Execute Schedulers and their Controllers
 			 */
+			final var parallelSchedulers = this.updateParallelSchedulers(this.parent.parallelSchedulers);
 			if (this.parent.schedulers.isEmpty()) {
 				this.parent.logWarn(this.log, "There are no Schedulers configured!");
+			} else if (parallelSchedulers != null) {
+				hasDisabledController = parallelSchedulers.execute(new ArrayList<>(this.parent.schedulers),
+						this::runScheduler);
 			} else {
 				for (Scheduler scheduler : this.parent.schedulers) {
-					var schedulerControllerIsMissing = false;
-
-					for (String controllerId : scheduler.getControllers()) {
-						Controller controller;
-						try {
-							controller = this.parent.componentManager.getPossiblyDisabledComponent(controllerId);
-
-						} catch (OpenemsNamedException e) {
-							this.parent.logWarn(this.log, "Scheduler [" + scheduler.id() + "]: Controller ["
-									+ controllerId + "] is missing. " + e.getMessage());
-							schedulerControllerIsMissing = true;
-							continue;
-						}
-
-						if (!controller.isEnabled()) {
-							hasDisabledController = true;
-							continue;
-						}
-
-						try {
-							// Execute Controller logic
-							controller.run();
-
-							// announce running was ok
-							controller._setRunFailed(false);
-
-						} catch (OpenemsNamedException e) {
-							this.parent.logWarn(this.log,
-									"Error in Controller [" + controller.id() + "]: " + e.getMessage());
-
-							// announce running failed
-							controller._setRunFailed(true);
-
-						} catch (Exception e) {
-							this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
-									+ e.getClass().getSimpleName() + ": " + e.getMessage());
-							if (e instanceof ClassCastException || e instanceof NullPointerException
-									|| e instanceof IllegalArgumentException) {
-								e.printStackTrace();
-							}
-							// announce running failed
-							controller._setRunFailed(true);
-						}
-					}
-
-					// announce Scheduler Controller is missing
-					scheduler._setControllerIsMissing(schedulerControllerIsMissing);
+					hasDisabledController |= this.runScheduler(scheduler);
 				}
 			}
 
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
+			phaseStart = profiler.recordPhase(CyclePhase.CONTROLLERS, phaseStart);
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			phaseStart = profiler.recordPhase(CyclePhase.AFTER_CONTROLLERS, phaseStart);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			phaseStart = profiler.recordPhase(CyclePhase.BEFORE_WRITE, phaseStart);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			phaseStart = profiler.recordPhase(CyclePhase.EXECUTE_WRITE, phaseStart);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			profiler.recordPhase(CyclePhase.AFTER_WRITE, phaseStart);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -173,6 +167,66 @@ public class CycleWorker extends AbstractWorker {
 
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		profiler.finishCycle();
+	}
+
+	/**
+	 * Executes the Controllers of a Scheduler.
+	 *
+	 * @param scheduler the {@link Scheduler}
+	 * @return true if a disabled Controller was ignored
+	 */
+	private boolean runScheduler(Scheduler scheduler) {
+		var hasDisabledController = false;
+		var schedulerControllerIsMissing = false;
+
+		for (String controllerId : scheduler.getControllers()) {
+			Controller controller;
+			try {
+				controller = this.parent.componentManager.getPossiblyDisabledComponent(controllerId);
+
+			} catch (OpenemsNamedException e) {
+				this.parent.logWarn(this.log, "Scheduler [" + scheduler.id() + "]: Controller [" + controllerId
+						+ "] is missing. " + e.getMessage());
+				schedulerControllerIsMissing = true;
+				continue;
+			}
+
+			if (!controller.isEnabled()) {
+				hasDisabledController = true;
+				continue;
+			}
+
+			final var controllerStart = System.nanoTime();
+			try {
+				// Execute Controller logic
+				controller.run();
+
+				// announce running was ok
+				controller._setRunFailed(false);
+
+			} catch (OpenemsNamedException e) {
+				this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]: " + e.getMessage());
+
+				// announce running failed
+				controller._setRunFailed(true);
+
+			} catch (Exception e) {
+				this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+				if (e instanceof ClassCastException || e instanceof NullPointerException
+						|| e instanceof IllegalArgumentException) {
+					e.printStackTrace();
+				}
+				// announce running failed
+				controller._setRunFailed(true);
+			}
+			this.parent.profiler.recordController(controller.id(), controllerStart);
+		}
+
+		// announce Scheduler Controller is missing
+		scheduler._setControllerIsMissing(schedulerControllerIsMissing);
+		return hasDisabledController;
 	}
 
 }
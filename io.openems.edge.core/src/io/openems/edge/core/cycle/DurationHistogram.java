@@ -0,0 +1,104 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Arrays;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Keeps the last durations of a Cycle phase or Controller in a ring buffer and
+ * calculates percentiles on demand.
+ */
+public class DurationHistogram {
+
+	/**
+	 * Statistics of a {@link DurationHistogram}; durations in [ns].
+	 */
+	public static record Stats(int count, long p50, long p99, long max) {
+
+		/**
+		 * Gets the statistics as {@link JsonObject}; durations in [ms].
+		 *
+		 * @return the {@link JsonObject}
+		 */
+		public JsonObject toJson() {
+			return JsonUtils.buildJsonObject() //
+					.addProperty("count", this.count) //
+					.addProperty("p50", toMillis(this.p50)) //
+					.addProperty("p99", toMillis(this.p99)) //
+					.addProperty("max", toMillis(this.max)) //
+					.build();
+		}
+	}
+
+	private static final Stats EMPTY = new Stats(0, 0, 0, 0);
+
+	private final long[] samples;
+	private final long[] sorted;
+	private int next = 0;
+	private int count = 0;
+	private long lastCycle = 0;
+
+	public DurationHistogram(int size) {
+		this.samples = new long[size];
+		this.sorted = new long[size];
+	}
+
+	/**
+	 * Converts nanoseconds to milliseconds.
+	 *
+	 * @param nanos the duration in [ns]
+	 * @return the duration in [ms]
+	 */
+	public static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	/**
+	 * Adds a sample.
+	 *
+	 * @param nanos the duration in [ns]
+	 * @param cycle the number of the current Cycle
+	 */
+	public synchronized void add(long nanos, long cycle) {
+		this.samples[this.next] = nanos;
+		this.next = (this.next + 1) % this.samples.length;
+		if (this.count < this.samples.length) {
+			this.count++;
+		}
+		this.lastCycle = cycle;
+	}
+
+	/**
+	 * Gets the number of the last Cycle in which a sample was added.
+	 *
+	 * @return the Cycle number
+	 */
+	public synchronized long getLastCycle() {
+		return this.lastCycle;
+	}
+
+	/**
+	 * Calculates the {@link Stats} over all samples.
+	 *
+	 * @return the {@link Stats}
+	 */
+	public synchronized Stats getStats() {
+		if (this.count == 0) {
+			return EMPTY;
+		}
+		System.arraycopy(this.samples, 0, this.sorted, 0, this.count);
+		Arrays.sort(this.sorted, 0, this.count);
+		return new Stats(this.count, //
+				this.percentile(50), //
+				this.percentile(99), //
+				this.sorted[this.count - 1]);
+	}
+
+	private long percentile(int percentile) {
+		var index = (int) Math.ceil(percentile / 100.0 * this.count) - 1;
+		return this.sorted[Math.max(0, Math.min(index, this.count - 1))];
+	}
+
+}
@@ -0,0 +1,276 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.channel.WriteRecorder;
+import io.openems.edge.scheduler.api.Scheduler;
+
+/**
+ * Executes Schedulers in parallel, if they are explicitly allowed to and their
+ * Controllers write disjoint sets of Channels.
+ *
+ * <p>
+ * Controllers also have side effects that are not visible as Channel writes,
+ * e.g. adding Constraints to the shared ESS Power. Only Schedulers on the
+ * allow-list - i.e. whose Controllers do not use such shared services - are
+ * therefore executed in parallel; all other Schedulers are grouped and
+ * executed sequentially.
+ *
+ * <p>
+ * The write set of a Scheduler is learned at runtime from the
+ * {@link WriteChannel}s its Controllers write (see {@link WriteRecorder}).
+ * Schedulers are grouped if their write sets overlap, if they share a
+ * Controller or if their write set is not yet known. The Schedulers of one
+ * group are executed sequentially in their natural order; the groups are
+ * executed concurrently on a bounded thread pool.
+ *
+ * <p>
+ * If two groups still write the same Channel in one Cycle (i.e. a Controller
+ * wrote a Channel for the first time), the value of the Scheduler that comes
+ * last in sequential order is applied - exactly as in sequential execution -
+ * and the Schedulers are grouped from the next Cycle on.
+ */
+public class ParallelSchedulers {
+
+	/**
+	 * Runs the Controllers of one Scheduler.
+	 */
+	@FunctionalInterface
+	public interface SchedulerRunner {
+
+		/**
+		 * Runs the Controllers of the given Scheduler.
+		 *
+		 * @param scheduler the {@link Scheduler}
+		 * @return true if a disabled Controller was ignored
+		 */
+		public boolean run(Scheduler scheduler);
+	}
+
+	private record SchedulerResult(boolean hasDisabledController, Map<WriteChannel<?>, Object> writes) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ParallelSchedulers.class);
+	private final ExecutorService executor;
+	private final Set<String> allowedSchedulerIds;
+
+	/**
+	 * Learned write sets per Scheduler-ID. Only accessed from the Cycle thread.
+	 */
+	private final Map<String, Set<WriteChannel<?>>> writeSets = new HashMap<>();
+
+	public ParallelSchedulers(int threads, Set<String> allowedSchedulerIds) {
+		this.allowedSchedulerIds = Set.copyOf(allowedSchedulerIds);
+		this.executor = Executors.newFixedThreadPool(Math.max(1, threads),
+				new ThreadFactoryBuilder().setNameFormat("Core.Cycle:Scheduler-%d").build());
+	}
+
+	/**
+	 * Shuts down the thread pool. Running Schedulers are finished; Schedulers of a
+	 * still running {@link #execute(List, SchedulerRunner)} that can not be
+	 * submitted anymore are executed on the calling thread.
+	 */
+	public void deactivate() {
+		this.executor.shutdown();
+	}
+
+	/**
+	 * Executes the given Schedulers and waits for all of them to finish.
+	 *
+	 * @param schedulers the {@link Scheduler}s in sequential order
+	 * @param runner     the {@link SchedulerRunner}
+	 * @return true if a disabled Controller was ignored
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public boolean execute(List<Scheduler> schedulers, SchedulerRunner runner) throws InterruptedException {
+		if (schedulers.isEmpty()) {
+			return false;
+		}
+		var groups = this.getGroups(schedulers);
+
+		// Submit all but the first group; execute the first group on this thread
+		var futures = new ArrayList<Future<List<SchedulerResult>>>(groups.size());
+		for (var i = 1; i < groups.size(); i++) {
+			var group = groups.get(i);
+			Future<List<SchedulerResult>> future;
+			try {
+				future = this.executor.submit(() -> runGroup(schedulers, group, runner));
+			} catch (RejectedExecutionException e) {
+				// Thread pool was shut down; execute the group sequentially below
+				future = null;
+			}
+			futures.add(future);
+		}
+		var results = new SchedulerResult[schedulers.size()];
+		this.collect(groups.get(0), runGroup(schedulers, groups.get(0), runner), results);
+		for (var i = 0; i < futures.size(); i++) {
+			var group = groups.get(i + 1);
+			var future = futures.get(i);
+			if (future == null) {
+				this.collect(group, runGroup(schedulers, group, runner), results);
+				continue;
+			}
+			try {
+				this.collect(group, future.get(), results);
+			} catch (CancellationException e) {
+				this.collect(group, runGroup(schedulers, group, runner), results);
+			} catch (ExecutionException e) {
+				this.log.warn("Error while executing Schedulers in parallel: " + e.getCause().getMessage());
+				this.collect(group, null, results);
+			}
+		}
+
+		return this.merge(schedulers, groups, results);
+	}
+
+	/**
+	 * Groups the Schedulers that can not be executed in parallel.
+	 *
+	 * @param schedulers the {@link Scheduler}s in sequential order
+	 * @return the groups of Scheduler indices; each group is sorted ascending
+	 */
+	protected List<List<Integer>> getGroups(List<Scheduler> schedulers) {
+		var size = schedulers.size();
+		var parents = new int[size];
+		for (var i = 0; i < size; i++) {
+			parents[i] = i;
+		}
+		for (var i = 0; i < size; i++) {
+			var a = schedulers.get(i);
+			for (var j = i + 1; j < size; j++) {
+				if (this.isConflicting(a, schedulers.get(j))) {
+					union(parents, i, j);
+				}
+			}
+		}
+		var groups = new HashMap<Integer, List<Integer>>();
+		var result = new ArrayList<List<Integer>>();
+		for (var i = 0; i < size; i++) {
+			var group = groups.computeIfAbsent(find(parents, i), root -> {
+				var list = new ArrayList<Integer>();
+				result.add(list);
+				return list;
+			});
+			group.add(i);
+		}
+		return result;
+	}
+
+	private boolean isConflicting(Scheduler a, Scheduler b) {
+		if (!this.allowedSchedulerIds.contains(a.id()) && !this.allowedSchedulerIds.contains(b.id())) {
+			// Controllers of both Schedulers might use shared services like ESS Power
+			return true;
+		}
+		var writeSetA = this.writeSets.get(a.id());
+		var writeSetB = this.writeSets.get(b.id());
+		if (writeSetA == null || writeSetB == null) {
+			// Write set is not yet known
+			return true;
+		}
+		if (!Collections.disjoint(a.getControllers(), b.getControllers())) {
+			return true;
+		}
+		return writeSetA.size() < writeSetB.size() //
+				? writeSetA.stream().anyMatch(writeSetB::contains) //
+				: writeSetB.stream().anyMatch(writeSetA::contains);
+	}
+
+	private static int find(int[] parents, int i) {
+		while (parents[i] != i) {
+			parents[i] = parents[parents[i]];
+			i = parents[i];
+		}
+		return i;
+	}
+
+	private static void union(int[] parents, int i, int j) {
+		parents[find(parents, j)] = find(parents, i);
+	}
+
+	private static List<SchedulerResult> runGroup(List<Scheduler> schedulers, List<Integer> group,
+			SchedulerRunner runner) {
+		var results = new ArrayList<SchedulerResult>(group.size());
+		for (var index : group) {
+			WriteRecorder.start();
+			var hasDisabledController = false;
+			try {
+				hasDisabledController = runner.run(schedulers.get(index));
+			} finally {
+				results.add(new SchedulerResult(hasDisabledController, WriteRecorder.stop()));
+			}
+		}
+		return results;
+	}
+
+	private void collect(List<Integer> group, List<SchedulerResult> groupResults, SchedulerResult[] results) {
+		for (var i = 0; i < group.size(); i++) {
+			results[group.get(i)] = groupResults == null || i >= groupResults.size() //
+					? new SchedulerResult(false, Collections.emptyMap()) //
+					: groupResults.get(i);
+		}
+	}
+
+	/**
+	 * Learns the write sets and resolves Channels that were written by more than
+	 * one group.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes", "deprecation" })
+	private boolean merge(List<Scheduler> schedulers, List<List<Integer>> groups, SchedulerResult[] results) {
+		var hasDisabledController = false;
+		var groupOfScheduler = new int[schedulers.size()];
+		for (var g = 0; g < groups.size(); g++) {
+			for (var index : groups.get(g)) {
+				groupOfScheduler[index] = g;
+			}
+		}
+
+		// Channel -> index of the last Scheduler that wrote it
+		var lastWriter = new HashMap<WriteChannel<?>, Integer>();
+		var conflicts = new HashSet<WriteChannel<?>>();
+		for (var i = 0; i < results.length; i++) {
+			var result = results[i];
+			hasDisabledController |= result.hasDisabledController();
+			this.writeSets.computeIfAbsent(schedulers.get(i).id(), id -> new HashSet<>()) //
+					.addAll(result.writes().keySet());
+			for (var channel : result.writes().keySet()) {
+				var previous = lastWriter.put(channel, i);
+				if (previous != null && groupOfScheduler[previous] != groupOfScheduler[i]) {
+					conflicts.add(channel);
+				}
+			}
+		}
+
+		// Deterministic merge: apply the value of the last Scheduler in sequential order
+		for (var channel : conflicts) {
+			var index = lastWriter.get(channel);
+			this.log.warn("Channel [" + channel.address() + "] was written by Schedulers that were executed in "
+					+ "parallel. Applying the value of Scheduler [" + schedulers.get(index).id() + "]");
+			((WriteChannel) channel)._setNextWriteValue(results[index].writes().get(channel));
+		}
+
+		// Forget removed Schedulers
+		var ids = schedulers.stream().map(Scheduler::id).collect(Collectors.toSet());
+		this.writeSets.keySet().retainAll(ids);
+		return hasDisabledController;
+	}
+
+}
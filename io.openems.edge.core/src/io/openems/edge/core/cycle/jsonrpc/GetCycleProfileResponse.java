@@ -0,0 +1,47 @@
+package io.openems.edge.core.cycle.jsonrpc;
+
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+
+/**
+ * Represents a JSON-RPC Response for {@link GetCycleProfileRequest}. Durations
+ * are in [ms].
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "window": number,
+ *     "phases": {
+ *       [phase: string]: {
+ *         "count": number, "p50": number, "p99": number, "max": number
+ *       }
+ *     },
+ *     "controllers": {
+ *       [controllerId: string]: {
+ *         "count": number, "p50": number, "p99": number, "max": number
+ *       }
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+public class GetCycleProfileResponse extends JsonrpcResponseSuccess {
+
+	private final JsonObject profile;
+
+	public GetCycleProfileResponse(UUID id, JsonObject profile) {
+		super(id);
+		this.profile = profile;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		return this.profile;
+	}
+
+}
@@ -0,0 +1,59 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyCycle;
+
+public class ChannelRegistryTest {
+
+	private static class MyComponentManager extends ComponentManagerImpl {
+
+		private final List<OpenemsComponent> components = new ArrayList<>();
+		private int queries = 0;
+
+		@Override
+		public List<OpenemsComponent> getEnabledComponents() {
+			this.queries++;
+			return new ArrayList<>(this.components);
+		}
+	}
+
+	@Test
+	public void test() {
+		var componentManager = new MyComponentManager();
+		var sut = new ChannelRegistry(componentManager);
+
+		var cycle0 = new DummyCycle(1000);
+		componentManager.components.add(cycle0);
+
+		var channels = sut.getChannels();
+		assertEquals(cycle0.channels().size(), channels.length);
+		assertEquals(1, componentManager.queries);
+
+		// Cached
+		assertSame(channels, sut.getChannels());
+		assertEquals(1, componentManager.queries);
+
+		// Component activated
+		componentManager.components.add(new DummyCycle(1000));
+		sut.invalidate();
+		channels = sut.getChannels();
+		assertEquals(cycle0.channels().size() * 2, channels.length);
+		assertEquals(2, componentManager.queries);
+
+		// Component deactivated
+		componentManager.components.remove(cycle0);
+		sut.invalidate();
+		channels = sut.getChannels();
+		assertEquals(cycle0.channels().size(), channels.length);
+		assertEquals(3, componentManager.queries);
+	}
+
+}
@@ -0,0 +1,85 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.test.DummyCycle;
+
+public class ComponentRegistryTest {
+
+	private static final Set<String> OBJECT_CLASS = Set.of(OpenemsComponent.class.getName(), Cycle.class.getName());
+
+	private static class MyComponentRegistry extends ComponentRegistry {
+
+		private final List<Registration> registrations = new ArrayList<>();
+		private int queries = 0;
+
+		public MyComponentRegistry() {
+			super(new ComponentManagerImpl());
+		}
+
+		@Override
+		protected List<Registration> loadRegistrations() {
+			this.queries++;
+			return new ArrayList<>(this.registrations);
+		}
+	}
+
+	@Test
+	public void test() {
+		var sut = new MyComponentRegistry();
+
+		var cycle0 = new DummyCycle(1000);
+		var cycle1 = new DummyCycle(1000);
+		var componentManager = new DummyCycle(1000);
+		sut.registrations.add(new ComponentRegistry.Registration(cycle0, "cycle0", true, "Cycle", OBJECT_CLASS));
+		sut.registrations.add(new ComponentRegistry.Registration(cycle1, "cycle1", false, "Cycle", OBJECT_CLASS));
+		sut.registrations.add(new ComponentRegistry.Registration(componentManager, "_componentManager", true,
+				ComponentManager.SINGLETON_SERVICE_PID, Set.of(OpenemsComponent.class.getName())));
+
+		assertEquals(List.of(cycle0), sut.getEnabledComponents());
+		assertEquals(List.of(cycle0, cycle1), sut.getAllComponents());
+		assertSame(cycle0, sut.getComponent("cycle0", true));
+		assertNull(sut.getComponent("cycle1", true));
+		assertSame(cycle1, sut.getComponent("cycle1", false));
+		assertSame(componentManager, sut.getComponent("_componentManager", true));
+		assertNull(sut.getComponent("unknown", false));
+		assertEquals(List.of(cycle0), sut.getEnabledComponentsOfType(Cycle.class));
+		assertEquals(List.of(cycle0, componentManager), sut.getEnabledComponentsOfType(OpenemsComponent.class));
+		assertEquals(List.of(), sut.getEnabledComponentsOfType(ComponentManager.class));
+		assertEquals(1, sut.queries);
+
+		// Cached
+		var enabledComponents = sut.getEnabledComponents();
+		assertSame(enabledComponents, sut.getEnabledComponents());
+		var cycles = sut.getEnabledComponentsOfType(Cycle.class);
+		assertSame(cycles, sut.getEnabledComponentsOfType(Cycle.class));
+		assertEquals(1, sut.queries);
+
+		// Component enabled
+		sut.registrations.set(1, new ComponentRegistry.Registration(cycle1, "cycle1", true, "Cycle", OBJECT_CLASS));
+		sut.invalidate();
+		assertEquals(List.of(cycle0, cycle1), sut.getEnabledComponents());
+		assertSame(cycle1, sut.getComponent("cycle1", true));
+		assertEquals(List.of(cycle0, cycle1), sut.getEnabledComponentsOfType(Cycle.class));
+		assertEquals(2, sut.queries);
+
+		// Component deactivated
+		sut.registrations.remove(0);
+		sut.invalidate();
+		assertEquals(List.of(cycle1), sut.getEnabledComponents());
+		assertNull(sut.getComponent("cycle0", false));
+		assertEquals(3, sut.queries);
+	}
+
+}
@@ -0,0 +1,107 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+
+import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.controller.test.DummyController;
+import io.openems.edge.core.cycle.ParallelSchedulersTest.DummyScheduler;
+
+public class CycleWorkerTest {
+
+	@Test
+	public void testReconfigureDuringParallelCycle() throws Exception {
+		List<String> topics = Collections.synchronizedList(new ArrayList<>());
+		var block = new AtomicBoolean(false);
+		var started = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		var interrupted = new AtomicBoolean(false);
+		var runs = new AtomicInteger();
+
+		var ctrl0 = new DummyController("ctrl0");
+		var ctrl1 = new DummyController("ctrl1").setRunCallback(() -> {
+			if (block.getAndSet(false)) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					interrupted.set(true);
+				}
+			}
+			runs.incrementAndGet();
+		});
+
+		var parent = new CycleImpl();
+		parent.eventAdmin = new EventAdmin() {
+			@Override
+			public void postEvent(Event event) {
+			}
+
+			@Override
+			public void sendEvent(Event event) {
+				topics.add(event.getTopic());
+			}
+		};
+		parent.sumComponent = new DummySum();
+		parent.componentManager = new DummyComponentManager() //
+				.addComponent(ctrl0) //
+				.addComponent(ctrl1);
+		parent.addScheduler(new DummyScheduler("scheduler0", "ctrl0"));
+		parent.addScheduler(new DummyScheduler("scheduler1", "ctrl1"));
+		var config = MyConfig.create() //
+				.setParallelSchedulers(true) //
+				.setParallelSchedulerIds("scheduler0", "scheduler1") //
+				.setParallelThreads(2) //
+				.build();
+		parent.applyConfig(config);
+		var sut = new CycleWorker(parent);
+
+		// First Cycle learns the write sets
+		sut.forever();
+		assertEquals(1, runs.get());
+
+		// Second Cycle: scheduler1 is executed on the thread pool and gets blocked
+		var oldParallelSchedulers = parent.parallelSchedulers;
+		topics.clear();
+		block.set(true);
+		var cycle = new Thread(sut::forever);
+		cycle.start();
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		// Reconfigure while the Cycle is running
+		parent.applyConfig(config);
+		assertNotSame(oldParallelSchedulers, parent.parallelSchedulers);
+		release.countDown();
+		cycle.join(5000);
+
+		assertFalse(cycle.isAlive());
+		assertFalse(interrupted.get());
+		assertEquals(2, runs.get());
+		assertTrue(topics.contains(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS));
+		assertTrue(topics.contains(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE));
+		assertTrue(topics.contains(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE));
+
+		// Next Cycle uses the new instance
+		sut.forever();
+		assertEquals(3, runs.get());
+
+		sut.deactivate();
+	}
+
+}
@@ -0,0 +1,29 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class DurationHistogramTest {
+
+	@Test
+	public void test() {
+		var sut = new DurationHistogram(100);
+		assertEquals(0, sut.getStats().count());
+
+		for (var i = 1; i <= 250; i++) {
+			sut.add(i, i);
+		}
+		// Only the last 100 samples (151..250) are considered
+		var stats = sut.getStats();
+		assertEquals(100, stats.count());
+		assertEquals(200, stats.p50());
+		assertEquals(249, stats.p99());
+		assertEquals(250, stats.max());
+		assertEquals(250, sut.getLastCycle());
+
+		var json = stats.toJson();
+		assertEquals(0.00025, json.get("max").getAsDouble(), 0.0000001);
+	}
+
+}
@@ -0,0 +1,79 @@
+package io.openems.edge.core.cycle;
+
+import io.openems.common.test.AbstractComponentConfig;
+import io.openems.edge.common.cycle.Cycle;
+
+@SuppressWarnings("all")
+public class MyConfig extends AbstractComponentConfig implements Config {
+
+	protected static class Builder {
+		private int cycleTime = Cycle.DEFAULT_CYCLE_TIME;
+		private boolean parallelSchedulers = false;
+		private String[] parallelSchedulerIds = {};
+		private int parallelThreads = 4;
+
+		private Builder() {
+		}
+
+		public Builder setCycleTime(int cycleTime) {
+			this.cycleTime = cycleTime;
+			return this;
+		}
+
+		public Builder setParallelSchedulers(boolean parallelSchedulers) {
+			this.parallelSchedulers = parallelSchedulers;
+			return this;
+		}
+
+		public Builder setParallelSchedulerIds(String... parallelSchedulerIds) {
+			this.parallelSchedulerIds = parallelSchedulerIds;
+			return this;
+		}
+
+		public Builder setParallelThreads(int parallelThreads) {
+			this.parallelThreads = parallelThreads;
+			return this;
+		}
+
+		public MyConfig build() {
+			return new MyConfig(this);
+		}
+	}
+
+	/**
+	 * Create a Config builder.
+	 *
+	 * @return a {@link Builder}
+	 */
+	public static Builder create() {
+		return new Builder();
+	}
+
+	private final Builder builder;
+
+	private MyConfig(Builder builder) {
+		super(Config.class, Cycle.SINGLETON_COMPONENT_ID);
+		this.builder = builder;
+	}
+
+	@Override
+	public int cycleTime() {
+		return this.builder.cycleTime;
+	}
+
+	@Override
+	public boolean parallelSchedulers() {
+		return this.builder.parallelSchedulers;
+	}
+
+	@Override
+	public String[] parallelSchedulerIds() {
+		return this.builder.parallelSchedulerIds;
+	}
+
+	@Override
+	public int parallelThreads() {
+		return this.builder.parallelThreads;
+	}
+
+}
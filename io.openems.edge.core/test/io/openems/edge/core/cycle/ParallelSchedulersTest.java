@@ -0,0 +1,216 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+import io.openems.common.channel.AccessMode;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerWriteChannel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.AbstractDummyOpenemsComponent;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.power.api.Constraint;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.ess.test.DummyPower;
+import io.openems.edge.scheduler.api.Scheduler;
+
+public class ParallelSchedulersTest {
+
+	private static enum TestChannelId implements io.openems.edge.common.channel.ChannelId {
+		WRITE_0, WRITE_1;
+
+		private final Doc doc = Doc.of(OpenemsType.INTEGER) //
+				.accessMode(AccessMode.READ_WRITE);
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	protected static class DummyScheduler extends AbstractDummyOpenemsComponent<DummyScheduler> implements Scheduler {
+
+		private final LinkedHashSet<String> controllers;
+
+		public DummyScheduler(String id, String... controllers) {
+			super(id, //
+					OpenemsComponent.ChannelId.values(), //
+					Scheduler.ChannelId.values(), //
+					TestChannelId.values() //
+			);
+			this.controllers = new LinkedHashSet<>(List.of(controllers));
+		}
+
+		@Override
+		protected DummyScheduler self() {
+			return this;
+		}
+
+		@Override
+		public LinkedHashSet<String> getControllers() {
+			return this.controllers;
+		}
+	}
+
+	private static void write(IntegerWriteChannel channel, int value) {
+		try {
+			channel.setNextWriteValue(value);
+		} catch (OpenemsNamedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Test
+	public void test() throws InterruptedException {
+		var sut = new ParallelSchedulers(2, Set.of("scheduler0", "scheduler1", "scheduler2"));
+		try {
+			List<Scheduler> schedulers = List.of(//
+					new DummyScheduler("scheduler0", "ctrl0"), //
+					new DummyScheduler("scheduler1", "ctrl1"), //
+					new DummyScheduler("scheduler2", "ctrl2"));
+			IntegerWriteChannel channel0 = schedulers.get(0).channel(TestChannelId.WRITE_0);
+			IntegerWriteChannel channel1 = schedulers.get(1).channel(TestChannelId.WRITE_1);
+			Set<String> threads = ConcurrentHashMap.newKeySet();
+			Map<String, Boolean> shared = new ConcurrentHashMap<>();
+
+			ParallelSchedulers.SchedulerRunner runner = scheduler -> {
+				threads.add(Thread.currentThread().getName());
+				switch (scheduler.id()) {
+				case "scheduler0" -> write(channel0, 0);
+				case "scheduler1" -> write(channel1, 1);
+				case "scheduler2" -> {
+					if (shared.containsKey("conflict")) {
+						write(channel0, 2);
+					}
+				}
+				}
+				return scheduler.id().equals("scheduler2");
+			};
+
+			// First Cycle: write sets are unknown -> sequential on this thread
+			assertEquals(1, sut.getGroups(schedulers).size());
+			assertTrue(sut.execute(schedulers, runner));
+			assertEquals(Set.of(Thread.currentThread().getName()), threads);
+
+			// Write sets are disjoint -> parallel
+			assertEquals(3, sut.getGroups(schedulers).size());
+			threads.clear();
+			assertTrue(sut.execute(schedulers, runner));
+			assertEquals(3, threads.size());
+			assertEquals(0, channel0.getNextWriteValue().get().intValue());
+			assertEquals(1, channel1.getNextWriteValue().get().intValue());
+
+			// scheduler2 unexpectedly writes channel0 -> last Scheduler wins
+			shared.put("conflict", true);
+			assertTrue(sut.execute(schedulers, runner));
+			assertEquals(2, channel0.getNextWriteValue().get().intValue());
+
+			// From now on scheduler0 and scheduler2 are grouped
+			var groups = sut.getGroups(schedulers);
+			assertEquals(List.of(List.of(0, 2), List.of(1)), groups);
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testDeactivated() throws InterruptedException {
+		var sut = new ParallelSchedulers(2, Set.of("scheduler0", "scheduler1"));
+		List<Scheduler> schedulers = List.of(//
+				new DummyScheduler("scheduler0", "ctrl0"), //
+				new DummyScheduler("scheduler1", "ctrl1"));
+		List<String> executed = Collections.synchronizedList(new ArrayList<>());
+		ParallelSchedulers.SchedulerRunner runner = scheduler -> {
+			executed.add(scheduler.id() + "@" + Thread.currentThread().getName());
+			return false;
+		};
+		sut.execute(schedulers, runner);
+		assertEquals(2, sut.getGroups(schedulers).size());
+
+		// Thread pool is shut down -> all Schedulers are executed on this thread
+		sut.deactivate();
+		executed.clear();
+		sut.execute(schedulers, runner);
+		var thread = Thread.currentThread().getName();
+		assertEquals(List.of("scheduler0@" + thread, "scheduler1@" + thread), executed);
+	}
+
+	@Test
+	public void testSharedController() throws InterruptedException {
+		var sut = new ParallelSchedulers(2, Set.of("scheduler0", "scheduler1"));
+		try {
+			List<Scheduler> schedulers = List.of(//
+					new DummyScheduler("scheduler0", "ctrl0"), //
+					new DummyScheduler("scheduler1", "ctrl0"));
+			assertFalse(sut.execute(schedulers, scheduler -> false));
+			assertEquals(1, sut.getGroups(schedulers).size());
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+	@Test
+	public void testSharedEss() throws Exception {
+		var sut = new ParallelSchedulers(2, Set.of("scheduler2"));
+		try {
+			List<Scheduler> schedulers = List.of(//
+					new DummyScheduler("scheduler0", "ctrl0"), //
+					new DummyScheduler("scheduler1", "ctrl1"), //
+					new DummyScheduler("scheduler2", "ctrl2"));
+			List<String> constraints = Collections.synchronizedList(new ArrayList<>());
+			var power = new DummyPower() {
+				@Override
+				public Constraint createSimpleConstraint(String description, ManagedSymmetricEss ess, Phase phase,
+						Pwr pwr, Relationship relationship, double value) {
+					constraints.add(description + "@" + Thread.currentThread().getName());
+					return null;
+				}
+			};
+			var ess = new DummyManagedSymmetricEss("ess0") //
+					.setPower(power);
+
+			// Controllers of scheduler0 and scheduler1 constrain the same ESS without
+			// writing a Channel
+			ParallelSchedulers.SchedulerRunner runner = scheduler -> {
+				if (!scheduler.id().equals("scheduler2")) {
+					try {
+						ess.addPowerConstraint(scheduler.id(), Phase.ALL, Pwr.ACTIVE, Relationship.EQUALS, 0);
+					} catch (OpenemsException e) {
+						throw new RuntimeException(e);
+					}
+				}
+				return false;
+			};
+
+			var thread = Thread.currentThread().getName();
+			for (var i = 0; i < 3; i++) {
+				constraints.clear();
+				sut.execute(schedulers, runner);
+				assertEquals(List.of("scheduler0@" + thread, "scheduler1@" + thread), constraints);
+			}
+
+			// Only scheduler2 is allowed to run in parallel
+			assertEquals(List.of(List.of(0, 1), List.of(2)), sut.getGroups(schedulers));
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+}
@@ -3,19 +3,29 @@ package io.openems.edge.ess.core.power;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 
 import com.google.common.collect.Streams;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
 import io.openems.edge.ess.core.power.data.WeightsUtil;
+import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Coefficients;
 import io.openems.edge.ess.power.api.Constraint;
@@ -43,6 +53,44 @@ public class Data {
 	private boolean symmetricMode = EssPower.DEFAULT_SYMMETRIC_MODE;
 	private Consumer<Boolean> onStaticConstraintsFailed = null;
 
+	private static record ExtremaKey(String essId, Phase phase, Pwr pwr, GoalType goal) {
+	}
+
+	private static record ConstraintKey(Relationship relationship, Optional<Double> value,
+			List<Coefficient> coefficients, List<Double> values) {
+
+		private static ConstraintKey from(Constraint constraint) {
+			var coefficients = new ArrayList<Coefficient>();
+			var values = new ArrayList<Double>();
+			for (var c : constraint.getCoefficients()) {
+				coefficients.add(c.getCoefficient());
+				values.add(c.getValue());
+			}
+			return new ConstraintKey(constraint.getRelationship(), constraint.getValue(), coefficients, values);
+		}
+	}
+
+	private static record EssKey(Integer allowedChargePower, Integer allowedDischargePower, Integer maxApparentPower,
+			List<ConstraintKey> staticConstraints) {
+	}
+
+	private static record ExtremaFingerprint(int structureVersion, List<EssKey> esss,
+			List<ConstraintKey> constraints) {
+	}
+
+	/**
+	 * Incremented whenever Ess, Inverters or Coefficients change.
+	 */
+	private int structureVersion = 0;
+
+	/**
+	 * Fingerprint of the inputs of {@link #getConstraintsForAllInverters()} that
+	 * the {@link #extremaCache} is valid for.
+	 */
+	private ExtremaFingerprint extremaFingerprint = null;
+	private List<LinearConstraint> extremaConstraints = null;
+	private final Map<ExtremaKey, Double> extremaCache = new HashMap<>();
+
 	/**
 	 * Adds a callback for onStaticConstraintsFailed event.
 	 *
@@ -86,6 +134,7 @@ public class Data {
 	}
 
 	private synchronized void updateInverters() {
+		this.structureVersion++;
 		this.inverters.clear();
 
 		// Create inverters and add them to list
@@ -218,6 +267,70 @@ public class Data {
 				this.constraints.stream()).collect(Collectors.toList());
 	}
 
+	/**
+	 * Gets the extrema under the current Constraints for all Inverters.
+	 *
+	 * <p>
+	 * Results are cached as long as the inputs of the Constraints are unchanged,
+	 * so that repeated queries by Controllers within one Cycle neither rebuild the
+	 * Constraints nor run the solver again.
+	 *
+	 * @param essId the ID of the {@link ManagedSymmetricEss}
+	 * @param phase the {@link Phase}
+	 * @param pwr   the {@link Pwr}
+	 * @param goal  the {@link GoalType}
+	 * @return the extrema value; or 0 on error
+	 * @throws OpenemsException on error
+	 */
+	public synchronized double getPowerExtrema(String essId, Phase phase, Pwr pwr, GoalType goal)
+			throws OpenemsException {
+		var fingerprint = this.getExtremaFingerprint();
+		if (!fingerprint.equals(this.extremaFingerprint)) {
+			this.extremaFingerprint = fingerprint;
+			this.extremaConstraints = null;
+			this.extremaCache.clear();
+		}
+		var key = new ExtremaKey(essId, phase, pwr, goal);
+		var result = this.extremaCache.get(key);
+		if (result != null) {
+			return result;
+		}
+		if (this.extremaConstraints == null) {
+			this.extremaConstraints = LinearSolverUtil.convertToLinearConstraints(this.coefficients,
+					this.getConstraintsForAllInverters());
+		}
+		result = CalculatePowerExtrema.fromLinearConstraints(this.coefficients, this.extremaConstraints, essId, phase,
+				pwr, goal);
+		this.extremaCache.put(key, result);
+		return result;
+	}
+
+	/**
+	 * Gets a fingerprint of the inputs of {@link #getConstraintsForAllInverters()}
+	 * without building the Constraints.
+	 *
+	 * @return the {@link ExtremaFingerprint}
+	 */
+	private ExtremaFingerprint getExtremaFingerprint() {
+		var esss = new ArrayList<EssKey>();
+		for (var ess : this.esss) {
+			List<ConstraintKey> staticConstraints;
+			try {
+				staticConstraints = Stream.of(ess.getStaticConstraints()) //
+						.map(ConstraintKey::from) //
+						.collect(Collectors.toList());
+			} catch (OpenemsNamedException e) {
+				staticConstraints = null;
+			}
+			esss.add(new EssKey(ess.getAllowedChargePower().get(), ess.getAllowedDischargePower().get(),
+					ess.getMaxApparentPower().get(), staticConstraints));
+		}
+		var constraints = this.constraints.stream() //
+				.map(ConstraintKey::from) //
+				.collect(Collectors.toList());
+		return new ExtremaFingerprint(this.structureVersion, esss, constraints);
+	}
+
 	protected ManagedSymmetricEss getEss(String essId) {
 		for (ManagedSymmetricEss ess : this.esss) {
 			if (essId.equals(ess.id())) {
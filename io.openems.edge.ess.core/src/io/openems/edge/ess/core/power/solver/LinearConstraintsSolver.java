@@ -1,13 +1,19 @@
 package io.openems.edge.ess.core.power.solver;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.math3.exception.MathIllegalStateException;
 import org.apache.commons.math3.optim.PointValuePair;
 import org.apache.commons.math3.optim.linear.LinearConstraint;
 import org.apache.commons.math3.optim.linear.LinearConstraintSet;
+import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
 import org.apache.commons.math3.optim.linear.PivotSelectionRule;
 import org.apache.commons.math3.optim.linear.SimplexSolver;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
 import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 
 import io.openems.edge.ess.core.power.data.LinearSolverUtil;
@@ -15,9 +21,47 @@ import io.openems.edge.ess.power.api.Coefficients;
 
 public class LinearConstraintsSolver {
 
+	/**
+	 * Maximum number of remembered problems. One Cycle of the Solver solves a few
+	 * dozen problems; the cache holds more than that, so that unchanged problems
+	 * of the previous Cycle are found again.
+	 */
+	private static final int CACHE_SIZE = 256;
+
+	private static record Problem(int noOfCoefficients, List<LinearConstraint> constraints) {
+	}
+
+	private static enum Failure {
+		NO_FEASIBLE_SOLUTION, UNBOUNDED_SOLUTION;
+	}
+
+	/**
+	 * The result of a solved {@link Problem}: either a {@link PointValuePair} or a
+	 * {@link Failure}.
+	 */
+	private static record Result(PointValuePair solution, Failure failure) {
+	}
+
+	private static final Map<Integer, LinearObjectiveFunction> OBJECTIVE_FUNCTIONS = new ConcurrentHashMap<>();
+
+	private static final Map<Problem, Result> CACHE = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Problem, Result> eldest) {
+			return this.size() > CACHE_SIZE;
+		}
+	};
+
 	/**
 	 * Solves the problem with the given list of LinearConstraints.
 	 *
+	 * <p>
+	 * The Simplex algorithm with {@link PivotSelectionRule#BLAND} is
+	 * deterministic, so the result for a set of LinearConstraints that was solved
+	 * before - typically in the previous Cycle with unchanged Constraints - is
+	 * taken from a cache instead of solving it again.
+	 *
 	 * @param coefficients the {@link Coefficients}
 	 * @param constraints  a list of LinearConstraints
 	 * @return a solution as {@link PointValuePair}
@@ -25,14 +69,49 @@ public class LinearConstraintsSolver {
 	 */
 	public static PointValuePair solve(Coefficients coefficients, List<LinearConstraint> constraints)
 			throws MathIllegalStateException {
-		var objectiveFunction = LinearSolverUtil.getDefaultObjectiveFunction(coefficients.getNoOfCoefficients());
+		var problem = new Problem(coefficients.getNoOfCoefficients(), List.copyOf(constraints));
+		Result result;
+		synchronized (CACHE) {
+			result = CACHE.get(problem);
+		}
+		if (result == null) {
+			result = solve(problem);
+			synchronized (CACHE) {
+				CACHE.put(problem, result);
+			}
+		}
+
+		if (result.failure == null) {
+			return result.solution;
+		}
+		switch (result.failure) {
+		case NO_FEASIBLE_SOLUTION:
+			throw new NoFeasibleSolutionException();
+		case UNBOUNDED_SOLUTION:
+		default:
+			throw new UnboundedSolutionException();
+		}
+	}
+
+	private static Result solve(Problem problem) throws MathIllegalStateException {
+		var objectiveFunction = OBJECTIVE_FUNCTIONS.computeIfAbsent(problem.noOfCoefficients,
+				LinearSolverUtil::getDefaultObjectiveFunction);
 
 		var solver = new SimplexSolver();
-		return solver.optimize(//
-				objectiveFunction, //
-				new LinearConstraintSet(constraints), //
-				GoalType.MINIMIZE, //
-				PivotSelectionRule.BLAND);
+		try {
+			return new Result(solver.optimize(//
+					objectiveFunction, //
+					new LinearConstraintSet(problem.constraints), //
+					GoalType.MINIMIZE, //
+					PivotSelectionRule.BLAND), null);
+
+		} catch (NoFeasibleSolutionException e) {
+			return new Result(null, Failure.NO_FEASIBLE_SOLUTION);
+
+		} catch (UnboundedSolutionException e) {
+			return new Result(null, Failure.UNBOUNDED_SOLUTION);
+		}
+		// Other exceptions (e.g. TooManyIterationsException) are not cached
 	}
 
 }
@@ -4,12 +4,17 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.List;
 
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
 
+import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.power.api.Relationship;
 import io.openems.edge.ess.test.DummyManagedSymmetricEss;
 import io.openems.edge.ess.test.DummyMetaEss;
 
@@ -55,4 +60,22 @@ public class DataTest {
 		data.setSymmetricMode(false);
 		assertEquals(esss.size() * 4 /* phases + all */ * 2 /* pwr */, data.getCoefficients().getNoOfCoefficients());
 	}
+
+	@Test
+	public void testGetPowerExtrema() throws OpenemsException {
+		data.setSymmetricMode(true);
+		assertEquals(12000, data.getPowerExtrema("ess1", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+		assertEquals(12000, data.getPowerExtrema("ess1", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+
+		// Changed Constraints invalidate the cache
+		data.addSimpleConstraint("test", "ess1", Phase.ALL, Pwr.ACTIVE, Relationship.LESS_OR_EQUALS, 5000);
+		assertEquals(5000, data.getPowerExtrema("ess1", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+
+		data.initializeCycle();
+		assertEquals(12000, data.getPowerExtrema("ess1", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+
+		// Changed static limits invalidate the cache
+		((DummyManagedSymmetricEss) esss.get(1)).withAllowedDischargePower(3000);
+		assertEquals(3000, data.getPowerExtrema("ess1", Phase.ALL, Pwr.ACTIVE, GoalType.MAXIMIZE), 0.001);
+	}
 }
@@ -0,0 +1,63 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.Relationship;
+import org.junit.Test;
+
+import io.openems.edge.ess.power.api.Coefficients;
+
+public class LinearConstraintsSolverTest {
+
+	@Test
+	public void testCache() {
+		var coefficients = new Coefficients();
+		coefficients.initialize(true, Set.of("ess0"));
+
+		// ActivePower >= 1000; ReactivePower >= 0
+		var solution1 = LinearConstraintsSolver.solve(coefficients, List.of(//
+				new LinearConstraint(new double[] { 1, 0 }, Relationship.GEQ, 1000), //
+				new LinearConstraint(new double[] { 0, 1 }, Relationship.GEQ, 0)));
+		assertArrayEquals(new double[] { 1000, 0 }, solution1.getPoint(), 0.001);
+
+		// Equal Constraints -> cached solution
+		var solution2 = LinearConstraintsSolver.solve(coefficients, List.of(//
+				new LinearConstraint(new double[] { 1, 0 }, Relationship.GEQ, 1000), //
+				new LinearConstraint(new double[] { 0, 1 }, Relationship.GEQ, 0)));
+		assertSame(solution1, solution2);
+
+		// Changed Constraints -> solved again
+		var solution3 = LinearConstraintsSolver.solve(coefficients, List.of(//
+				new LinearConstraint(new double[] { 1, 0 }, Relationship.GEQ, 2000), //
+				new LinearConstraint(new double[] { 0, 1 }, Relationship.GEQ, 0)));
+		assertArrayEquals(new double[] { 2000, 0 }, solution3.getPoint(), 0.001);
+	}
+
+	@Test
+	public void testCachedFailure() {
+		var coefficients = new Coefficients();
+		coefficients.initialize(true, Set.of("ess0"));
+
+		// ActivePower >= 1000; ActivePower <= 500
+		var constraints = List.of(//
+				new LinearConstraint(new double[] { 1, 0 }, Relationship.GEQ, 1000), //
+				new LinearConstraint(new double[] { 1, 0 }, Relationship.LEQ, 500), //
+				new LinearConstraint(new double[] { 0, 1 }, Relationship.GEQ, 0));
+		for (var i = 0; i < 2; i++) {
+			try {
+				LinearConstraintsSolver.solve(coefficients, constraints);
+				fail("Expected NoFeasibleSolutionException");
+			} catch (NoFeasibleSolutionException e) {
+				// expected
+			}
+		}
+	}
+
+}
@@ -0,0 +1,16 @@
+package io.openems.edge.timedata.rrd4j;
+
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+@ObjectClassDefinition(//
+		name = "Timedata RRD4J Read Handler", //
+		description = "Settings for reading historic data from the RRD4J files; shared by all Timedata RRD4J components.")
+@interface ReadHandlerConfig {
+
+	@AttributeDefinition(name = "Read threads", description = "Number of threads for reading the RRD4J files of different Channels in parallel.")
+	int readThreads() default Rrd4jReadHandler.DEFAULT_READ_THREADS;
+
+	String webconsole_configurationFactory_nameHint() default "Timedata RRD4J Read Handler";
+
+}
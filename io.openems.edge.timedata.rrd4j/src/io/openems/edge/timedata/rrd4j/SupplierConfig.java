@@ -0,0 +1,19 @@
+package io.openems.edge.timedata.rrd4j;
+
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+@ObjectClassDefinition(//
+		name = "Timedata RRD4J Supplier", //
+		description = "Settings for opening the RRD4J files; shared by all Timedata RRD4J components.")
+@interface SupplierConfig {
+
+	@AttributeDefinition(name = "Max open databases", description = "Maximum number of RRD4J files that are kept open between reads and writes; 0 to close every file after use.")
+	int maxOpenDatabases() default 256;
+
+	@AttributeDefinition(name = "Memory-mapped files", description = "Access the RRD4J files via memory-mapped NIO buffers instead of random access files. Changes are synchronized to disk periodically.")
+	boolean memoryMapped() default false;
+
+	String webconsole_configurationFactory_nameHint() default "Timedata RRD4J Supplier";
+
+}
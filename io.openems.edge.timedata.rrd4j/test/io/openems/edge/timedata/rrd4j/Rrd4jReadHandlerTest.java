@@ -0,0 +1,139 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ReflectionUtils;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.common.test.DummyCycle;
+import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
+import io.openems.edge.timedata.rrd4j.version.Version3Test;
+
+public class Rrd4jReadHandlerTest {
+	// starts at 1. January 2020 00:00:00
+	private static final Instant START = Instant.ofEpochSecond(1577836800L);
+
+	private static final String RRD_DB_ID = "rrd4j0";
+	private static final ChannelAddress CYCLE_TIME = new ChannelAddress("_cycle", "MeasuredCycleTime");
+	private static final ChannelAddress STATE = new ChannelAddress("_cycle", "State");
+
+	private RrdBackendFactory factory;
+	private Path directory;
+
+	@Before
+	public void setUp() throws Exception {
+		this.factory = new RrdMemoryBackendFactory();
+		this.directory = Files.createTempDirectory("rrd4j");
+		System.setProperty("openems.data.dir", this.directory.toString());
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		System.clearProperty("openems.data.dir");
+		try (var files = Files.walk(this.directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+		}
+	}
+
+	private static Rrd4jReadHandler createReadHandler() throws Exception {
+		final var supplier = Rrd4jSupplierTest.createSupplier(10);
+		try (var database = supplier.getRrdDb(RRD_DB_ID, CYCLE_TIME, Unit.MILLISECONDS, START.getEpochSecond())) {
+			for (var i = 1; i <= 24; i++) {
+				database.createSample(START.getEpochSecond() + i * 300).setValue(0, i).update();
+			}
+		}
+
+		final var readHandler = new Rrd4jReadHandler();
+		ReflectionUtils.setAttribute(Rrd4jReadHandler.class, readHandler, "componentManager",
+				new DummyComponentManager().addComponent(new DummyCycle(1000)));
+		ReflectionUtils.setAttribute(Rrd4jReadHandler.class, readHandler, "rrd4jSupplier", supplier);
+		return readHandler;
+	}
+
+	@Test
+	public void testQueryHistoricData() throws Exception {
+		final var readHandler = createReadHandler();
+		final var from = ZonedDateTime.ofInstant(START, ZoneOffset.UTC);
+
+		// 'State' has no database
+		final var result = readHandler.queryHistoricData(RRD_DB_ID, from, from.plusHours(2),
+				Set.of(CYCLE_TIME, STATE), new Resolution(5, ChronoUnit.MINUTES), false);
+		assertEquals(24, result.size());
+		assertTrue(result.values().stream().allMatch(row -> row.keySet().equals(Set.of(CYCLE_TIME))));
+		assertFalse(result.values().stream().allMatch(row -> row.get(CYCLE_TIME).isJsonNull()));
+
+		assertThrows(OpenemsException.class, () -> readHandler.queryHistoricData(RRD_DB_ID, from, from.plusHours(2),
+				Set.of(STATE), new Resolution(5, ChronoUnit.MINUTES), false));
+	}
+
+	@Test
+	public void testQueryHistoricEnergyPerPeriod() throws Exception {
+		final var readHandler = createReadHandler();
+		final var from = ZonedDateTime.ofInstant(START, ZoneOffset.UTC);
+
+		final var result = readHandler.queryHistoricEnergyPerPeriod(RRD_DB_ID, from, from.plusHours(2),
+				Set.of(CYCLE_TIME, STATE), new Resolution(1, ChronoUnit.HOURS), false);
+		assertEquals(2, result.size());
+		assertEquals(from, result.firstKey());
+		for (var row : result.values()) {
+			assertEquals(Set.of(CYCLE_TIME, STATE), row.keySet());
+			assertTrue(row.get(STATE).isJsonNull());
+		}
+		assertFalse(result.get(from.plusHours(1)).get(CYCLE_TIME).isJsonNull());
+	}
+
+	@Test
+	public void testQueryHistoricEnergyPerPeriodUnsupportedResolution() throws Exception {
+		final var readHandler = createReadHandler();
+		final var from = ZonedDateTime.ofInstant(START, ZoneOffset.UTC);
+
+		assertThrows(OpenemsException.class, () -> readHandler.queryHistoricEnergyPerPeriod(RRD_DB_ID, from,
+				from.plusWeeks(2), Set.of(CYCLE_TIME), new Resolution(1, ChronoUnit.WEEKS), false));
+	}
+
+	@Test
+	public void testGetArchivesSortedByArcStep() throws Exception {
+		final var version3 = Version3Test.createDummyVersion3();
+
+		final var db = version3.createNewDb(new CreateDatabaseConfig(//
+				"rrdbId", //
+				Unit.WATT_HOURS, //
+				"path", //
+				START.getEpochSecond(), //
+				this.factory, //
+				null //
+		));
+
+		final var sorted = Rrd4jReadHandler.getArchivesSortedByArcStep(db);
+		long lastStepSize = 0L;
+		for (var archive : sorted) {
+			assertTrue("The last step size should be lower than the next step size.",
+					lastStepSize < archive.getArcStep());
+			lastStepSize = archive.getArcStep();
+		}
+
+	}
+
+}
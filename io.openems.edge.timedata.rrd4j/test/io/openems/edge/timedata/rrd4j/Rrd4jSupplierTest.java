@@ -0,0 +1,106 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ReflectionUtils;
+import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
+import io.openems.edge.timedata.rrd4j.version.Version3Test;
+import io.openems.edge.timedata.rrd4j.version.VersionHandler;
+import io.openems.edge.timedata.rrd4j.version.VersionHandlerTest;
+
+public class Rrd4jSupplierTest {
+
+	private static final String RRD_DB_ID = "rrd4j0";
+	private static final long START = 1577836800L; // 1. January 2020 00:00:00
+
+	private Path directory;
+
+	@Before
+	public void before() throws IOException {
+		this.directory = Files.createTempDirectory("rrd4j");
+		System.setProperty("openems.data.dir", this.directory.toString());
+	}
+
+	@After
+	public void after() throws IOException {
+		System.clearProperty("openems.data.dir");
+		try (var files = Files.walk(this.directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+		}
+	}
+
+	static Rrd4jSupplier createSupplier(int maxOpenDatabases) throws Exception {
+		final var supplier = new Rrd4jSupplier(new RrdRandomAccessFileBackendFactory(), maxOpenDatabases);
+		ReflectionUtils.setAttribute(Rrd4jSupplier.class, supplier, "versionHandler",
+				VersionHandlerTest.createDummyVersionHandler());
+		return supplier;
+	}
+
+	@Test
+	public void testGetDsDefForChannel() {
+		for (var unit : Unit.values()) {
+			final var def = Rrd4jSupplier.getDsDefForChannel(unit);
+			if (unit.isCumulated()) {
+				assertEquals(def.consolFun(), ConsolFun.MAX);
+			} else {
+				assertEquals(def.consolFun(), ConsolFun.AVERAGE);
+			}
+		}
+	}
+
+	@Test
+	public void testKeepOpen() throws Exception {
+		final var supplier = createSupplier(2);
+		for (var i = 0; i < 3; i++) {
+			try (var database = supplier.getRrdDb(RRD_DB_ID, new ChannelAddress("meter0", "Channel" + i), Unit.WATT,
+					START)) {
+				database.createSample(START + 300).setValue(0, i).update();
+			}
+		}
+
+		// 'Channel0' was closed as least recently used
+		try (var database = supplier.getExistingUpdatedRrdDb(RRD_DB_ID, new ChannelAddress("meter0", "Channel0"),
+				Unit.WATT)) {
+			assertEquals(START + 300, database.getLastUpdateTime());
+			assertEquals(0, database.getArchive(0).getRobin(0).getValue(database.getArchive(0).getRows() - 1), 0);
+		}
+		assertNull(supplier.getExistingUpdatedRrdDb(RRD_DB_ID, new ChannelAddress("meter0", "Unknown"), Unit.WATT));
+	}
+
+	@Test
+	public void testMigrate() throws Exception {
+		final var address = new ChannelAddress("meter0", "ActivePower");
+		final var file = this.directory.resolve(Rrd4jConstants.RRD4J_PATH).resolve(RRD_DB_ID)
+				.resolve(address.getComponentId()).resolve(address.getChannelId());
+		Files.createDirectories(file.getParent());
+		try (var database = Version3Test.createDummyVersion2().createNewDb(new CreateDatabaseConfig(RRD_DB_ID,
+				Unit.WATT, file.toString(), START, new RrdRandomAccessFileBackendFactory(), null))) {
+			database.createSample(START + 300).setValue(0, 42).update();
+		}
+
+		final var supplier = createSupplier(10);
+		try (var database = supplier.getExistingUpdatedRrdDb(RRD_DB_ID, address, Unit.WATT)) {
+			assertEquals(3, VersionHandler.getVersion(database));
+		}
+		// reading again uses the migrated file, not a stale handle to the old one
+		try (var database = supplier.getExistingUpdatedRrdDb(RRD_DB_ID, address, Unit.WATT)) {
+			assertEquals(3, VersionHandler.getVersion(database));
+			assertEquals(START + 300, database.getLastUpdateTime());
+		}
+	}
+
+}
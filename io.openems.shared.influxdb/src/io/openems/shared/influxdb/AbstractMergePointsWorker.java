@@ -3,25 +3,50 @@ package io.openems.shared.influxdb;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
 
 import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.common.worker.AbstractWorker;
 
-public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWorker implements MergePointsWorker {
+/**
+ * Merges single points to batches and writes them asynchronously.
+ *
+ * <p>
+ * Points are distributed to {@link #NUMBER_OF_LANES} lanes by a partition key
+ * (e.g. the numeric Edge-ID), so that the points of one partition are merged
+ * into the same batches; points without partition key are distributed
+ * round-robin. Every lane has its own queue and thread; the batches of all
+ * lanes are written in parallel on the executor of the {@link InfluxConnector},
+ * so points are not guaranteed to be written in order. The number of points per
+ * write is adapted to the observed write latency (see
+ * {@link WriteStatistics}).
+ *
+ * <p>
+ * If a {@link SpillQueue} is configured, points that do not fit into the
+ * queues - and all points that are still queued on deactivation - are appended
+ * to it in line protocol and written from there as soon as possible.
+ */
+public abstract class AbstractMergePointsWorker<T> implements MergePointsWorker {
 
-	private static final int MAX_POINTS_PER_WRITE = 1_000;
+	private static final int NUMBER_OF_LANES = 4;
 	private static final int MAX_AGGREGATE_WAIT = 10; // [s]
 	private static final int POINTS_QUEUE_SIZE = 1_000_000;
+	private static final int LANE_QUEUE_SIZE = POINTS_QUEUE_SIZE / NUMBER_OF_LANES;
+	private static final int SPILL_REPLAY_WAIT = 1_000; // [ms]
+	private static final WritePrecision SPILL_PRECISION = WritePrecision.NS;
 
 	private final Logger log = LoggerFactory.getLogger(MergePointsWorker.class);
 
@@ -30,7 +55,12 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	protected final WriteParameters writeParameters;
 	private final Consumer<BadRequestException> onWriteError;
 
-	private final BlockingQueue<T> pointsQueue = new LinkedBlockingQueue<>(POINTS_QUEUE_SIZE);
+	private final List<Lane> lanes = new ArrayList<>(NUMBER_OF_LANES);
+	private final SpillQueue spillQueue;
+	private final SpillReplay spillReplay;
+
+	private final WriteStatistics statistics = new WriteStatistics();
+	private final AtomicInteger nextPartition = new AtomicInteger();
 
 	public AbstractMergePointsWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
 			Consumer<BadRequestException> onWriteError) {
@@ -38,55 +68,150 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		this.name = name;
 		this.writeParameters = writeParameters;
 		this.onWriteError = onWriteError;
+		for (var i = 0; i < NUMBER_OF_LANES; i++) {
+			this.lanes.add(new Lane());
+		}
+		this.spillQueue = parent.createSpillQueue(name);
+		this.spillReplay = this.spillQueue != null ? new SpillReplay() : null;
 	}
 
-	@Override
-	public void activate() {
-		this.activate("TimescaleDB-MergePoints" + this.name);
-	}
+	private class Lane extends AbstractImmediateWorker {
 
-	@Override
-	protected void forever() throws InterruptedException {
-		var points = this.pollPoints();
+		private final BlockingQueue<T> pointsQueue = new LinkedBlockingQueue<>(LANE_QUEUE_SIZE);
 
-		if (points.isEmpty()) {
-			return;
+		@Override
+		protected void forever() throws InterruptedException {
+			var points = this.pollPoints();
+
+			if (points.isEmpty()) {
+				return;
+			}
+
+			/*
+			 * Write points async.
+			 */
+			AbstractMergePointsWorker.this.parent.executor.execute(() -> {
+				AbstractMergePointsWorker.this.write(points);
+			});
+		}
+
+		private List<T> pollPoints() throws InterruptedException {
+			final Instant maxWait = Instant.now().plusSeconds(MAX_AGGREGATE_WAIT);
+			final var pointsPerWrite = AbstractMergePointsWorker.this.statistics.getPointsPerWrite();
+			var points = new ArrayList<T>(pointsPerWrite);
+			for (int i = 0; i < pointsPerWrite; i++) {
+				var point = this.pointsQueue.poll(MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
+				if (point == null) {
+					break;
+				}
+				points.add(point);
+				if (Instant.now().isAfter(maxWait)) {
+					break;
+				}
+			}
+			return points;
 		}
+	}
 
-		/*
-		 * Write points async.
-		 */
-		this.parent.executor.execute(() -> {
-			if (this.parent.queryProxy.isLimitReached()) {
+	/**
+	 * Writes the points of the {@link SpillQueue} in the order they were added.
+	 */
+	private class SpillReplay extends AbstractWorker {
+
+		@Override
+		protected void forever() throws Throwable {
+			final var self = AbstractMergePointsWorker.this;
+			if (self.parent.queryProxy.isLimitReached()) {
+				return;
+			}
+			var records = self.spillQueue.peek(self.statistics.getPointsPerWrite());
+			if (records.isEmpty()) {
 				return;
 			}
+			final var start = System.nanoTime();
 			try {
-				this.parent.getInfluxConnection().writeApi.writePoints(this.writePoints(points), this.writeParameters);
-				this.parent.queryProxy.queryLimit.decrease();
+				self.parent.getInfluxConnection().writeApi.writeRecords(records,
+						self.writeParameters.copy(SPILL_PRECISION, self.parent.defaultOptions));
+				self.parent.queryProxy.queryLimit.decrease();
+				self.statistics.onWriteFinished(records.size(), getMillisSince(start), true);
+				self.spillQueue.remove(records.size());
+
 			} catch (Throwable t) {
-				this.parent.queryProxy.queryLimit.increase();
-				this.onWriteError(t, points);
+				// keep records in SpillQueue; retry after Worker exception sleep
+				self.parent.queryProxy.queryLimit.increase();
+				self.statistics.onWriteFinished(records.size(), getMillisSince(start), false);
+				throw t;
 			}
-		});
+		}
+
+		@Override
+		protected int getCycleTime() {
+			return AbstractMergePointsWorker.this.spillQueue.isEmpty() ? SPILL_REPLAY_WAIT : DO_NOT_WAIT;
+		}
 	}
 
-	private List<T> pollPoints() throws InterruptedException {
-		final Instant maxWait = Instant.now().plusSeconds(MAX_AGGREGATE_WAIT);
-		var points = new ArrayList<T>(MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < MAX_POINTS_PER_WRITE; i++) {
-			var point = this.pointsQueue.poll(MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
-			if (point == null) {
-				break;
-			}
-			points.add(point);
-			if (Instant.now().isAfter(maxWait)) {
-				break;
+	@Override
+	public void activate() {
+		for (var i = 0; i < this.lanes.size(); i++) {
+			this.lanes.get(i).activate("TimescaleDB-MergePoints" + this.name + "-" + i);
+		}
+		if (this.spillReplay != null) {
+			this.spillReplay.activate("TimescaleDB-MergePoints" + this.name + "-Spill");
+		}
+	}
+
+	@Override
+	public void deactivate() {
+		this.lanes.forEach(Lane::deactivate);
+		if (this.spillQueue == null) {
+			return;
+		}
+		this.spillReplay.deactivate();
+
+		// Keep queued points for next activation
+		for (var lane : this.lanes) {
+			var points = new ArrayList<T>();
+			lane.pointsQueue.drainTo(points);
+			for (var point : points) {
+				this.spill(point);
 			}
 		}
-		return points;
+		this.spillQueue.close();
 	}
 
-	protected abstract List<Point> writePoints(List<T> points);
+	private void write(List<T> points) {
+		if (this.parent.queryProxy.isLimitReached()) {
+			return;
+		}
+		final var start = System.nanoTime();
+		try {
+			this.parent.getInfluxConnection().writeApi.writePoints(this.writePoints(points), this.writeParameters);
+			this.parent.queryProxy.queryLimit.decrease();
+			this.statistics.onWriteFinished(points.size(), getMillisSince(start), true);
+		} catch (Throwable t) {
+			this.parent.queryProxy.queryLimit.increase();
+			this.statistics.onWriteFinished(points.size(), getMillisSince(start), false);
+			this.onWriteError(t, points);
+		}
+	}
+
+	private static long getMillisSince(long nanoTime) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanoTime);
+	}
+
+	/**
+	 * Converts a queued element to a {@link Point}.
+	 *
+	 * @param point the queued element
+	 * @return the {@link Point}
+	 */
+	protected abstract Point toPoint(T point);
+
+	private List<Point> writePoints(List<T> points) {
+		return points.stream() //
+				.map(this::toPoint) //
+				.toList();
+	}
 
 	protected void onWriteError(Throwable t, List<T> points) {
 		this.log.warn("Unable to write to InfluxDB. " + t.getClass().getSimpleName() + ": " + t.getMessage());
@@ -96,28 +221,94 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	}
 
 	/**
-	 * Inserts the specified element into this queue if it is possible to do so
-	 * immediately without violating capacity restrictions, returning true upon
-	 * success and false if no space is currently available.
-	 * 
+	 * Inserts the specified element into the queue of the lane of the partition
+	 * if it is possible to do so immediately without violating capacity
+	 * restrictions, returning true upon success and false if no space is
+	 * currently available.
+	 *
+	 * @param point     the point to add
+	 * @param partition the partition key, e.g. the numeric Edge-ID
+	 * @return true if the point was added to this queue, else false
+	 */
+	public boolean offer(T point, int partition) {
+		final var pointsQueue = this.lanes.get(Math.floorMod(partition, NUMBER_OF_LANES)).pointsQueue;
+		if (this.spillQueue == null) {
+			return pointsQueue.offer(point);
+		}
+		// Keep order: as long as there are spilled points, spill also new points
+		if (this.spillQueue.isEmpty() && pointsQueue.offer(point)) {
+			return true;
+		}
+		return this.spill(point);
+	}
+
+	private boolean spill(T point) {
+		return this.spillQueue.add(this.toPoint(point).toLineProtocol(null, SPILL_PRECISION));
+	}
+
+	/**
+	 * Inserts the specified element into the queue of the next lane in
+	 * round-robin order if it is possible to do so immediately without violating
+	 * capacity restrictions, returning true upon success and false if no space is
+	 * currently available.
+	 *
 	 * @param point the point to add
 	 * @return true if the point was added to this queue, else false
 	 */
 	public boolean offer(T point) {
-		return this.pointsQueue.offer(point);
+		return this.offer(point, this.nextPartition());
+	}
+
+	/**
+	 * Gets the partition key for a point without partition key.
+	 *
+	 * @return the partition key
+	 */
+	protected int nextPartition() {
+		return this.nextPartition.getAndIncrement();
+	}
+
+	private int getPointsQueueSize() {
+		return this.lanes.stream() //
+				.mapToInt(lane -> lane.pointsQueue.size()) //
+				.sum();
+	}
+
+	private boolean isAnyLaneFull() {
+		return this.lanes.stream() //
+				.anyMatch(lane -> lane.pointsQueue.remainingCapacity() == 0);
 	}
 
 	@Override
 	public String debugLog() {
-		final var pointsQueueSize = this.pointsQueue.size();
+		final var pointsQueueSize = this.getPointsQueueSize();
 		return new StringBuilder() //
 				.append(this.name) //
 				.append(": ") //
 				.append(pointsQueueSize) //
 				.append("/") //
 				.append(POINTS_QUEUE_SIZE) //
-				.append((pointsQueueSize == POINTS_QUEUE_SIZE) ? " !!!POINTS BACKPRESSURE!!!" : "") //
+				.append(" Batch:") //
+				.append(this.statistics.getPointsPerWrite()) //
+				.append(" P95:") //
+				.append(this.statistics.getLatencyPercentiles(95)[0]) //
+				.append("ms") //
+				.append(this.spillQueue != null ? " Spill:" + this.spillQueue.getSize() / 1_000_000 + "MB" : "") //
+				.append(this.isAnyLaneFull() ? " !!!POINTS BACKPRESSURE!!!" : "") //
 				.toString();
 	}
 
+	@Override
+	public Map<String, Number> debugMetrics() {
+		final var latencies = this.statistics.getLatencyPercentiles(50, 95, 99);
+		return Map.<String, Number>of(//
+				this.name + "/QueueSize", this.getPointsQueueSize(), //
+				this.name + "/PointsPerWrite", this.statistics.getPointsPerWrite(), //
+				this.name + "/WriteLatencyP50", latencies[0], //
+				this.name + "/WriteLatencyP95", latencies[1], //
+				this.name + "/WriteLatencyP99", latencies[2], //
+				this.name + "/SpillSize", this.spillQueue != null ? this.spillQueue.getSize() : 0 //
+		);
+	}
+
 }
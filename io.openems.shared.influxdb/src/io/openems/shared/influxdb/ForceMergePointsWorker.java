@@ -1,6 +1,5 @@
 package io.openems.shared.influxdb;
 
-import java.util.List;
 import java.util.function.Consumer;
 
 import com.influxdb.client.write.Point;
@@ -15,8 +14,8 @@ public class ForceMergePointsWorker extends AbstractMergePointsWorker<Point> imp
 	}
 
 	@Override
-	protected List<Point> writePoints(List<Point> points) {
-		return points;
+	protected Point toPoint(Point point) {
+		return point;
 	}
 
 }
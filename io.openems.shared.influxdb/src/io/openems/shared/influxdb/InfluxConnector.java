@@ -1,6 +1,8 @@
 package io.openems.shared.influxdb;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -60,6 +62,9 @@ public class InfluxConnector {
 	private final String bucket;
 	private final boolean isReadOnly;
 	private final boolean safeWrite;
+	private final Path spillDirectory;
+	private final long maxSpillSize;
+	protected final InfluxDBClientOptions defaultOptions;
 
 	private final WriteParameters defaultWriteParameters;
 	private final Map<WriteParameters, MergePointsWorker> mergePointsWorkerByWriteParameters = new HashMap<>();
@@ -68,26 +73,31 @@ public class InfluxConnector {
 	/**
 	 * The Constructor.
 	 *
-	 * @param componentId   ID of the calling OpenEMS Component
-	 * @param queryLanguage A {@link QueryLanguageConfig}
-	 * @param url           URL of the InfluxDB-Server (http://ip:port)
-	 * @param org           The organisation; '-' for InfluxDB v1
-	 * @param apiKey        The apiKey; 'username:password' for InfluxDB v1
-	 * @param bucket        The bucket name; 'database/retentionPolicy' for InfluxDB
-	 *                      v1
-	 * @param isReadOnly    If true, a 'Read-Only-Mode' is activated, where no data
-	 *                      is actually written to the database
-	 * @param poolSize      the number of threads dedicated to handle the tasks
-	 * @param maxQueueSize  queue size limit for executor
-	 * @param onWriteError  A consumer for write-errors
-	 * @param safeWrite     Adds back points to the queue if a write fails
-	 * @param parameters    the {@link WriteParameters} to create a
-	 *                      {@link MergePointsWorker} for. All later used
-	 *                      {@link WriteParameters} need to be passed here
+	 * @param componentId    ID of the calling OpenEMS Component
+	 * @param queryLanguage  A {@link QueryLanguageConfig}
+	 * @param url            URL of the InfluxDB-Server (http://ip:port)
+	 * @param org            The organisation; '-' for InfluxDB v1
+	 * @param apiKey         The apiKey; 'username:password' for InfluxDB v1
+	 * @param bucket         The bucket name; 'database/retentionPolicy' for InfluxDB
+	 *                       v1
+	 * @param isReadOnly     If true, a 'Read-Only-Mode' is activated, where no data
+	 *                       is actually written to the database
+	 * @param poolSize       the number of threads dedicated to handle the tasks
+	 * @param maxQueueSize   queue size limit for executor
+	 * @param onWriteError   A consumer for write-errors
+	 * @param safeWrite      Adds back points to the queue if a write fails
+	 * @param spillDirectory directory for a {@link SpillQueue} per
+	 *                       {@link MergePointsWorker}, that takes points if the
+	 *                       queue is full and on deactivation; null to disable
+	 * @param maxSpillSize   the maximum size of each {@link SpillQueue} [byte]
+	 * @param parameters     the {@link WriteParameters} to create a
+	 *                       {@link MergePointsWorker} for. All later used
+	 *                       {@link WriteParameters} need to be passed here
 	 */
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, boolean isReadOnly, int poolSize, int maxQueueSize,
-			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, Path spillDirectory, long maxSpillSize,
+			WriteParameters... parameters) {
 		this.queryProxy = QueryProxy.from(queryLanguage);
 		this.url = url;
 		this.org = org;
@@ -95,6 +105,13 @@ public class InfluxConnector {
 		this.bucket = bucket;
 		this.isReadOnly = isReadOnly;
 		this.safeWrite = safeWrite;
+		this.spillDirectory = spillDirectory;
+		this.maxSpillSize = maxSpillSize;
+		this.defaultOptions = InfluxDBClientOptions.builder() //
+				.url(this.url.toString()) //
+				.org(this.org) //
+				.bucket(this.bucket) //
+				.build();
 
 		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
 				new LinkedBlockingQueue<Runnable>(maxQueueSize), //
@@ -120,20 +137,22 @@ public class InfluxConnector {
 		defaultMergePointsWorker.activate();
 		this.mergePointsWorkerByWriteParameters.put(this.defaultWriteParameters, defaultMergePointsWorker);
 
-		final var defaultOptions = InfluxDBClientOptions.builder() //
-				.url(this.url.toString()) //
-				.org(this.org) //
-				.bucket(this.bucket) //
-				.build();
 		// initialize merge points worker for specific write parameters
 		for (var writeParameters : parameters) {
-			final var mergePointsWorker = mergePointsWorkerFactory.apply(writeParameters.bucketSafe(defaultOptions),
-					writeParameters);
+			final var mergePointsWorker = mergePointsWorkerFactory
+					.apply(writeParameters.bucketSafe(this.defaultOptions), writeParameters);
 			mergePointsWorker.activate();
 			this.mergePointsWorkerByWriteParameters.put(writeParameters, mergePointsWorker);
 		}
 	}
 
+	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
+			String bucket, boolean isReadOnly, int poolSize, int maxQueueSize,
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+		this(componentId, queryLanguage, url, org, apiKey, bucket, isReadOnly, poolSize, maxQueueSize, onWriteError,
+				safeWrite, null, 0, parameters);
+	}
+
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, boolean isReadOnly, int poolSize, int maxQueueSize,
 			Consumer<BadRequestException> onWriteError, WriteParameters... parameters) {
@@ -151,6 +170,25 @@ public class InfluxConnector {
 		}
 	}
 
+	/**
+	 * Creates the {@link SpillQueue} for a {@link MergePointsWorker}.
+	 *
+	 * @param name the name of the {@link MergePointsWorker}
+	 * @return the {@link SpillQueue}; null if disabled or on error
+	 */
+	protected SpillQueue createSpillQueue(String name) {
+		if (this.spillDirectory == null || this.isReadOnly) {
+			return null;
+		}
+		var directory = this.spillDirectory.resolve(name.replaceAll("[^A-Za-z0-9_.-]", "_"));
+		try {
+			return new SpillQueue(directory, this.maxSpillSize);
+		} catch (IOException e) {
+			this.log.error("Unable to open SpillQueue in [" + directory + "]: " + e.getMessage());
+			return null;
+		}
+	}
+
 	/**
 	 * Returns a debug log of the current influx connection state.
 	 * 
@@ -169,6 +207,25 @@ public class InfluxConnector {
 				.toString();
 	}
 
+	/**
+	 * Gets metrics of the executor and the {@link MergePointsWorker}s.
+	 * 
+	 * @return the metrics
+	 */
+	public Map<String, Number> debugMetrics() {
+		final var result = new HashMap<String, Number>();
+		ThreadPoolUtils.debugMetrics(this.executor).forEach((key, value) -> {
+			result.put("Executor/" + key, value);
+		});
+		this.mergePointsWorkerByWriteParameters.values().forEach(worker -> {
+			worker.debugMetrics().forEach((key, value) -> {
+				result.put("MergePointsWorker/" + key, value);
+			});
+		});
+		result.put("RejectedExecutions", this.rejectedExecutionCount.get());
+		return result;
+	}
+
 	private InfluxConnection influxConnection = null;
 
 	/**
@@ -418,6 +475,17 @@ public class InfluxConnector {
 		this.write(point, this.defaultWriteParameters);
 	}
 
+	/**
+	 * Actually write the Point to InfluxDB.
+	 *
+	 * @param point     the InfluxDB Point
+	 * @param partition the partition key, e.g. the numeric Edge-ID; points of
+	 *                  different partitions are merged and written in parallel
+	 */
+	public void write(Point point, int partition) {
+		this.write(point, this.defaultWriteParameters, partition);
+	}
+
 	/**
 	 * Actually write the Point to InfluxDB.
 	 * 
@@ -427,18 +495,42 @@ public class InfluxConnector {
 	 *                        constructor
 	 */
 	public void write(Point point, WriteParameters writeParameters) {
+		final var mergePointsWorker = this.getMergePointsWorker(point, writeParameters);
+		if (mergePointsWorker != null) {
+			mergePointsWorker.offer(point);
+		}
+	}
+
+	/**
+	 * Actually write the Point to InfluxDB.
+	 * 
+	 * @param point           the InfluxDB Point
+	 * @param writeParameters the {@link WriteParameters} of the written point. The
+	 *                        {@link WriteParameters} had to be passed in the
+	 *                        constructor
+	 * @param partition       the partition key, e.g. the numeric Edge-ID; points
+	 *                        of different partitions are merged and written in
+	 *                        parallel
+	 */
+	public void write(Point point, WriteParameters writeParameters, int partition) {
+		final var mergePointsWorker = this.getMergePointsWorker(point, writeParameters);
+		if (mergePointsWorker != null) {
+			mergePointsWorker.offer(point, partition);
+		}
+	}
+
+	private MergePointsWorker getMergePointsWorker(Point point, WriteParameters writeParameters) {
 		if (!point.hasFields()) {
-			return;
+			return null;
 		}
 		if (this.isReadOnly) {
-			return;
+			return null;
 		}
 		final var mergePointsWorker = this.mergePointsWorkerByWriteParameters.get(writeParameters);
 		if (mergePointsWorker == null) {
 			this.log.info("Unknown write parameters: " + writeParameters);
-			return;
 		}
-		mergePointsWorker.offer(point);
+		return mergePointsWorker;
 	}
 
 	/**
@@ -1,5 +1,7 @@
 package io.openems.shared.influxdb;
 
+import java.util.Map;
+
 import com.influxdb.client.write.Point;
 
 public interface MergePointsWorker {
@@ -24,6 +26,18 @@ public interface MergePointsWorker {
 	 */
 	public boolean offer(Point point);
 
+	/**
+	 * Inserts the specified element into the queue of the given partition if it
+	 * is possible to do so immediately without violating capacity restrictions,
+	 * returning true upon success and false if no space is currently available.
+	 * Points of the same partition are merged into the same batches.
+	 * 
+	 * @param point     the {@link Point} to add
+	 * @param partition the partition key, e.g. the numeric Edge-ID
+	 * @return true if the point was added to this queue, else false
+	 */
+	public boolean offer(Point point, int partition);
+
 	/**
 	 * Simple debug log string.
 	 * 
@@ -31,4 +45,11 @@ public interface MergePointsWorker {
 	 */
 	public String debugLog();
 
+	/**
+	 * Gets metrics for queue size, points per write and write latency.
+	 * 
+	 * @return the metrics
+	 */
+	public Map<String, Number> debugMetrics();
+
 }
@@ -2,7 +2,6 @@ package io.openems.shared.influxdb;
 
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
@@ -19,23 +18,29 @@ public class SafeMergePointsWorker extends AbstractMergePointsWorker<WritePoint>
 
 	public static class WritePoint {
 		public final Point point;
+		public final int partition;
 		private int failedCountDown = 3;
 
-		public WritePoint(Point point) {
+		public WritePoint(Point point, int partition) {
 			super();
 			this.point = point;
+			this.partition = partition;
 		}
 	}
 
 	@Override
 	public boolean offer(Point point) {
-		return this.offer(new WritePoint(point));
+		return this.offer(point, this.nextPartition());
 	}
 
 	@Override
-	protected List<Point> writePoints(List<WritePoint> points) {
-		return points.stream().map(t -> t.point) //
-				.collect(Collectors.toList());
+	public boolean offer(Point point, int partition) {
+		return this.offer(new WritePoint(point, partition), partition);
+	}
+
+	@Override
+	protected Point toPoint(WritePoint point) {
+		return point.point;
 	}
 
 	@Override
@@ -44,7 +49,7 @@ public class SafeMergePointsWorker extends AbstractMergePointsWorker<WritePoint>
 		points.stream() //
 				.peek(w -> w.failedCountDown--) //
 				.filter(w -> w.failedCountDown > 0) //
-				.forEach(this::offer);
+				.forEach(w -> this.offer(w, w.partition));
 	}
 
 }
@@ -0,0 +1,284 @@
+package io.openems.shared.influxdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only queue of text records on disk.
+ *
+ * <p>
+ * Records are appended to segment files in a directory and read in the same
+ * order. A segment file is deleted once all its records were removed. Records
+ * that were read but not removed before a restart are read again, i.e. every
+ * record is delivered at least once.
+ */
+public class SpillQueue {
+
+	private static final long SEGMENT_SIZE = 64 * 1024 * 1024; // [byte]
+	private static final String SEGMENT_SUFFIX = ".spill";
+	private static final int RECORD_HEADER_SIZE = Integer.BYTES;
+
+	private static record Entry(String record, long segment, int size) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(SpillQueue.class);
+
+	private final Path directory;
+	private final long maxSize;
+
+	private final TreeSet<Long> segments = new TreeSet<>();
+	private final Deque<Entry> peeked = new ArrayDeque<>();
+
+	/**
+	 * Size of all records that were not yet removed [byte].
+	 */
+	private long size = 0;
+
+	private long writeSegment;
+	private long writeSegmentSize = 0;
+	private DataOutputStream writer = null;
+
+	private long readSegment = -1;
+	private long readPosition = 0;
+	private DataInputStream reader = null;
+
+	/**
+	 * Opens a {@link SpillQueue}. Segment files that already exist in the
+	 * directory are read first.
+	 *
+	 * @param directory the directory for the segment files
+	 * @param maxSize   the maximum size of all records [byte]
+	 * @throws IOException on error
+	 */
+	public SpillQueue(Path directory, long maxSize) throws IOException {
+		this.directory = directory;
+		this.maxSize = maxSize;
+
+		Files.createDirectories(directory);
+		try (var files = Files.list(directory)) {
+			for (var file : (Iterable<Path>) files::iterator) {
+				var fileName = file.getFileName().toString();
+				if (!fileName.endsWith(SEGMENT_SUFFIX)) {
+					continue;
+				}
+				try {
+					var segment = fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length());
+					this.segments.add(Long.parseLong(segment));
+					this.size += Files.size(file);
+				} catch (NumberFormatException e) {
+					this.log.warn("Ignoring unknown file [" + file + "]");
+				}
+			}
+		}
+		this.writeSegment = this.segments.isEmpty() ? 0 : this.segments.last() + 1;
+	}
+
+	/**
+	 * Appends a record.
+	 *
+	 * @param record the record
+	 * @return true if the record was added; false if the queue is full or on
+	 *         error
+	 */
+	public synchronized boolean add(String record) {
+		var bytes = record.getBytes(UTF_8);
+		var recordSize = RECORD_HEADER_SIZE + bytes.length;
+		if (this.size + recordSize > this.maxSize) {
+			return false;
+		}
+		try {
+			if (this.writer == null || this.writeSegmentSize >= SEGMENT_SIZE) {
+				this.openNextWriteSegment();
+			}
+			this.writer.writeInt(bytes.length);
+			this.writer.write(bytes);
+			this.writeSegmentSize += recordSize;
+			this.size += recordSize;
+			return true;
+
+		} catch (IOException e) {
+			this.log.error("Unable to write to [" + this.getFile(this.writeSegment) + "]: " + e.getMessage());
+			return false;
+		}
+	}
+
+	private void openNextWriteSegment() throws IOException {
+		if (this.writer != null) {
+			this.writer.close();
+			this.writeSegment++;
+		}
+		this.writeSegmentSize = 0;
+		this.segments.add(this.writeSegment);
+		this.writer = new DataOutputStream(new BufferedOutputStream(//
+				new FileOutputStream(this.getFile(this.writeSegment).toFile(), true)));
+	}
+
+	/**
+	 * Gets the oldest records without removing them.
+	 *
+	 * <p>
+	 * Repeated calls return the same records, followed by further records up to
+	 * 'maxRecords', until they are removed via {@link #remove(int)}.
+	 *
+	 * @param maxRecords the maximum number of records
+	 * @return the records; empty if there are none
+	 */
+	public synchronized List<String> peek(int maxRecords) {
+		try {
+			if (this.writer != null) {
+				this.writer.flush();
+			}
+			while (this.peeked.size() < maxRecords) {
+				if (this.reader == null && !this.openNextReadSegment()) {
+					break;
+				}
+				var fileSize = Files.size(this.getFile(this.readSegment));
+				while (this.peeked.size() < maxRecords && this.readPosition < fileSize) {
+					var length = fileSize - this.readPosition >= RECORD_HEADER_SIZE ? this.reader.readInt() : -1;
+					if (length < 0 || this.readPosition + RECORD_HEADER_SIZE + length > fileSize) {
+						// incomplete record, e.g. after a crash
+						this.log.warn("Skipping corrupt end of [" + this.getFile(this.readSegment) + "]");
+						this.size -= fileSize - this.readPosition;
+						this.readPosition = fileSize;
+						break;
+					}
+					var bytes = new byte[length];
+					this.reader.readFully(bytes);
+					var recordSize = RECORD_HEADER_SIZE + length;
+					this.readPosition += recordSize;
+					this.peeked.add(new Entry(new String(bytes, UTF_8), this.readSegment, recordSize));
+				}
+				if (this.readPosition < fileSize) {
+					// 'maxRecords' reached
+					break;
+				}
+				if (this.readSegment == this.writeSegment && this.writer != null) {
+					// reached the end of the segment that is currently written
+					break;
+				}
+				this.reader.close();
+				this.reader = null;
+			}
+
+		} catch (IOException e) {
+			this.log.error("Unable to read from [" + this.getFile(this.readSegment) + "]: " + e.getMessage());
+		}
+
+		var result = new ArrayList<String>(this.peeked.size());
+		for (var entry : this.peeked) {
+			result.add(entry.record);
+		}
+		return result;
+	}
+
+	private boolean openNextReadSegment() throws IOException {
+		var next = this.segments.higher(this.readSegment);
+		if (next == null) {
+			return false;
+		}
+		this.readSegment = next;
+		this.readPosition = 0;
+		this.reader = new DataInputStream(new BufferedInputStream(//
+				new FileInputStream(this.getFile(this.readSegment).toFile())));
+		return true;
+	}
+
+	/**
+	 * Removes the oldest records, i.e. the first records returned by
+	 * {@link #peek(int)}.
+	 *
+	 * @param count the number of records
+	 */
+	public synchronized void remove(int count) {
+		for (var i = 0; i < count && !this.peeked.isEmpty(); i++) {
+			this.size -= this.peeked.poll().size;
+		}
+
+		if (this.size == 0 && this.peeked.isEmpty() && this.readSegment == this.writeSegment) {
+			// Everything was removed -> start with a new segment
+			this.close();
+			this.writeSegment++;
+		}
+
+		// Delete segments that are completely removed
+		final long firstNeededSegment;
+		if (!this.peeked.isEmpty()) {
+			firstNeededSegment = this.peeked.peek().segment;
+		} else if (this.reader != null) {
+			firstNeededSegment = this.readSegment;
+		} else {
+			firstNeededSegment = this.readSegment + 1;
+		}
+		while (!this.segments.isEmpty() && this.segments.first() < firstNeededSegment) {
+			var segment = this.segments.pollFirst();
+			if (segment == this.writeSegment && this.writer != null) {
+				this.segments.add(segment);
+				break;
+			}
+			try {
+				Files.deleteIfExists(this.getFile(segment));
+			} catch (IOException e) {
+				this.log.error("Unable to delete [" + this.getFile(segment) + "]: " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Is this queue empty?.
+	 *
+	 * @return true if all records were removed
+	 */
+	public synchronized boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Gets the size of all records that were not yet removed.
+	 *
+	 * @return the size [byte]
+	 */
+	public synchronized long getSize() {
+		return this.size;
+	}
+
+	/**
+	 * Closes the open segment files. Records that were not removed are read
+	 * again after the queue is opened the next time.
+	 */
+	public synchronized void close() {
+		try {
+			if (this.writer != null) {
+				this.writer.close();
+				this.writer = null;
+			}
+			if (this.reader != null) {
+				this.reader.close();
+				this.reader = null;
+			}
+		} catch (IOException e) {
+			this.log.error("Unable to close [" + this.directory + "]: " + e.getMessage());
+		}
+	}
+
+	private Path getFile(long segment) {
+		return this.directory.resolve(String.format("%020d", segment) + SEGMENT_SUFFIX);
+	}
+
+}
@@ -0,0 +1,77 @@
+package io.openems.shared.influxdb;
+
+import java.util.Arrays;
+
+/**
+ * Tracks the latencies of writes to InfluxDB and adapts the number of points
+ * per write to them.
+ *
+ * <p>
+ * The number of points per write grows by a quarter while full batches are
+ * written faster than {@link #TARGET_WRITE_LATENCY}; it is halved on slow or
+ * failed writes.
+ */
+class WriteStatistics {
+
+	protected static final int MIN_POINTS_PER_WRITE = 100;
+	protected static final int INITIAL_POINTS_PER_WRITE = 1_000;
+	protected static final int MAX_POINTS_PER_WRITE = 10_000;
+	protected static final long TARGET_WRITE_LATENCY = 1_000; // [ms]
+	protected static final int LATENCY_SAMPLES = 1_000;
+
+	private volatile int pointsPerWrite = INITIAL_POINTS_PER_WRITE;
+
+	// Ring buffer of the latest write latencies [ms]
+	private final long[] latencies = new long[LATENCY_SAMPLES];
+	private int latenciesIndex = 0;
+	private int latenciesCount = 0;
+
+	/**
+	 * Gets the current number of points per write.
+	 *
+	 * @return the number of points
+	 */
+	public int getPointsPerWrite() {
+		return this.pointsPerWrite;
+	}
+
+	/**
+	 * Records the latency of a write and adapts the number of points per write.
+	 *
+	 * @param numberOfPoints the number of written points
+	 * @param latency        the write latency [ms]
+	 * @param success        true if the write was successful
+	 */
+	public synchronized void onWriteFinished(int numberOfPoints, long latency, boolean success) {
+		this.latencies[this.latenciesIndex] = latency;
+		this.latenciesIndex = (this.latenciesIndex + 1) % LATENCY_SAMPLES;
+		this.latenciesCount = Math.min(this.latenciesCount + 1, LATENCY_SAMPLES);
+
+		if (!success || latency > TARGET_WRITE_LATENCY) {
+			this.pointsPerWrite = Math.max(MIN_POINTS_PER_WRITE, this.pointsPerWrite / 2);
+		} else if (numberOfPoints >= this.pointsPerWrite) {
+			this.pointsPerWrite = Math.min(MAX_POINTS_PER_WRITE, this.pointsPerWrite + this.pointsPerWrite / 4);
+		}
+	}
+
+	/**
+	 * Gets the given percentiles of the latest write latencies.
+	 *
+	 * @param percentiles the percentiles, e.g. 50, 95, 99
+	 * @return the latencies [ms]; 0 if nothing was written yet
+	 */
+	public synchronized long[] getLatencyPercentiles(int... percentiles) {
+		var result = new long[percentiles.length];
+		if (this.latenciesCount == 0) {
+			return result;
+		}
+		var sorted = Arrays.copyOf(this.latencies, this.latenciesCount);
+		Arrays.sort(sorted);
+		for (var i = 0; i < percentiles.length; i++) {
+			var index = (int) Math.ceil(percentiles[i] / 100.0 * sorted.length) - 1;
+			result[i] = sorted[Math.max(0, index)];
+		}
+		return result;
+	}
+
+}
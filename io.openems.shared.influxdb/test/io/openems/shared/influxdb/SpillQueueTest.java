@@ -0,0 +1,120 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SpillQueueTest {
+
+	private Path directory;
+
+	@Before
+	public void before() throws IOException {
+		this.directory = Files.createTempDirectory("spill");
+	}
+
+	@After
+	public void after() throws IOException {
+		try (var files = Files.walk(this.directory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+		}
+	}
+
+	@Test
+	public void testAddPeekRemove() throws IOException {
+		var queue = new SpillQueue(this.directory, 1_000_000);
+		assertTrue(queue.isEmpty());
+
+		assertTrue(queue.add("a"));
+		assertTrue(queue.add("b"));
+		assertTrue(queue.add("c"));
+		assertFalse(queue.isEmpty());
+
+		assertEquals(List.of("a", "b"), queue.peek(2));
+		// same records until removed
+		assertEquals(List.of("a", "b"), queue.peek(2));
+		assertEquals(List.of("a", "b", "c"), queue.peek(10));
+
+		queue.remove(2);
+		assertEquals(List.of("c"), queue.peek(10));
+
+		assertTrue(queue.add("d"));
+		assertEquals(List.of("c", "d"), queue.peek(10));
+
+		queue.remove(2);
+		assertTrue(queue.isEmpty());
+		assertEquals(List.of(), queue.peek(10));
+		queue.close();
+	}
+
+	@Test
+	public void testRestart() throws IOException {
+		var queue = new SpillQueue(this.directory, 1_000_000);
+		queue.add("a");
+		queue.add("b");
+		queue.add("c");
+		queue.peek(1);
+		queue.remove(1);
+		queue.peek(1); // not removed -> read again after restart
+		queue.close();
+
+		queue = new SpillQueue(this.directory, 1_000_000);
+		assertFalse(queue.isEmpty());
+		assertEquals(List.of("a", "b", "c"), queue.peek(10));
+		queue.remove(3);
+		assertTrue(queue.isEmpty());
+		queue.close();
+
+		try (var files = Files.list(this.directory)) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	@Test
+	public void testMaxSize() throws IOException {
+		// 4 bytes header + 3 bytes record
+		var queue = new SpillQueue(this.directory, 14);
+		assertTrue(queue.add("abc"));
+		assertTrue(queue.add("def"));
+		assertFalse(queue.add("ghi"));
+		assertEquals(14, queue.getSize());
+
+		queue.peek(1);
+		queue.remove(1);
+		assertTrue(queue.add("ghi"));
+		assertEquals(List.of("def", "ghi"), queue.peek(10));
+		queue.close();
+	}
+
+	@Test
+	public void testCorruptEnd() throws IOException {
+		var queue = new SpillQueue(this.directory, 1_000_000);
+		queue.add("a");
+		queue.add("b");
+		queue.close();
+
+		// simulate a crash while writing
+		try (var files = Files.list(this.directory)) {
+			var file = files.findFirst().get();
+			Files.write(file, new byte[] { 0, 0, 0, 10, 'x' }, StandardOpenOption.APPEND);
+		}
+
+		queue = new SpillQueue(this.directory, 1_000_000);
+		assertEquals(List.of("a", "b"), queue.peek(10));
+		queue.remove(2);
+		assertTrue(queue.isEmpty());
+		queue.close();
+	}
+
+}
@@ -0,0 +1,69 @@
+package io.openems.shared.influxdb;
+
+import static io.openems.shared.influxdb.WriteStatistics.INITIAL_POINTS_PER_WRITE;
+import static io.openems.shared.influxdb.WriteStatistics.LATENCY_SAMPLES;
+import static io.openems.shared.influxdb.WriteStatistics.MAX_POINTS_PER_WRITE;
+import static io.openems.shared.influxdb.WriteStatistics.MIN_POINTS_PER_WRITE;
+import static io.openems.shared.influxdb.WriteStatistics.TARGET_WRITE_LATENCY;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class WriteStatisticsTest {
+
+	@Test
+	public void testPointsPerWrite() {
+		var sut = new WriteStatistics();
+		assertEquals(INITIAL_POINTS_PER_WRITE, sut.getPointsPerWrite());
+
+		// Batch was not full -> no change
+		sut.onWriteFinished(INITIAL_POINTS_PER_WRITE - 1, 10, true);
+		assertEquals(INITIAL_POINTS_PER_WRITE, sut.getPointsPerWrite());
+
+		// Full batch written fast -> grow by a quarter
+		sut.onWriteFinished(INITIAL_POINTS_PER_WRITE, 10, true);
+		assertEquals(1_250, sut.getPointsPerWrite());
+
+		// Slow write -> halve
+		sut.onWriteFinished(10, TARGET_WRITE_LATENCY + 1, true);
+		assertEquals(625, sut.getPointsPerWrite());
+
+		// Failed write -> halve
+		sut.onWriteFinished(625, 10, false);
+		assertEquals(312, sut.getPointsPerWrite());
+
+		// Bounded
+		for (var i = 0; i < 100; i++) {
+			sut.onWriteFinished(MAX_POINTS_PER_WRITE, 10, true);
+		}
+		assertEquals(MAX_POINTS_PER_WRITE, sut.getPointsPerWrite());
+		for (var i = 0; i < 100; i++) {
+			sut.onWriteFinished(0, 10, false);
+		}
+		assertEquals(MIN_POINTS_PER_WRITE, sut.getPointsPerWrite());
+	}
+
+	@Test
+	public void testLatencyPercentiles() {
+		var sut = new WriteStatistics();
+		assertArrayEquals(new long[] { 0, 0 }, sut.getLatencyPercentiles(50, 99));
+
+		sut.onWriteFinished(0, 7, true);
+		assertArrayEquals(new long[] { 7, 7, 7 }, sut.getLatencyPercentiles(0, 50, 100));
+
+		// 1..100 in descending order
+		sut = new WriteStatistics();
+		for (var i = 100; i > 0; i--) {
+			sut.onWriteFinished(0, i, true);
+		}
+		assertArrayEquals(new long[] { 1, 50, 95, 99, 100 }, sut.getLatencyPercentiles(0, 50, 95, 99, 100));
+
+		// Only the latest samples are kept
+		for (var i = 0; i < LATENCY_SAMPLES; i++) {
+			sut.onWriteFinished(0, 1_000, true);
+		}
+		assertArrayEquals(new long[] { 1_000, 1_000 }, sut.getLatencyPercentiles(0, 50));
+	}
+
+}